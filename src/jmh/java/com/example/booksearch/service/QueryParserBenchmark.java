@@ -0,0 +1,72 @@
+package com.example.booksearch.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색어 파싱 벤치마크
+ *
+ * 정규식 기반 파서, 캐시 없는 렉서, 파싱 캐시를 거치는 렉서를 같은 검색어 묶음으로 비교한다.
+ * {@code ./gradlew jmh} 로 실행하며, gc 프로파일러의 gc.alloc.rate.norm 이 호출당 할당량이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueryParserBenchmark {
+
+    private static final String[] QUERIES = {
+            "spring",
+            "java|python",
+            "programming -beginner",
+            "java | spring boot -tutorial",
+            "머신 러닝 딥러닝",
+            "ㅍㅇㅆ",
+            "Efective~ java -beginner",
+            "kotlin|scala|clojure -legacy~"
+    };
+
+    private RegexQueryParser regexQueryParser;
+    private QueryParser lexerQueryParser;
+    private QueryParser cachedQueryParser;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        regexQueryParser = new RegexQueryParser();
+        lexerQueryParser = new QueryParser(3, 6, 0);
+        cachedQueryParser = new QueryParser();
+    }
+
+    private String nextQuery() {
+        next = (next + 1) % QUERIES.length;
+        return QUERIES[next];
+    }
+
+    @Benchmark
+    public SearchQuery regex() {
+        return regexQueryParser.parse(nextQuery());
+    }
+
+    @Benchmark
+    public SearchQuery lexer() {
+        return lexerQueryParser.parse(nextQuery());
+    }
+
+    @Benchmark
+    public SearchQuery cachedLexer() {
+        return cachedQueryParser.parse(nextQuery());
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.index.Choseong;
+import com.example.booksearch.query.BooleanQueryParser;
+import com.example.booksearch.query.TermKind;
+import com.example.booksearch.query.TermNode;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 렉서로 바꾸기 전의 정규식 기반 검색어 파서 ({@link QueryParserBenchmark} 의 비교 기준)
+ */
+class RegexQueryParser {
+
+    private static final Pattern EXCLUDE_PATTERN = Pattern.compile("-\\s*([^\\s-]+)");
+    private static final String OR_SEPARATOR = "\\|";
+    private static final Pattern FUZZY_PATTERN = Pattern.compile("(.+)~([0-2])?");
+    private static final int MAX_EDITS = 2;
+
+    private final int oneEditMinLength;
+    private final int twoEditsMinLength;
+    private final BooleanQueryParser booleanQueryParser = new BooleanQueryParser(this::toTermNode);
+
+    RegexQueryParser() {
+        this.oneEditMinLength = 3;
+        this.twoEditsMinLength = 6;
+    }
+
+    SearchQuery parse(String query) {
+        if (!StringUtils.hasText(query) || query.trim().equals("-") || query.trim().equals("|")) {
+            return new SearchQuery(new ArrayList<>(), new ArrayList<>());
+        }
+
+        String trimmedQuery = query.trim();
+
+        // 괄호, 따옴표 구문, AND/OR/NOT 을 쓰면 검색식으로 파싱
+        if (BooleanQueryParser.usesBooleanSyntax(trimmedQuery)) {
+            return SearchQuery.of(booleanQueryParser.parse(trimmedQuery));
+        }
+        
+        // 제외어 추출
+        List<String> excludeTerms = extractExcludeTerms(trimmedQuery);
+        
+        // 제외어를 제거한 나머지 부분에서 포함 키워드 추출
+        String includeQuery = removeExcludeTerms(trimmedQuery);
+        List<String> includeTerms = extractIncludeTerms(includeQuery);
+
+        // 오타 허용 표시(~) 분리
+        Map<String, Integer> fuzzyTerms = new HashMap<>();
+        includeTerms = stripFuzzyMarks(includeTerms, fuzzyTerms);
+        excludeTerms = stripFuzzyMarks(excludeTerms, fuzzyTerms);
+        
+        return new SearchQuery(includeTerms, excludeTerms, detectChoseongTerms(includeTerms, excludeTerms), fuzzyTerms);
+    }
+
+    private List<String> stripFuzzyMarks(List<String> terms, Map<String, Integer> fuzzyTerms) {
+        List<String> stripped = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Matcher matcher = FUZZY_PATTERN.matcher(term);
+            if (!matcher.matches()) {
+                stripped.add(term);
+                continue;
+            }
+
+            String baseTerm = matcher.group(1);
+            int maxEdits = matcher.group(2) != null
+                    ? Integer.parseInt(matcher.group(2))
+                    : maxEditsFor(baseTerm);
+            if (maxEdits > 0) {
+                fuzzyTerms.merge(baseTerm, maxEdits, Math::max);
+            }
+            stripped.add(baseTerm);
+        }
+        return stripped;
+    }
+
+    /**
+     * 검색식의 검색어 하나를 오타 허용 표시와 초성 여부에 맞는 노드로 바꾼다.
+     */
+    private TermNode toTermNode(String word) {
+        Matcher matcher = FUZZY_PATTERN.matcher(word);
+        if (matcher.matches()) {
+            String baseTerm = matcher.group(1);
+            int maxEdits = matcher.group(2) != null
+                    ? Integer.parseInt(matcher.group(2))
+                    : maxEditsFor(baseTerm);
+            if (maxEdits > 0) {
+                return new TermNode(baseTerm, TermKind.FUZZY, maxEdits);
+            }
+            word = baseTerm;
+        }
+        return Choseong.isChoseongOnly(word) ? new TermNode(word, TermKind.CHOSEONG, 0) : TermNode.of(word);
+    }
+
+    private int maxEditsFor(String term) {
+        int length = term.codePointCount(0, term.length());
+        if (length >= twoEditsMinLength) {
+            return MAX_EDITS;
+        }
+        return length >= oneEditMinLength ? 1 : 0;
+    }
+
+    private Set<String> detectChoseongTerms(List<String> includeTerms, List<String> excludeTerms) {
+        return Stream.concat(includeTerms.stream(), excludeTerms.stream())
+                .filter(Choseong::isChoseongOnly)
+                .collect(Collectors.toSet());
+    }
+    
+    private List<String> extractExcludeTerms(String query) {
+        List<String> excludeTerms = new ArrayList<>();
+        Matcher matcher = EXCLUDE_PATTERN.matcher(query);
+        
+        while (matcher.find()) {
+            String excludeTerm = matcher.group(1).trim();
+            if (StringUtils.hasText(excludeTerm) && !excludeTerm.equals("")) {
+                excludeTerms.add(excludeTerm);
+            }
+        }
+        
+        return excludeTerms;
+    }
+    
+    private String removeExcludeTerms(String query) {
+        return EXCLUDE_PATTERN.matcher(query).replaceAll("").trim();
+    }
+    
+    private List<String> extractIncludeTerms(String includeQuery) {
+        if (!StringUtils.hasText(includeQuery)) {
+            return new ArrayList<>();
+        }
+        
+        // OR 연산자로 분리
+        List<String> terms = Arrays.stream(includeQuery.split(OR_SEPARATOR))
+                .map(String::trim)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toList());
+        
+        // 공백으로 분리된 여러 키워드도 처리
+        if (terms.size() == 1) {
+            String[] spaceSeparated = terms.get(0).split("\\s+");
+            if (spaceSeparated.length > 1) {
+                terms = Arrays.stream(spaceSeparated)
+                        .filter(StringUtils::hasText)
+                        .collect(Collectors.toList());
+            }
+        }
+        
+        return terms;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.booksearch.cache;
+
+import java.util.Set;
+
+/**
+ * 캐시 키의 항목이 어떤 데이터에 의존하는지 (원본이 바뀌었을 때 해당 항목만 지우는 데 쓴다)
+ */
+public interface CacheDependencies {
+
+    String cacheName();
+
+    /**
+     * 항목이 의존하는 값(검색어 등). 빈 집합이면 어떤 변경에도 영향을 받는 항목이다.
+     */
+    Set<String> dependenciesOf(Object key);
+}
@@ -0,0 +1,33 @@
+package com.example.booksearch.cache;
+
+/**
+ * 노드 사이에 주고받는 L1 무효화 메시지
+ *
+ * @param origin    메시지를 보낸 노드 (자기가 보낸 메시지는 무시한다)
+ * @param cacheName 캐시 이름
+ * @param key       버릴 키, null 이면 캐시 전체
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    private static final char SEPARATOR = '\n';
+
+    public boolean isClear() {
+        return key == null;
+    }
+
+    /**
+     * "origin\ncacheName[\nkey]" (키에는 어떤 문자가 들어 있어도 된다)
+     */
+    public String encode() {
+        String header = origin + SEPARATOR + cacheName;
+        return key == null ? header : header + SEPARATOR + key;
+    }
+
+    public static CacheInvalidation decode(String message) {
+        String[] parts = message.split(String.valueOf(SEPARATOR), 3);
+        if (parts.length < 2) {
+            throw new IllegalArgumentException("잘못된 캐시 무효화 메시지: " + message);
+        }
+        return new CacheInvalidation(parts[0], parts[1], parts.length == 3 ? parts[2] : null);
+    }
+}
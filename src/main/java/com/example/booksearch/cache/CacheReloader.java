@@ -0,0 +1,14 @@
+package com.example.booksearch.cache;
+
+/**
+ * 캐시 키만으로 값을 다시 계산하는 방법 (미리 갱신과 만료 후 재검증에 쓴다)
+ */
+public interface CacheReloader {
+
+    String cacheName();
+
+    /**
+     * 다시 계산한 값, 이 키는 다시 계산할 수 없으면 null (항목은 그대로 만료된다)
+     */
+    Object reload(Object key);
+}
@@ -0,0 +1,88 @@
+package com.example.booksearch.cache;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 캐시 키마다 의존하는 값을 기록한 역색인(값 → 키)
+ *
+ * 빈 집합으로 기록한 키는 어떤 변경에도 영향을 받는다. 기록한 키 수는 maxKeys 로 제한하며,
+ * 가득 차면 모두 잊으므로 그때는 캐시도 함께 비워야 기록되지 않은 항목이 남지 않는다.
+ */
+public class DependencyIndex<K> {
+
+    private final int maxKeys;
+    private final Map<K, Set<String>> dependenciesByKey = new HashMap<>();
+    private final Map<String, Set<K>> keysByDependency = new HashMap<>();
+    private final Set<K> keysDependingOnAll = new HashSet<>();
+
+    public DependencyIndex(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public synchronized boolean contains(Object key) {
+        return dependenciesByKey.containsKey(key);
+    }
+
+    /**
+     * key 를 기록할 자리가 있으면 true. 가득 찼으면 모두 잊고 false 를 돌려준다 (캐시를 모두 비워야 한다).
+     */
+    public synchronized boolean makeRoomFor(Object key) {
+        if (dependenciesByKey.size() < maxKeys || dependenciesByKey.containsKey(key)) {
+            return true;
+        }
+        clear();
+        return false;
+    }
+
+    public synchronized void track(K key, Set<String> dependencies) {
+        if (dependenciesByKey.containsKey(key)) {
+            return;
+        }
+        Set<String> keyDependencies = Set.copyOf(dependencies);
+        dependenciesByKey.put(key, keyDependencies);
+        if (keyDependencies.isEmpty()) {
+            keysDependingOnAll.add(key);
+        }
+        for (String dependency : keyDependencies) {
+            keysByDependency.computeIfAbsent(dependency, ignored -> new HashSet<>()).add(key);
+        }
+    }
+
+    public synchronized void untrack(Object key) {
+        Set<String> keyDependencies = dependenciesByKey.remove(key);
+        if (keyDependencies == null) {
+            return;
+        }
+        keysDependingOnAll.remove(key);
+        for (String dependency : keyDependencies) {
+            Set<K> keys = keysByDependency.get(dependency);
+            if (keys != null && keys.remove(key) && keys.isEmpty()) {
+                keysByDependency.remove(dependency);
+            }
+        }
+    }
+
+    /**
+     * 바뀐 값에 의존하는 키와 어떤 변경에도 영향을 받는 키를 잊고 돌려준다 (캐시에서 지우는 것은 호출한 쪽).
+     */
+    public synchronized Set<K> removeDependents(Predicate<String> changed) {
+        Set<K> affected = new HashSet<>(keysDependingOnAll);
+        keysByDependency.forEach((dependency, keys) -> {
+            if (changed.test(dependency)) {
+                affected.addAll(keys);
+            }
+        });
+        affected.forEach(this::untrack);
+        return affected;
+    }
+
+    public synchronized void clear() {
+        dependenciesByKey.clear();
+        keysByDependency.clear();
+        keysDependingOnAll.clear();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.booksearch.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 항목마다 의존하는 값을 역색인({@link DependencyIndex})으로 기록해 두고, 바뀐 값에 의존하는 항목만 지우는 캐시 데코레이터
+ *
+ * 원본 캐시에서 만료되거나 밀려난 키는 알 수 없으므로 역색인에 남아 있다가 지울 때 함께 정리된다.
+ * 새 키를 넣을 때 기록한 키가 maxTrackedKeys 에 이르렀으면 캐시를 모두 비우고 역색인도 새로 시작한다.
+ * 값을 계산하는 동안 원본이 바뀌면 변경 전 값일 수 있으므로 계산한 값은 돌려주기만 하고 캐시에 남기지 않는다 (세대 번호로 판단).
+ */
+public class DependencyTrackingCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheDependencies dependencies;
+    private final DependencyIndex<Object> index;
+    private final AtomicLong generation = new AtomicLong();
+
+    public DependencyTrackingCache(Cache delegate, CacheDependencies dependencies, int maxTrackedKeys) {
+        this.delegate = delegate;
+        this.dependencies = dependencies;
+        this.index = new DependencyIndex<>(maxTrackedKeys);
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    /**
+     * 넣은 뒤에 기록하고, 이 호출이 계산한 값이면 계산하는 동안 원본이 바뀌지 않았는지 확인한다.
+     * 변경이 기록 뒤에 일어나면 {@link #evictDependents} 가 지우고, 기록 전에 일어났으면 세대 번호가 달라져 여기서 지운다.
+     */
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        makeRoomFor(key);
+        long startedGeneration = generation.get();
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        track(key);
+        if (loaded[0] && generation.get() != startedGeneration) {
+            evict(key);
+        }
+        return value;
+    }
+
+    /**
+     * 넣은 뒤에 기록한다. 그 사이에 지워져도 없는 키를 기록할 뿐이고, 기록되지 않은 항목이 남지는 않는다.
+     * 계산을 시작한 시점을 모르므로 원본이 바뀌는 중에 계산할 수 있는 값은 {@link #get(Object, Callable)} 으로 넣는다.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        makeRoomFor(key);
+        delegate.put(key, value);
+        track(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        index.untrack(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        index.clear();
+        delegate.clear();
+    }
+
+    /**
+     * 바뀐 값에 의존하는 항목과 어떤 변경에도 영향을 받는 항목을 지우고, 지운 키의 수를 돌려준다.
+     */
+    public int evictDependents(Predicate<String> changed) {
+        generation.incrementAndGet();
+        Set<Object> affected = index.removeDependents(changed);
+        affected.forEach(delegate::evict);
+        return affected.size();
+    }
+
+    private void makeRoomFor(Object key) {
+        if (!index.makeRoomFor(key)) {
+            // 역색인이 가득 차면 기록하지 못한 항목이 남지 않도록 모두 비운다
+            delegate.clear();
+        }
+    }
+
+    private void track(Object key) {
+        if (!index.contains(key)) {
+            index.track(key, dependencies.dependenciesOf(key));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.booksearch.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link CacheDependencies} 빈이 있는 캐시를 {@link DependencyTrackingCache} 로 감싸는 캐시 매니저
+ *
+ * 의존 값 계산이 캐시를 쓰는 서비스 쪽 빈에 있으므로 캐시를 처음 꺼낼 때 캐시 이름으로 찾는다.
+ */
+public class DependencyTrackingCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final ObjectProvider<CacheDependencies> cacheDependencies;
+    private final int maxTrackedKeys;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public DependencyTrackingCacheManager(CacheManager delegate, ObjectProvider<CacheDependencies> cacheDependencies,
+                                          int maxTrackedKeys) {
+        this.delegate = delegate;
+        this.cacheDependencies = cacheDependencies;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, ignored -> cacheDependencies.stream()
+                .filter(dependencies -> dependencies.cacheName().equals(name))
+                .findFirst()
+                .<Cache>map(dependencies -> new DependencyTrackingCache(target, dependencies, maxTrackedKeys))
+                .orElse(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
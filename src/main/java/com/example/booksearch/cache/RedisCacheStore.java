@@ -0,0 +1,78 @@
+package com.example.booksearch.cache;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis L2 저장소. 값은 JDK 직렬화로 저장하고, 무효화 메시지는 pub/sub 채널로 보낸다.
+ */
+public class RedisCacheStore implements RemoteCacheStore {
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final byte[] channel;
+
+    public RedisCacheStore(RedisConnectionFactory connectionFactory, String channel) {
+        this.redisTemplate = new RedisTemplate<>();
+        this.redisTemplate.setConnectionFactory(connectionFactory);
+        this.redisTemplate.setKeySerializer(RedisSerializer.string());
+        this.redisTemplate.setValueSerializer(RedisSerializer.java());
+        this.redisTemplate.afterPropertiesSet();
+        this.channel = channel.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Object get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public void put(String key, Object value, Duration ttl) {
+        redisTemplate.opsForValue().set(key, value, ttl);
+    }
+
+    @Override
+    public void delete(String key) {
+        redisTemplate.delete(key);
+    }
+
+    /**
+     * KEYS 대신 SCAN 으로 나눠 찾아 지우므로 Redis 를 오래 막지 않는다.
+     */
+    @Override
+    public void deleteByPrefix(String prefix) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH_SIZE).build();
+        redisTemplate.execute((RedisCallback<Void>) connection -> {
+            List<byte[]> batch = new ArrayList<>(SCAN_BATCH_SIZE);
+            try (Cursor<byte[]> keys = connection.keyCommands().scan(options)) {
+                while (keys.hasNext()) {
+                    batch.add(keys.next());
+                    if (batch.size() == SCAN_BATCH_SIZE) {
+                        connection.keyCommands().del(batch.toArray(byte[][]::new));
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                connection.keyCommands().del(batch.toArray(byte[][]::new));
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        byte[] message = invalidation.encode().getBytes(StandardCharsets.UTF_8);
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channel, message));
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.booksearch.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 만료 전에 미리 갱신하고, 만료 직후에는 이전 값을 돌려주며 다시 계산하는 Caffeine 캐시
+ *
+ * 항목은 ttl + staleWhileRevalidate 동안 보관한다. 저장 후 refreshAfter 가 지난 항목이 조회되면 값은 그대로 돌려주고
+ * 키마다 한 번만 executor 에서 다시 계산해 넣는다. 다시 계산하는 방법({@link CacheReloader})이 없으면
+ * 미리 갱신하지 않고, 만료된 항목은 없는 것으로 본다. 계산 중에 캐시가 비워지면 계산 결과는 버린다.
+ */
+public class RefreshAheadCache extends AbstractValueAdaptingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+    private final String name;
+    private final RefreshPolicy policy;
+    private final Cache<Object, Entry> entries;
+    private final Ticker ticker;
+    private final Supplier<CacheReloader> reloader;
+    private final Executor executor;
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+    private final AtomicLong generation = new AtomicLong();
+
+    private record Entry(Object value, long writtenAt) {
+    }
+
+    RefreshAheadCache(String name, RefreshPolicy policy, long maximumSize, Ticker ticker,
+                      Supplier<CacheReloader> reloader, Executor executor) {
+        super(true);
+        this.name = name;
+        this.policy = policy;
+        this.ticker = ticker;
+        this.reloader = reloader;
+        this.executor = executor;
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(policy.retainFor())
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return entries;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+
+        long age = ticker.read() - entry.writtenAt();
+        if (age >= policy.retainFor().toNanos()) {
+            return null;
+        }
+        if (age < policy.refreshAfter().toNanos()) {
+            return entry.value();
+        }
+        CacheReloader cacheReloader = reloader.get();
+        if (cacheReloader == null) {
+            return age < policy.ttl().toNanos() ? entry.value() : null;
+        }
+        refreshAsync(key, cacheReloader);
+        return entry.value();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) fromStoreValue(value);
+        }
+        try {
+            T loaded = valueLoader.call();
+            put(key, loaded);
+            return loaded;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        entries.put(key, new Entry(toStoreValue(value), ticker.read()));
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        entries.invalidate(key);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        entries.invalidateAll();
+    }
+
+    private void refreshAsync(Object key, CacheReloader cacheReloader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        long startedGeneration = generation.get();
+        try {
+            executor.execute(() -> {
+                try {
+                    Object value = cacheReloader.reload(key);
+                    if (value != null && generation.get() == startedGeneration) {
+                        put(key, value);
+                        // 넣는 사이에 비워졌으면 방금 넣은 값도 지운다
+                        if (generation.get() != startedGeneration) {
+                            entries.invalidate(key);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("캐시 {} 갱신 실패: {}", name, key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 갱신할 일이 밀려 있으면 이번 갱신은 건너뛰고 다음 조회에서 다시 시도한다
+            refreshing.remove(key);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.booksearch.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * 캐시 이름별 {@link RefreshPolicy} 로 {@link RefreshAheadCache} 를 만드는 캐시 매니저
+ *
+ * 다시 계산하는 방법은 {@link CacheReloader} 빈에서 캐시 이름으로 찾는다. 리로더가 캐시를 쓰는 서비스에 의존하므로
+ * 처음 갱신할 때 찾는다.
+ */
+public class RefreshAheadCacheManager implements CacheManager {
+
+    private final Map<String, RefreshAheadCache> caches = new LinkedHashMap<>();
+    private final ObjectProvider<CacheReloader> reloaders;
+
+    public RefreshAheadCacheManager(Map<String, RefreshPolicy> policies, long maximumSize,
+                                    ObjectProvider<CacheReloader> reloaders, Executor refreshExecutor) {
+        this(policies, maximumSize, reloaders, refreshExecutor, Ticker.systemTicker());
+    }
+
+    RefreshAheadCacheManager(Map<String, RefreshPolicy> policies, long maximumSize,
+                             ObjectProvider<CacheReloader> reloaders, Executor refreshExecutor, Ticker ticker) {
+        this.reloaders = reloaders;
+        policies.forEach((name, policy) -> caches.put(name, new RefreshAheadCache(
+                name, policy, maximumSize, ticker, () -> reloaderFor(name), refreshExecutor)));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    private CacheReloader reloaderFor(String name) {
+        return reloaders.stream()
+                .filter(reloader -> reloader.cacheName().equals(name))
+                .findFirst()
+                .orElse(null);
+    }
+}
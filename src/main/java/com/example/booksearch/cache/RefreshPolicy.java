@@ -0,0 +1,31 @@
+package com.example.booksearch.cache;
+
+import java.time.Duration;
+
+/**
+ * 캐시 하나의 만료/갱신 정책
+ *
+ * @param ttl                  저장 후 이 시간이 지나면 만료
+ * @param refreshAhead         만료 이 시간 전부터 조회되면 값을 돌려준 뒤 비동기로 다시 계산한다 (0 이면 끔)
+ * @param staleWhileRevalidate 만료 후 이 시간 동안은 이전 값을 돌려주면서 비동기로 다시 계산한다 (0 이면 끔)
+ */
+public record RefreshPolicy(Duration ttl, Duration refreshAhead, Duration staleWhileRevalidate) {
+
+    public static RefreshPolicy expireAfter(Duration ttl) {
+        return new RefreshPolicy(ttl, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * 저장 후 이 시간이 지나면 다시 계산을 시작한다.
+     */
+    Duration refreshAfter() {
+        return ttl.minus(refreshAhead);
+    }
+
+    /**
+     * 이전 값을 더 이상 돌려주지 않는 시간
+     */
+    Duration retainFor() {
+        return ttl.plus(staleWhileRevalidate);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.booksearch.cache;
+
+import java.time.Duration;
+
+/**
+ * 노드들이 함께 쓰는 2차(L2) 캐시 저장소와 무효화 메시지 채널
+ *
+ * 구현은 장애 시 예외를 그대로 던지고, {@link TwoLevelCacheManager} 가 받아서 L1 만으로 동작한다.
+ */
+public interface RemoteCacheStore {
+
+    /**
+     * 저장된 값, 없으면 null
+     */
+    Object get(String key);
+
+    void put(String key, Object value, Duration ttl);
+
+    void delete(String key);
+
+    /**
+     * prefix 로 시작하는 키를 모두 지운다.
+     */
+    void deleteByPrefix(String prefix);
+
+    /**
+     * 다른 노드의 L1 이 같은 항목을 버리도록 알린다.
+     */
+    void publish(CacheInvalidation invalidation);
+}
@@ -0,0 +1,127 @@
+package com.example.booksearch.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * L1(Caffeine) → L2 → 원본 순으로 찾는 캐시
+ *
+ * L2 에서 찾은 값은 L1 에 채우고, 원본에서 읽은 값은 두 곳에 넣는다. 키는 toString 으로 L2 키(캐시이름::키)를 만든다.
+ */
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final TwoLevelCacheManager manager;
+    private final Cache<String, Object> local;
+    private final Duration remoteTtl;
+
+    TwoLevelCache(String name, TwoLevelCacheManager manager, long localMaxSize, Duration localTtl, Duration remoteTtl) {
+        super(true);
+        this.name = name;
+        this.manager = manager;
+        this.remoteTtl = remoteTtl;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = key.toString();
+        Object value = local.getIfPresent(localKey);
+        if (value == null) {
+            value = manager.callRemote(() -> manager.remoteStore().get(remoteKey(localKey)));
+            if (value != null) {
+                local.put(localKey, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 같은 노드에서 같은 키를 동시에 찾으면 원본은 한 번만 읽는다.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = key.toString();
+        try {
+            return (T) fromStoreValue(local.get(localKey, ignored -> {
+                Object remoteValue = manager.callRemote(() -> manager.remoteStore().get(remoteKey(localKey)));
+                if (remoteValue != null) {
+                    return remoteValue;
+                }
+                Object loaded = toStoreValue(call(valueLoader));
+                manager.runRemote(() -> manager.remoteStore().put(remoteKey(localKey), loaded, remoteTtl));
+                return loaded;
+            }));
+        } catch (LoaderException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = key.toString();
+        Object storeValue = toStoreValue(value);
+        local.put(localKey, storeValue);
+        manager.runRemote(() -> manager.remoteStore().put(remoteKey(localKey), storeValue, remoteTtl));
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = key.toString();
+        local.invalidate(localKey);
+        manager.runRemote(() -> manager.remoteStore().delete(remoteKey(localKey)));
+        manager.publish(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        local.invalidateAll();
+        manager.runRemote(() -> manager.remoteStore().deleteByPrefix(remoteKey("")));
+        manager.publish(name, null);
+    }
+
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private String remoteKey(String key) {
+        return name + "::" + key;
+    }
+
+    private static <T> T call(Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new LoaderException(e);
+        }
+    }
+
+    private static final class LoaderException extends RuntimeException {
+
+        private LoaderException(Exception cause) {
+            super(cause);
+        }
+    }
+}
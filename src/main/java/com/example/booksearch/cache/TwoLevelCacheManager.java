@@ -0,0 +1,123 @@
+package com.example.booksearch.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 노드별 Caffeine L1 과 공유 L2({@link RemoteCacheStore})를 겹친 캐시 매니저
+ *
+ * 값을 지우면 L2 에서도 지우고 무효화 메시지를 보내, 모든 노드의 L1 이 같은 항목을 함께 버린다.
+ * L2 호출이 실패하면 retryAfter 동안 L2 를 건너뛰고 L1 만으로 동작한다 (요청은 오류 없이 처리된다).
+ * 그동안의 삭제는 다른 노드에 전해지지 않으므로, L1 의 만료 시간을 L2 보다 짧게 두어 어긋나는 시간을 제한한다.
+ * L2 없이 노드마다 따로 두는 캐시도 {@link #registerLocalCache} 로 등록하면 같은 채널로 전체 비우기를 주고받는다.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RemoteCacheStore remoteStore;
+    private final Map<String, TwoLevelCache> caches = new LinkedHashMap<>();
+    private final Map<String, Runnable> localCaches = new ConcurrentHashMap<>();
+    private final long retryAfterMillis;
+    private volatile long remoteUnavailableUntil;
+
+    /**
+     * @param remoteTtls 캐시 이름별 L2 만료 시간 (L1 은 localTtl 과 이 값 중 짧은 쪽)
+     */
+    public TwoLevelCacheManager(RemoteCacheStore remoteStore, Map<String, Duration> remoteTtls,
+                                long localMaxSize, Duration localTtl, Duration retryAfter) {
+        this.remoteStore = remoteStore;
+        this.retryAfterMillis = retryAfter.toMillis();
+        remoteTtls.forEach((name, remoteTtl) -> caches.put(name, new TwoLevelCache(
+                name, this, localMaxSize, localTtl.compareTo(remoteTtl) < 0 ? localTtl : remoteTtl, remoteTtl)));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.get(name);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    /**
+     * 노드마다 따로 두는 캐시를 등록한다. 다른 노드가 같은 이름으로 {@link #publishClear} 하면 clear 를 실행한다.
+     */
+    public void registerLocalCache(String name, Runnable clear) {
+        localCaches.put(name, clear);
+    }
+
+    /**
+     * 다른 노드들에 name 캐시를 모두 비우라고 알린다 (이 노드의 캐시는 호출한 쪽이 직접 지운다).
+     */
+    public void publishClear(String name) {
+        publish(name, null);
+    }
+
+    /**
+     * 다른 노드가 보낸 무효화 메시지를 L1 에 반영한다.
+     */
+    public void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        Runnable localClear = localCaches.get(invalidation.cacheName());
+        if (localClear != null) {
+            localClear.run();
+            return;
+        }
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.isClear()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.key());
+        }
+    }
+
+    RemoteCacheStore remoteStore() {
+        return remoteStore;
+    }
+
+    void publish(String cacheName, String key) {
+        runRemote(() -> remoteStore.publish(new CacheInvalidation(nodeId, cacheName, key)));
+    }
+
+    void runRemote(Runnable operation) {
+        callRemote(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * L2 호출. 실패하거나 재시도 대기 중이면 null 을 돌려준다.
+     */
+    <T> T callRemote(Supplier<T> operation) {
+        if (System.currentTimeMillis() < remoteUnavailableUntil) {
+            return null;
+        }
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 호출 실패, {}ms 동안 L1 만 사용: {}", retryAfterMillis, e.toString());
+            remoteUnavailableUntil = System.currentTimeMillis() + retryAfterMillis;
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.booksearch.config;
+
+import com.example.booksearch.cache.DependencyTrackingCache;
+import com.example.booksearch.domain.BookChangedEvent;
+import com.example.booksearch.service.MatchingIdCache;
+import com.example.booksearch.service.SearchTermDependencies;
+import com.example.booksearch.web.ResponseCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 도서가 바뀌면 검색 결과 캐시(searchResults), 매칭 ID 캐시, 응답 캐시에서 그 도서의 제목·부제·저자(수정이면 수정 전 값 포함)에
+ * 나타나는 검색어에 의존하는 항목만 지운다.
+ *
+ * 변경 이벤트를 받으면 바로 한 번(같은 트랜잭션의 이후 검색이 변경 전 결과를 받지 않도록), 커밋/롤백 뒤에 한 번 더
+ * (커밋 전에 다른 요청이 변경 전 상태로 넣은 결과와 롤백된 변경이 담긴 결과를 지우도록) 세 캐시를 함께 무효화한다.
+ * 의존 검색어를 기록하지 않는 검색 결과 캐시(redis 프로파일의 2단계 캐시는 다른 노드가 넣은 L2 항목을 모른다)는 모두 비운다.
+ * BM25 점수의 문서 수/평균 길이 변화처럼 검색어와 무관한 순위 변화는 만료 시간에 맡긴다.
+ */
+@Component
+public class BookChangeCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(BookChangeCacheInvalidator.class);
+    private static final String SEARCH_RESULTS = "searchResults";
+
+    private final CacheManager cacheManager;
+    private final ResponseCache responseCache;
+    private final MatchingIdCache matchingIdCache;
+
+    public BookChangeCacheInvalidator(CacheManager cacheManager, ResponseCache responseCache,
+                                      MatchingIdCache matchingIdCache) {
+        this.cacheManager = cacheManager;
+        this.responseCache = responseCache;
+        this.matchingIdCache = matchingIdCache;
+    }
+
+    @EventListener
+    public void onBookChanging(BookChangedEvent event) {
+        invalidate(event.searchableTexts());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        invalidate(event.searchableTexts());
+    }
+
+    private void invalidate(List<String> searchableTexts) {
+        Predicate<String> changed = term -> SearchTermDependencies.occursIn(term, searchableTexts);
+
+        Cache searchResults = cacheManager.getCache(SEARCH_RESULTS);
+        if (searchResults instanceof DependencyTrackingCache trackingCache) {
+            int evicted = trackingCache.evictDependents(changed);
+            log.debug("검색 결과 캐시 {}건 무효화", evicted);
+        } else if (searchResults != null) {
+            searchResults.clear();
+        }
+        matchingIdCache.invalidate(changed);
+        responseCache.invalidate(changed);
+    }
+}
@@ -1,26 +1,64 @@
 package com.example.booksearch.config;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.example.booksearch.cache.CacheDependencies;
+import com.example.booksearch.cache.CacheReloader;
+import com.example.booksearch.cache.DependencyTrackingCacheManager;
+import com.example.booksearch.cache.RefreshAheadCacheManager;
+import com.example.booksearch.cache.RefreshPolicy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
-import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Configuration
 public class CacheConfig {
 
+    private static final int MAXIMUM_SIZE = 1000;
+    /** 만료된 키도 지워질 때까지 역색인에 남으므로 캐시 크기보다 넉넉하게 둔다 */
+    private static final int MAXIMUM_TRACKED_KEYS = MAXIMUM_SIZE * 10;
+
+    /**
+     * 캐시 이름별 만료 시간, 만료 전 미리 갱신 구간, 만료 후 이전 값을 돌려주며 재검증하는 구간.
+     * 의존 값({@link CacheDependencies})이 있는 캐시는 원본이 바뀔 때 영향받는 항목만 지울 수 있게 감싼다.
+     */
     @Bean
     @Profile("!redis") // Redis 프로파일이 아닐 때만 활성화
-    public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(Duration.ofMinutes(30))
-                .recordStats());
-        cacheManager.setCacheNames(java.util.Arrays.asList("searchResults", "popularKeywords"));
-        return cacheManager;
+    public CacheManager cacheManager(
+            ObjectProvider<CacheReloader> cacheReloaders,
+            ObjectProvider<CacheDependencies> cacheDependencies,
+            @Value("${booksearch.cache.search-results.ttl-seconds:1800}") long searchResultsTtl,
+            @Value("${booksearch.cache.search-results.refresh-ahead-seconds:300}") long searchResultsRefreshAhead,
+            @Value("${booksearch.cache.search-results.stale-seconds:120}") long searchResultsStale) {
+        Map<String, RefreshPolicy> policies = new LinkedHashMap<>();
+        policies.put("searchResults", new RefreshPolicy(Duration.ofSeconds(searchResultsTtl),
+                Duration.ofSeconds(searchResultsRefreshAhead), Duration.ofSeconds(searchResultsStale)));
+        return new DependencyTrackingCacheManager(
+                new RefreshAheadCacheManager(policies, MAXIMUM_SIZE, cacheReloaders, refreshExecutor()),
+                cacheDependencies, MAXIMUM_TRACKED_KEYS);
+    }
+
+    /**
+     * 갱신은 최선을 다할 뿐이므로 작은 풀에서 돌리고, 밀리면 버린다 (다음 조회에서 다시 시도).
+     */
+    private static ThreadPoolExecutor refreshExecutor() {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(100), runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package com.example.booksearch.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * pg-fts 백엔드에서 books 에 tsvector 생성 컬럼과 GIN 색인을 만든다.
+ *
+ * 제목(A) > 부제(B) > 저자(C) 가중치로 ts_rank 가 제목 일치를 우선하도록 한다.
+ * 한국어 형태소 사전이 없으므로 어간 추출 없이 'simple' 설정으로 토큰화한다.
+ * 생성 컬럼은 엔티티에 매핑하지 않으므로 ddl-auto 로는 만들어지지 않아 기동 시 DDL 로 생성한다.
+ */
+@Component
+public class FullTextIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(FullTextIndexInitializer.class);
+
+    private static final List<String> STATEMENTS = List.of(
+            "ALTER TABLE books ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS (" +
+                    "setweight(to_tsvector('simple', coalesce(title, '')), 'A') || " +
+                    "setweight(to_tsvector('simple', coalesce(subtitle, '')), 'B') || " +
+                    "setweight(to_tsvector('simple', coalesce(author, '')), 'C')) STORED",
+            "CREATE INDEX IF NOT EXISTS idx_books_search_vector ON books USING gin (search_vector)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchBackend searchBackend;
+
+    public FullTextIndexInitializer(JdbcTemplate jdbcTemplate,
+                                    @Value("${booksearch.search.backend:database}") SearchBackend searchBackend) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchBackend = searchBackend;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void createSearchVector() {
+        if (searchBackend != SearchBackend.PG_FTS) {
+            return;
+        }
+
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                log.error("전문 검색 컬럼/색인 생성 실패 (pg-fts 검색이 동작하지 않음): {}", statement, e);
+                return;
+            }
+        }
+        log.info("전문 검색 tsvector 컬럼과 GIN 색인 준비 완료");
+    }
+}
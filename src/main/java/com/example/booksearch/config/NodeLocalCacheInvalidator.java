@@ -0,0 +1,39 @@
+package com.example.booksearch.config;
+
+import com.example.booksearch.cache.TwoLevelCacheManager;
+import com.example.booksearch.domain.BookChangedEvent;
+import com.example.booksearch.service.MatchingIdCache;
+import com.example.booksearch.web.ResponseCache;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Redis 프로파일에서 노드마다 따로 두는 응답 캐시와 매칭 ID 캐시를 다른 노드에도 무효화한다.
+ *
+ * 도서 변경 이벤트는 변경한 노드에서만 발생하므로, 커밋/롤백 뒤에 검색 결과 캐시와 같은 무효화 채널로 전체 비우기를 보낸다.
+ * 받는 노드는 바뀐 도서를 모르므로 두 캐시를 모두 비운다 (변경한 노드는 각 캐시가 검색어별로 골라 지운다).
+ */
+@Component
+@Profile("redis")
+public class NodeLocalCacheInvalidator {
+
+    static final String RESPONSES = "responses";
+    static final String MATCHING_IDS = "matchingIds";
+
+    private final TwoLevelCacheManager cacheManager;
+
+    public NodeLocalCacheInvalidator(TwoLevelCacheManager cacheManager, ResponseCache responseCache,
+                                     MatchingIdCache matchingIdCache) {
+        this.cacheManager = cacheManager;
+        cacheManager.registerLocalCache(RESPONSES, responseCache::clear);
+        cacheManager.registerLocalCache(MATCHING_IDS, matchingIdCache::clear);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        cacheManager.publishClear(RESPONSES);
+        cacheManager.publishClear(MATCHING_IDS);
+    }
+}
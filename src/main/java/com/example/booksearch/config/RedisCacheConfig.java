@@ -1,51 +1,61 @@
 package com.example.booksearch.config;
 
-/*
- * Redis 캐시 설정 클래스 (Redis 의존성 추가 시 활성화)
- * 
- * Redis로 전환하려면:
- * 1. build.gradle에 spring-boot-starter-data-redis 의존성 추가
- * 2. 이 클래스의 주석 해제
- * 3. application-redis.properties 프로파일 활성화
+import com.example.booksearch.cache.CacheInvalidation;
+import com.example.booksearch.cache.RedisCacheStore;
+import com.example.booksearch.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Redis 프로파일의 2단계 캐시 설정
+ *
+ * 노드마다 Caffeine L1 을 두고 그 뒤에 Redis L2 를 함께 쓴다. 캐시를 지우면 pub/sub 채널로 알려
+ * 모든 노드의 L1 이 같은 항목을 버리고, Redis 가 응답하지 않으면 L1 만으로 동작한다.
  */
+@Configuration
+@Profile("redis") // Redis 프로파일일 때만 활성화
+public class RedisCacheConfig {
+
+    @Bean
+    public RedisCacheStore redisCacheStore(RedisConnectionFactory connectionFactory,
+                                           @Value("${booksearch.cache.invalidation-channel:booksearch:cache-invalidation}") String channel) {
+        return new RedisCacheStore(connectionFactory, channel);
+    }
+
+    @Bean
+    public TwoLevelCacheManager cacheManager(RedisCacheStore redisCacheStore,
+                                             @Value("${booksearch.cache.local.max-size:1000}") long localMaxSize,
+                                             @Value("${booksearch.cache.local.ttl-seconds:60}") long localTtlSeconds,
+                                             @Value("${booksearch.cache.remote.retry-after-seconds:30}") long retryAfterSeconds) {
+        Map<String, Duration> remoteTtls = new LinkedHashMap<>();
+        // 검색 결과 캐시 - 30분 TTL
+        remoteTtls.put("searchResults", Duration.ofMinutes(30));
+
+        return new TwoLevelCacheManager(redisCacheStore, remoteTtls, localMaxSize,
+                Duration.ofSeconds(localTtlSeconds), Duration.ofSeconds(retryAfterSeconds));
+    }
 
-// import org.springframework.context.annotation.Bean;
-// import org.springframework.context.annotation.Configuration;
-// import org.springframework.context.annotation.Profile;
-// import org.springframework.data.redis.cache.RedisCacheConfiguration;
-// import org.springframework.data.redis.cache.RedisCacheManager;
-// import org.springframework.data.redis.connection.RedisConnectionFactory;
-// import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
-// import org.springframework.data.redis.serializer.RedisSerializationContext;
-// 
-// import java.time.Duration;
-// import java.util.HashMap;
-// import java.util.Map;
-// 
-// @Configuration
-// @Profile("redis") // Redis 프로파일일 때만 활성화
-// public class RedisCacheConfig {
-// 
-//     @Bean
-//     public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-//         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-//                 .entryTtl(Duration.ofMinutes(30))
-//                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-//                         .fromSerializer(new GenericJackson2JsonRedisSerializer()));
-// 
-//         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
-//         
-//         // 검색 결과 캐시 - 30분 TTL
-//         cacheConfigurations.put("searchResults", defaultConfig
-//                 .entryTtl(Duration.ofMinutes(30)));
-//         
-//         // 인기 검색어 캐시 - 10분 TTL (더 빈번한 업데이트)
-//         cacheConfigurations.put("popularKeywords", defaultConfig
-//                 .entryTtl(Duration.ofMinutes(10)));
-// 
-//         return RedisCacheManager.builder(connectionFactory)
-//                 .cacheDefaults(defaultConfig)
-//                 .withInitialCacheConfigurations(cacheConfigurations)
-//                 .build();
-//     }
-// }
\ No newline at end of file
+    /**
+     * 다른 노드가 보낸 무효화 메시지를 받는다. 연결이 끊기면 컨테이너가 다시 구독한다.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   TwoLevelCacheManager cacheManager,
+                                                                   @Value("${booksearch.cache.invalidation-channel:booksearch:cache-invalidation}") String channel) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener((message, pattern) -> cacheManager.onInvalidation(
+                CacheInvalidation.decode(new String(message.getBody(), StandardCharsets.UTF_8))), new ChannelTopic(channel));
+        return container;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.booksearch.config;
+
+/**
+ * 검색 요청을 처리할 백엔드 (booksearch.search.backend)
+ */
+public enum SearchBackend {
+    /** JPQL LIKE 쿼리로 데이터베이스에서 직접 검색 */
+    DATABASE,
+    /** 애플리케이션 메모리의 역색인으로 검색 */
+    INDEX,
+    /** PostgreSQL pg_trgm GIN 색인을 사용하는 네이티브 쿼리로 검색 */
+    PG_TRGM,
+    /** PostgreSQL 전문 검색(tsvector 생성 컬럼 + GIN 색인)으로 검색하고 ts_rank 로 순위를 매김 */
+    PG_FTS,
+    /** 애플리케이션 내 로컬 디스크 Lucene 색인(NRT 검색기)으로 검색 */
+    LUCENE
+}
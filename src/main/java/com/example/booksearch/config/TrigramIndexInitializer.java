@@ -0,0 +1,59 @@
+package com.example.booksearch.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * pg-trgm 백엔드에서 books.title/author 에 pg_trgm GIN 색인을 만든다.
+ *
+ * JPA @Index 로는 연산자 클래스(gin_trgm_ops)를 지정할 수 없어 기동 시 DDL 로 생성한다.
+ * 확장 설치 권한이 없는 등 실패하더라도 쿼리는 그대로 동작하므로 경고만 남긴다.
+ */
+@Component
+public class TrigramIndexInitializer {
+
+    private static final Logger log = LoggerFactory.getLogger(TrigramIndexInitializer.class);
+
+    private static final List<String> STATEMENTS = List.of(
+            "CREATE EXTENSION IF NOT EXISTS pg_trgm",
+            "CREATE INDEX IF NOT EXISTS idx_books_title_trgm ON books USING gin (title gin_trgm_ops)",
+            "CREATE INDEX IF NOT EXISTS idx_books_author_trgm ON books USING gin (author gin_trgm_ops)"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SearchBackend searchBackend;
+
+    public TrigramIndexInitializer(JdbcTemplate jdbcTemplate,
+                                   @Value("${booksearch.search.backend:database}") SearchBackend searchBackend) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.searchBackend = searchBackend;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void createIndexes() {
+        if (searchBackend != SearchBackend.PG_TRGM) {
+            return;
+        }
+
+        for (String statement : STATEMENTS) {
+            try {
+                jdbcTemplate.execute(statement);
+            } catch (DataAccessException e) {
+                log.warn("pg_trgm 색인 생성 실패 (LIKE 쿼리는 순차 스캔으로 동작): {}", statement, e);
+                return;
+            }
+        }
+        log.info("pg_trgm GIN 색인 준비 완료");
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.booksearch.controller;
 
 import com.example.booksearch.dto.BookResponseDto;
+import com.example.booksearch.dto.CursorSlice;
 import com.example.booksearch.service.BookService;
+import com.example.booksearch.service.CursorRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -48,6 +50,26 @@ public class BookController {
         return ResponseEntity.ok(books);
     }
 
+    @Operation(summary = "도서 목록 커서 조회", description = "cursor 파라미터가 있으면 앞 페이지를 건너뛰지 않는 커서 방식으로 조회합니다. 첫 조각은 빈 cursor 로 요청하고 응답의 nextCursor 로 이어서 요청합니다. 전체 개수는 세지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = CursorSlice.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 정렬 조건",
+                    content = @Content(schema = @Schema(implementation = com.example.booksearch.dto.ErrorResponse.class)))
+    })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<CursorSlice<BookResponseDto>> getBooksByCursor(
+            @Parameter(description = "검색 키워드 (제목 또는 저자)", example = "자바")
+            @RequestParam(required = false) String keyword,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조각은 빈 값)", example = "")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조각 크기와 정렬 (id, title, publicationDate 중 하나, page 는 무시)")
+            @PageableDefault(size = 20, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+
+        CursorRequest request = CursorRequest.of(cursor, pageable);
+        return ResponseEntity.ok(CursorSlice.from(bookService.findBooksAfter(keyword, request), request));
+    }
+
     @Operation(summary = "도서 상세 조회", description = "도서 ID로 특정 도서의 상세 정보를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
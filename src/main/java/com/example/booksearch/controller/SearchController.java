@@ -1,10 +1,17 @@
 package com.example.booksearch.controller;
 
 import com.example.booksearch.dto.BookResponseDto;
+import com.example.booksearch.dto.CursorSlice;
 import com.example.booksearch.dto.PopularSearchDto;
 import com.example.booksearch.dto.SearchResultWithMetadata;
+import com.example.booksearch.dto.SuggestionDto;
+import com.example.booksearch.exception.InvalidParameterException;
+import com.example.booksearch.service.CountMode;
+import com.example.booksearch.service.CursorRequest;
+import com.example.booksearch.service.RelevanceSort;
 import com.example.booksearch.service.SearchService;
 import com.example.booksearch.service.SearchLogService;
+import com.example.booksearch.suggest.SuggestService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,7 +21,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,15 +32,20 @@ import java.util.List;
 @Tag(name = "도서 검색", description = "고급 검색 기능 및 검색 통계 API")
 public class SearchController {
 
+    private static final int MAX_SUGGEST_LIMIT = 50;
+
     private final SearchService searchService;
     private final SearchLogService searchLogService;
+    private final SuggestService suggestService;
 
-    public SearchController(SearchService searchService, SearchLogService searchLogService) {
+    public SearchController(SearchService searchService, SearchLogService searchLogService,
+                            SuggestService suggestService) {
         this.searchService = searchService;
         this.searchLogService = searchLogService;
+        this.suggestService = suggestService;
     }
 
-    @Operation(summary = "도서 고급 검색", description = "복잡한 검색 쿼리로 도서를 검색합니다. OR 연산자(|)와 제외 연산자(-) 지원")
+    @Operation(summary = "도서 고급 검색", description = "복잡한 검색 쿼리로 도서를 검색합니다. OR 연산자(|)와 제외 연산자(-), 괄호/AND/NOT/따옴표 구문 검색식 지원")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "검색 성공",
                     content = @Content(schema = @Schema(implementation = Page.class))),
@@ -45,8 +56,8 @@ public class SearchController {
     public ResponseEntity<Page<BookResponseDto>> searchBooks(
             @Parameter(description = "검색 쿼리 (예: 'java|spring', 'programming -beginner')", example = "java|spring")
             @RequestParam(required = false) String q,
-            @Parameter(description = "페이징 정보")
-            @PageableDefault(page = 0, size = 20, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+            @Parameter(description = "페이징 정보 (기본 정렬: relevance, 관련도 높은 순)")
+            @PageableDefault(page = 0, size = 20, sort = RelevanceSort.PROPERTY) Pageable pageable) {
         
         Page<BookResponseDto> searchResults = searchService.searchBooks(q, pageable)
                 .map(BookResponseDto::from);
@@ -54,22 +65,46 @@ public class SearchController {
         return ResponseEntity.ok(searchResults);
     }
 
-    @Operation(summary = "메타데이터 포함 도서 검색", description = "검색 결과와 함께 메타데이터(검색 시간, 총 결과 수, 사용된 전략 등)를 포함하여 반환합니다.")
+    @Operation(summary = "도서 커서 검색", description = "cursor 파라미터가 있으면 커서 방식으로 검색합니다. 첫 조각은 빈 cursor 로 요청하고 응답의 nextCursor 로 이어서 요청합니다. 관련도 정렬은 ID 순으로 대신하고 전체 개수는 세지 않습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색 성공",
+                    content = @Content(schema = @Schema(implementation = CursorSlice.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색 쿼리, 커서 또는 정렬 조건",
+                    content = @Content(schema = @Schema(implementation = com.example.booksearch.dto.ErrorResponse.class)))
+    })
+    @GetMapping(value = "/books", params = "cursor")
+    public ResponseEntity<CursorSlice<BookResponseDto>> searchBooksByCursor(
+            @Parameter(description = "검색 쿼리 (예: 'java|spring', 'programming -beginner')", example = "java|spring")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "이전 응답의 nextCursor (첫 조각은 빈 값)", example = "")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "조각 크기와 정렬 (id, title, publicationDate 중 하나, page 는 무시)")
+            @PageableDefault(size = 20, sort = RelevanceSort.PROPERTY) Pageable pageable) {
+
+        CursorRequest request = CursorRequest.of(cursor, pageable);
+        return ResponseEntity.ok(CursorSlice.from(searchService.searchBooksAfter(q, request), request));
+    }
+
+    @Operation(summary = "메타데이터 포함 도서 검색", description = "검색 결과와 함께 메타데이터(검색 시간, 총 결과 수와 집계 방식, 사용된 전략 등)를 포함하여 반환합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "검색 성공",
                     content = @Content(schema = @Schema(implementation = SearchResultWithMetadata.class))),
-            @ApiResponse(responseCode = "400", description = "잘못된 검색 쿼리",
+            @ApiResponse(responseCode = "400", description = "잘못된 검색 쿼리 또는 count 값",
                     content = @Content(schema = @Schema(implementation = com.example.booksearch.dto.ErrorResponse.class)))
     })
     @GetMapping("/books/detailed")
     public ResponseEntity<SearchResultWithMetadata<BookResponseDto>> searchBooksWithMetadata(
             @Parameter(description = "검색 쿼리 (예: 'java|spring', 'programming -beginner')", example = "java|spring")
             @RequestParam(required = false) String q,
-            @Parameter(description = "페이징 정보")
-            @PageableDefault(page = 0, size = 20, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+            @Parameter(description = "페이징 정보 (기본 정렬: relevance, 관련도 높은 순)")
+            @PageableDefault(page = 0, size = 20, sort = RelevanceSort.PROPERTY) Pageable pageable,
+            @Parameter(description = "true 이면 실행 계획과 단계별 예상/실제 건수를 metadata.plan 에 포함", example = "false")
+            @RequestParam(defaultValue = "false") boolean explain,
+            @Parameter(description = "전체 개수를 구하는 방식: exact(정확히), capped(상한까지 세고 \"N+\"), estimated(실행 계획 예상 값). 생략하면 서버 설정값", example = "capped")
+            @RequestParam(required = false) String count) {
         
         SearchResultWithMetadata<com.example.booksearch.domain.Book> searchResult = 
-                searchService.searchBooksWithMetadata(q, pageable);
+                searchService.searchBooksWithMetadata(q, pageable, explain, CountMode.from(count, null));
         
         Page<BookResponseDto> bookDtos = searchResult.getData().map(BookResponseDto::from);
         
@@ -90,12 +125,37 @@ public class SearchController {
     public ResponseEntity<List<PopularSearchDto>> getPopularSearchKeywords(
             @Parameter(description = "조회할 인기 검색어 개수", example = "10")
             @RequestParam(defaultValue = "10") int limit) {
-        
-        List<PopularSearchDto> popularSearches = searchLogService.getTopSearchKeywords(limit)
+
+        if (limit < 1) {
+            throw new InvalidParameterException("limit", String.valueOf(limit), "1 이상이어야 합니다");
+        }
+
+        return ResponseEntity.ok(searchLogService.getPopularKeywords(limit));
+    }
+
+    @Operation(summary = "검색어 자동완성", description = "접두어로 시작하는 도서 제목/저자 단어와 인기 검색어를 가중치 순으로 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = List.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 limit 값",
+                    content = @Content(schema = @Schema(implementation = com.example.booksearch.dto.ErrorResponse.class)))
+    })
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionDto>> suggest(
+            @Parameter(description = "입력 중인 접두어", example = "spr")
+            @RequestParam(defaultValue = "") String prefix,
+            @Parameter(description = "조회할 후보 개수 (1~50)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+
+        if (limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+            throw new InvalidParameterException("limit", String.valueOf(limit), "1 이상 " + MAX_SUGGEST_LIMIT + " 이하여야 합니다");
+        }
+
+        List<SuggestionDto> suggestions = suggestService.suggest(prefix, limit)
                 .stream()
-                .map(PopularSearchDto::from)
+                .map(SuggestionDto::from)
                 .toList();
-        
-        return ResponseEntity.ok(popularSearches);
+
+        return ResponseEntity.ok(suggestions);
     }
 }
\ No newline at end of file
@@ -4,13 +4,19 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 @Entity
 @Table(name = "books")
-public class Book {
+@EntityListeners(BookEntityListener.class)
+public class Book implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -41,6 +47,18 @@ public class Book {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    /**
+     * 마지막으로 읽거나 저장한 시점의 검색 대상 필드 (수정 이벤트에서는 수정 전 값)
+     */
+    @Transient
+    private transient String loadedTitle;
+
+    @Transient
+    private transient String loadedSubtitle;
+
+    @Transient
+    private transient String loadedAuthor;
+
     protected Book() {}
 
     private Book(Builder builder) {
@@ -73,6 +91,18 @@ public class Book {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 엔티티 리스너({@link BookEntityListener})가 먼저 호출되므로 변경 이벤트를 만들 때는 이전 값이 남아 있다.
+     */
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    protected void rememberSearchableFields() {
+        loadedTitle = title;
+        loadedSubtitle = subtitle;
+        loadedAuthor = author;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -156,6 +186,19 @@ public class Book {
         return updatedAt;
     }
 
+    /**
+     * 검색이 일치시키는 제목/부제/저자의 현재 값과, 마지막으로 읽거나 저장한 시점의 값 (null 제외)
+     */
+    public List<String> getSearchableTexts() {
+        List<String> texts = new ArrayList<>(6);
+        for (String text : new String[]{title, subtitle, author, loadedTitle, loadedSubtitle, loadedAuthor}) {
+            if (text != null) {
+                texts.add(text);
+            }
+        }
+        return texts;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
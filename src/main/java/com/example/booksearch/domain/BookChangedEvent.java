@@ -0,0 +1,29 @@
+package com.example.booksearch.domain;
+
+import java.util.List;
+
+/**
+ * 도서가 저장되거나 삭제되었음을 알리는 이벤트
+ *
+ * searchableTexts 는 이벤트를 만든 시점의 {@link Book#getSearchableTexts()} 로, 수정이면 수정 전후 값을 모두 담는다.
+ * 커밋 후 리스너가 받을 때는 엔티티의 이전 값이 이미 바뀌어 있으므로 발행할 때 복사해 둔다.
+ */
+public record BookChangedEvent(Book book, ChangeType changeType, List<String> searchableTexts) {
+
+    public enum ChangeType {
+        SAVED,
+        DELETED
+    }
+
+    public BookChangedEvent(Book book, ChangeType changeType) {
+        this(book, changeType, List.copyOf(book.getSearchableTexts()));
+    }
+
+    public static BookChangedEvent saved(Book book) {
+        return new BookChangedEvent(book, ChangeType.SAVED);
+    }
+
+    public static BookChangedEvent deleted(Book book) {
+        return new BookChangedEvent(book, ChangeType.DELETED);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.booksearch.domain;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * 도서 엔티티의 변경을 애플리케이션 이벤트로 발행하는 JPA 엔티티 리스너
+ */
+public class BookEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BookEntityListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSaved(Book book) {
+        eventPublisher.publishEvent(BookChangedEvent.saved(book));
+    }
+
+    @PostRemove
+    public void onRemoved(Book book) {
+        eventPublisher.publishEvent(BookChangedEvent.deleted(book));
+    }
+}
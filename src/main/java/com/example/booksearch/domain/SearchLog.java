@@ -7,6 +7,7 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Entity
@@ -17,7 +18,9 @@ import java.time.LocalDateTime;
            @Index(name = "idx_last_searched", columnList = "lastSearchedAt")
        })
 @EntityListeners(AuditingEntityListener.class)
-public class SearchLog {
+public class SearchLog implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -27,6 +30,11 @@ public class SearchLog {
     @Column(nullable = false, unique = true)
     private String keyword;
 
+    /**
+     * 마지막으로 기록된 검색의 대소문자를 유지한 정규형 (대소문자를 구분하는 백엔드에서 같은 검색을 다시 실행할 때 쓴다)
+     */
+    private String lastQuery;
+
     @NotNull
     @Column(nullable = false)
     private Integer searchCount = 1;
@@ -42,7 +50,12 @@ public class SearchLog {
     protected SearchLog() {}
 
     public SearchLog(String keyword) {
+        this(keyword, keyword);
+    }
+
+    public SearchLog(String keyword, String lastQuery) {
         this.keyword = keyword;
+        this.lastQuery = lastQuery;
         this.searchCount = 1;
     }
 
@@ -64,6 +77,13 @@ public class SearchLog {
         return keyword;
     }
 
+    /**
+     * 검색어를 기록하기 전에 만들어진 행이면 keyword 를 돌려준다.
+     */
+    public String getLastQuery() {
+        return lastQuery != null ? lastQuery : keyword;
+    }
+
     public Integer getSearchCount() {
         return searchCount;
     }
@@ -0,0 +1,51 @@
+package com.example.booksearch.dto;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.service.CursorRequest;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 커서 페이지 응답 (전체 개수 없이 다음 조각이 있는지와 다음 조각을 요청할 커서만 담는다)
+ */
+public class CursorSlice<T> {
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String nextCursor;
+
+    public CursorSlice(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public static CursorSlice<BookResponseDto> from(Slice<Book> slice, CursorRequest request) {
+        List<Book> books = slice.getContent();
+        String nextCursor = slice.hasNext() && !books.isEmpty()
+                ? request.cursorAfter(books.get(books.size() - 1))
+                : null;
+        return new CursorSlice<>(books.stream().map(BookResponseDto::from).toList(),
+                request.size(), slice.hasNext(), nextCursor);
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
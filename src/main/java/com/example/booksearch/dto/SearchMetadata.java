@@ -1,6 +1,10 @@
 package com.example.booksearch.dto;
 
+import com.example.booksearch.query.PlanStep;
+import com.example.booksearch.service.CountMode;
+import com.example.booksearch.service.ResultCount;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 
@@ -9,16 +13,36 @@ public class SearchMetadata {
     private String strategy;
     private long executionTimeMs;
     private int totalResults;
+    private CountMode totalResultsMode;
+    private String totalResultsDisplay;
     
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime searchedAt;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private PlanStep plan;
+
     public SearchMetadata(String query, String strategy, long executionTimeMs, int totalResults) {
+        this(query, strategy, executionTimeMs, totalResults, null);
+    }
+
+    public SearchMetadata(String query, String strategy, long executionTimeMs, int totalResults, PlanStep plan) {
+        this(query, strategy, executionTimeMs, ResultCount.exact(totalResults), plan);
+    }
+
+    /**
+     * totalResults 는 count 의 값이고, totalResultsMode 는 그 값을 정확히 셌는지(EXACT), 상한까지만 셌는지(CAPPED),
+     * 실행 계획으로 어림했는지(ESTIMATED)를 나타낸다.
+     */
+    public SearchMetadata(String query, String strategy, long executionTimeMs, ResultCount count, PlanStep plan) {
         this.query = query;
         this.strategy = strategy;
         this.executionTimeMs = executionTimeMs;
-        this.totalResults = totalResults;
+        this.totalResults = (int) Math.min(count.value(), Integer.MAX_VALUE);
+        this.totalResultsMode = count.mode();
+        this.totalResultsDisplay = count.display();
         this.searchedAt = LocalDateTime.now();
+        this.plan = plan;
     }
 
     public String getQuery() {
@@ -37,7 +61,22 @@ public class SearchMetadata {
         return totalResults;
     }
 
+    public CountMode getTotalResultsMode() {
+        return totalResultsMode;
+    }
+
+    /**
+     * 화면 표시용 개수 ("37", "1000+", "~1200")
+     */
+    public String getTotalResultsDisplay() {
+        return totalResultsDisplay;
+    }
+
     public LocalDateTime getSearchedAt() {
         return searchedAt;
     }
-}
\ No newline at end of file
+
+    public PlanStep getPlan() {
+        return plan;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.booksearch.dto;
+
+import com.example.booksearch.suggest.Suggestion;
+
+public class SuggestionDto {
+    private String text;
+    private long weight;
+
+    public SuggestionDto(String text, long weight) {
+        this.text = text;
+        this.weight = weight;
+    }
+
+    public static SuggestionDto from(Suggestion suggestion) {
+        return new SuggestionDto(suggestion.text(), suggestion.weight());
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+}
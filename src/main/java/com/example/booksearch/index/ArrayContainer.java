@@ -0,0 +1,172 @@
+package com.example.booksearch.index;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * 원소가 적은 컨테이너: 정렬된 char 배열
+ */
+final class ArrayContainer extends Container {
+
+    private char[] values;
+    private int cardinality;
+
+    ArrayContainer() {
+        this(new char[4], 0);
+    }
+
+    ArrayContainer(char[] values, int cardinality) {
+        this.values = values;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char value) {
+        int position = Arrays.binarySearch(values, 0, cardinality, value);
+        if (position >= 0) {
+            return this;
+        }
+        if (cardinality >= ARRAY_MAX_SIZE) {
+            return toBitmap().add(value);
+        }
+
+        int insertAt = -position - 1;
+        if (cardinality == values.length) {
+            values = Arrays.copyOf(values, Math.min(ARRAY_MAX_SIZE, Math.max(4, values.length * 2)));
+        }
+        System.arraycopy(values, insertAt, values, insertAt + 1, cardinality - insertAt);
+        values[insertAt] = value;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    Container remove(char value) {
+        int position = Arrays.binarySearch(values, 0, cardinality, value);
+        if (position >= 0) {
+            System.arraycopy(values, position + 1, values, position, cardinality - position - 1);
+            cardinality--;
+        }
+        return this;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    char select(int rank) {
+        return values[rank];
+    }
+
+    @Override
+    int rank(char value) {
+        int position = Arrays.binarySearch(values, 0, cardinality, value);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    @Override
+    Container and(Container other) {
+        char[] result = new char[Math.min(cardinality, other.cardinality())];
+        int count = 0;
+        if (other instanceof ArrayContainer array) {
+            int i = 0;
+            int j = 0;
+            while (i < cardinality && j < array.cardinality) {
+                if (values[i] < array.values[j]) {
+                    i++;
+                } else if (values[i] > array.values[j]) {
+                    j++;
+                } else {
+                    result[count++] = values[i];
+                    i++;
+                    j++;
+                }
+            }
+        } else {
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i])) {
+                    result[count++] = values[i];
+                }
+            }
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    Container or(Container other) {
+        if (!(other instanceof ArrayContainer array)) {
+            return other.or(this);
+        }
+
+        char[] result = new char[cardinality + array.cardinality];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < cardinality && j < array.cardinality) {
+            if (values[i] < array.values[j]) {
+                result[count++] = values[i++];
+            } else if (values[i] > array.values[j]) {
+                result[count++] = array.values[j++];
+            } else {
+                result[count++] = values[i];
+                i++;
+                j++;
+            }
+        }
+        while (i < cardinality) {
+            result[count++] = values[i++];
+        }
+        while (j < array.cardinality) {
+            result[count++] = array.values[j++];
+        }
+
+        ArrayContainer merged = new ArrayContainer(result, count);
+        return count > ARRAY_MAX_SIZE ? merged.toBitmap() : merged;
+    }
+
+    @Override
+    Container andNot(Container other) {
+        char[] result = new char[cardinality];
+        int count = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (!other.contains(values[i])) {
+                result[count++] = values[i];
+            }
+        }
+        return new ArrayContainer(result, count);
+    }
+
+    @Override
+    Container copy() {
+        return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+    }
+
+    @Override
+    void fill(int high, int from, int count, int[] target, int offset) {
+        for (int i = 0; i < count; i++) {
+            target[offset + i] = high | values[from + i];
+        }
+    }
+
+    @Override
+    void forEach(int high, IntConsumer consumer) {
+        for (int i = 0; i < cardinality; i++) {
+            consumer.accept(high | values[i]);
+        }
+    }
+
+    BitmapContainer toBitmap() {
+        BitmapContainer bitmap = new BitmapContainer();
+        for (int i = 0; i < cardinality; i++) {
+            bitmap.add(values[i]);
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.booksearch.index;
+
+import java.util.function.IntConsumer;
+
+/**
+ * 원소가 많은 컨테이너: 65536 비트 비트맵 (8KB 고정)
+ */
+final class BitmapContainer extends Container {
+
+    private static final int WORDS = 1 << 10;
+
+    private final long[] words;
+    private int cardinality;
+
+    BitmapContainer() {
+        this(new long[WORDS], 0);
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    Container add(char value) {
+        long before = words[value >>> 6];
+        long after = before | (1L << value);
+        if (before != after) {
+            words[value >>> 6] = after;
+            cardinality++;
+        }
+        return this;
+    }
+
+    @Override
+    Container remove(char value) {
+        long before = words[value >>> 6];
+        long after = before & ~(1L << value);
+        if (before != after) {
+            words[value >>> 6] = after;
+            cardinality--;
+        }
+        return cardinality <= ARRAY_MAX_SIZE ? toArray() : this;
+    }
+
+    @Override
+    boolean contains(char value) {
+        return (words[value >>> 6] & (1L << value)) != 0;
+    }
+
+    @Override
+    int cardinality() {
+        return cardinality;
+    }
+
+    @Override
+    char select(int rank) {
+        int remaining = rank;
+        for (int i = 0; i < WORDS; i++) {
+            int bits = Long.bitCount(words[i]);
+            if (remaining < bits) {
+                long word = words[i];
+                for (int k = 0; k < remaining; k++) {
+                    word &= word - 1;
+                }
+                return (char) (i * 64 + Long.numberOfTrailingZeros(word));
+            }
+            remaining -= bits;
+        }
+        throw new IndexOutOfBoundsException("Rank: " + rank + ", Cardinality: " + cardinality);
+    }
+
+    @Override
+    int rank(char value) {
+        int word = value >>> 6;
+        int count = 0;
+        for (int i = 0; i < word; i++) {
+            count += Long.bitCount(words[i]);
+        }
+        return count + Long.bitCount(words[word] & ((1L << value) - 1));
+    }
+
+    @Override
+    Container and(Container other) {
+        if (other instanceof ArrayContainer) {
+            return other.and(this);
+        }
+
+        BitmapContainer bitmap = (BitmapContainer) other;
+        long[] result = new long[WORDS];
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            result[i] = words[i] & bitmap.words[i];
+            count += Long.bitCount(result[i]);
+        }
+        return compact(new BitmapContainer(result, count));
+    }
+
+    @Override
+    Container or(Container other) {
+        BitmapContainer result = (BitmapContainer) copy();
+        if (other instanceof BitmapContainer bitmap) {
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                result.words[i] |= bitmap.words[i];
+                count += Long.bitCount(result.words[i]);
+            }
+            result.cardinality = count;
+            return result;
+        }
+
+        for (int i = 0; i < other.cardinality(); i++) {
+            result.add(other.select(i));
+        }
+        return result;
+    }
+
+    @Override
+    Container orInPlace(Container other) {
+        if (other instanceof BitmapContainer bitmap) {
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                words[i] |= bitmap.words[i];
+                count += Long.bitCount(words[i]);
+            }
+            cardinality = count;
+            return this;
+        }
+
+        for (int i = 0; i < other.cardinality(); i++) {
+            add(other.select(i));
+        }
+        return this;
+    }
+
+    @Override
+    Container andNot(Container other) {
+        long[] result = words.clone();
+        if (other instanceof BitmapContainer bitmap) {
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                result[i] &= ~bitmap.words[i];
+                count += Long.bitCount(result[i]);
+            }
+            return compact(new BitmapContainer(result, count));
+        }
+
+        BitmapContainer difference = new BitmapContainer(result, cardinality);
+        for (int i = 0; i < other.cardinality(); i++) {
+            char value = other.select(i);
+            if (difference.contains(value)) {
+                difference.words[value >>> 6] &= ~(1L << value);
+                difference.cardinality--;
+            }
+        }
+        return compact(difference);
+    }
+
+    @Override
+    Container copy() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    void fill(int high, int from, int count, int[] target, int offset) {
+        int skipped = 0;
+        int written = 0;
+        for (int i = 0; i < WORDS && written < count; i++) {
+            long word = words[i];
+            int bits = Long.bitCount(word);
+            if (skipped + bits <= from) {
+                skipped += bits;
+                continue;
+            }
+            while (word != 0 && written < count) {
+                if (skipped < from) {
+                    skipped++;
+                } else {
+                    target[offset + written++] = high | (i * 64 + Long.numberOfTrailingZeros(word));
+                }
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    void forEach(int high, IntConsumer consumer) {
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                consumer.accept(high | (i * 64 + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+    }
+
+    private ArrayContainer toArray() {
+        char[] values = new char[cardinality];
+        int count = 0;
+        for (int i = 0; i < WORDS; i++) {
+            long word = words[i];
+            while (word != 0) {
+                values[count++] = (char) (i * 64 + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+        return new ArrayContainer(values, count);
+    }
+
+    private static Container compact(BitmapContainer bitmap) {
+        return bitmap.cardinality <= ARRAY_MAX_SIZE ? bitmap.toArray() : bitmap;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.booksearch.index;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 편집 거리(Levenshtein) 기반 BK-tree 용어 사전
+ *
+ * 각 노드는 소문자로 정규화한 토큰과 그 토큰을 가진 도서의 포스팅 리스트를 갖는다.
+ * 삼각 부등식으로 |d - maxEdits| 범위 밖의 자식은 건너뛰므로 어휘 전체를 훑지 않고 후보를 찾는다.
+ * 노드는 삭제하지 않고 포스팅만 비우며, 빈 노드는 색인을 재구축할 때 정리된다.
+ */
+class BkTree {
+
+    private Node root;
+    private int size;
+
+    void add(String term, int docId) {
+        if (root == null) {
+            root = new Node(term);
+            size++;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                node.postings.add(docId);
+                return;
+            }
+            Node child = node.children.get(distance);
+            if (child == null) {
+                child = new Node(term);
+                node.children.put(distance, child);
+                size++;
+            }
+            node = child;
+        }
+    }
+
+    void remove(String term, int docId) {
+        Node node = root;
+        while (node != null) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                node.postings.remove(docId);
+                return;
+            }
+            node = node.children.get(distance);
+        }
+    }
+
+    void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * term 과의 편집 거리가 maxEdits 이하인 토큰들의 포스팅 리스트
+     */
+    void search(String term, int maxEdits, List<PostingList> result) {
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            int distance = distance(term, node.term);
+            if (distance <= maxEdits && !node.postings.isEmpty()) {
+                result.add(node.postings);
+            }
+            for (int d = Math.max(1, distance - maxEdits); d <= distance + maxEdits; d++) {
+                Node child = node.children.get(d);
+                if (child != null) {
+                    stack.push(child);
+                }
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    static int distance(String a, String b) {
+        if (a.length() < b.length()) {
+            String swap = a;
+            a = b;
+            b = swap;
+        }
+
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (ca == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j] + 1, current[j - 1] + 1));
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+
+    private static final class Node {
+        private final String term;
+        private final PostingList postings = new PostingList();
+        private final Map<Integer, Node> children = new HashMap<>(4);
+
+        private Node(String term) {
+            this.term = term;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.booksearch.index;
+
+/**
+ * 필드 가중치를 준 BM25 관련도 점수 (제목 > 저자 > 부제)
+ *
+ * 검색이 부분 문자열 일치이므로 tf 는 필드 안에서 검색어가 나타난 횟수, 필드 길이는 색인할 때 센 공백 단위 토큰 수를 쓴다.
+ * 문서마다 객체를 만들지 않도록 검색어별 idf 와 필드 평균 길이를 미리 계산해 둔다.
+ */
+final class Bm25Scorer {
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+    static final float TITLE_BOOST = 3.0f;
+    static final float AUTHOR_BOOST = 2.0f;
+    static final float SUBTITLE_BOOST = 1.0f;
+
+    private final String[] terms;
+    private final float[] idf;
+    private final float averageTitleLength;
+    private final float averageSubtitleLength;
+    private final float averageAuthorLength;
+
+    Bm25Scorer(String[] terms, float[] idf,
+               float averageTitleLength, float averageSubtitleLength, float averageAuthorLength) {
+        this.terms = terms;
+        this.idf = idf;
+        this.averageTitleLength = averageTitleLength;
+        this.averageSubtitleLength = averageSubtitleLength;
+        this.averageAuthorLength = averageAuthorLength;
+    }
+
+    static float idf(int documentCount, int documentFrequency) {
+        return (float) Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    float score(IndexedBook document) {
+        float score = 0f;
+        for (int i = 0; i < terms.length; i++) {
+            score += idf[i] * (TITLE_BOOST * fieldScore(document.title(), document.titleLength(), terms[i], averageTitleLength)
+                    + SUBTITLE_BOOST * fieldScore(document.subtitle(), document.subtitleLength(), terms[i], averageSubtitleLength)
+                    + AUTHOR_BOOST * fieldScore(document.author(), document.authorLength(), terms[i], averageAuthorLength));
+        }
+        return score;
+    }
+
+    private static float fieldScore(String text, int length, String term, float averageLength) {
+        int tf = occurrences(text, term);
+        if (tf == 0) {
+            return 0f;
+        }
+        float lengthRatio = averageLength > 0 ? length / averageLength : 1f;
+        return tf * (K1 + 1) / (tf + K1 * (1 - B + B * lengthRatio));
+    }
+
+    static int occurrences(String text, String term) {
+        if (text == null || term.isEmpty()) {
+            return 0;
+        }
+        int count = 0;
+        int from = text.indexOf(term);
+        while (from >= 0) {
+            count++;
+            from = text.indexOf(term, from + term.length());
+        }
+        return count;
+    }
+}
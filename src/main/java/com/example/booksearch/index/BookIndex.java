@@ -0,0 +1,369 @@
+package com.example.booksearch.index;
+
+import com.example.booksearch.domain.Book;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 도서 제목/저자에 대한 메모리 역색인
+ *
+ * 문자 n-gram 색인, 초성 n-gram 색인, 오타 검색용 BK-tree(토큰별 포스팅 리스트),
+ * 그리고 정렬/검증용 도서 필드 스냅샷을 보관한다.
+ * 부분 문자열 검색은 n-gram 후보를 원문으로 검증하여 LIKE '%term%' 과 동일한 결과를 돌려준다.
+ */
+@Component
+public class BookIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, IndexedBook> documents = new HashMap<>();
+    private final NGramIndex nGramIndex = new NGramIndex();
+    private final NGramIndex choseongIndex = new NGramIndex();
+    private final BkTree fuzzyIndex = new BkTree();
+    private final PostingList allDocuments = new PostingList();
+
+    private long titleLengthSum;
+    private long subtitleLengthSum;
+    private long authorLengthSum;
+
+    private volatile boolean ready;
+
+    public static int toDocId(Long bookId) {
+        // IDENTITY 키는 int 범위를 넘지 않는다고 가정 (넘으면 색인 대신 예외로 드러나도록)
+        return Math.toIntExact(bookId);
+    }
+
+    public void rebuild(Collection<Book> books) {
+        lock.writeLock().lock();
+        try {
+            nGramIndex.clear();
+            choseongIndex.clear();
+            fuzzyIndex.clear();
+            documents.clear();
+            allDocuments.clear();
+            titleLengthSum = 0;
+            subtitleLengthSum = 0;
+            authorLengthSum = 0;
+            for (Book book : books) {
+                addDocument(IndexedBook.from(book));
+            }
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void index(Book book) {
+        if (book.getId() == null) {
+            return;
+        }
+
+        IndexedBook document = IndexedBook.from(book);
+        lock.writeLock().lock();
+        try {
+            removeDocument(document.id());
+            addDocument(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long bookId) {
+        if (bookId == null) {
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeDocument(toDocId(bookId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * containing(term) 과 같고, 결과 크기를 documentFrequencies 에 남겨 {@link #topByRelevance} 가 다시 세지 않게 한다.
+     */
+    public PostingList containing(String term, Map<String, Integer> documentFrequencies) {
+        PostingList matches = containing(term);
+        documentFrequencies.put(term, matches.size());
+        return matches;
+    }
+
+    /**
+     * 제목 또는 저자에 term이 포함된 도서 ID 집합 (n-gram 후보를 원문으로 검증)
+     */
+    public PostingList containing(String term) {
+        lock.readLock().lock();
+        try {
+            if (term.isEmpty()) {
+                return allDocuments.copy();
+            }
+
+            PostingList candidates = nGramIndex.candidates(term);
+            PostingList verified = new PostingList();
+            for (int docId : candidates.toArray()) {
+                IndexedBook document = documents.get(docId);
+                if (matches(document, term)) {
+                    verified.add(document.id());
+                }
+            }
+            return verified;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 제목 또는 저자의 초성열에 choseong(예: "ㅍㅇㅆ")이 포함된 도서 ID 집합
+     */
+    public PostingList containingChoseong(String choseong) {
+        lock.readLock().lock();
+        try {
+            PostingList candidates = choseongIndex.candidates(choseong);
+            PostingList verified = new PostingList();
+            for (int docId : candidates.toArray()) {
+                IndexedBook document = documents.get(docId);
+                if (Choseong.extract(document.title()).contains(choseong)
+                        || Choseong.extract(document.author()).contains(choseong)) {
+                    verified.add(document.id());
+                }
+            }
+            return verified;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 제목 또는 저자에 term 과 편집 거리 maxEdits 이하인 토큰(대소문자 무시)이 있는 도서 ID 집합
+     */
+    public PostingList fuzzy(String term, int maxEdits) {
+        lock.readLock().lock();
+        try {
+            List<PostingList> matches = new ArrayList<>();
+            fuzzyIndex.search(NGramIndex.normalize(term), maxEdits, matches);
+            return PostingList.union(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * containing(term) 결과 크기의 추정치 (n-gram 포스팅 크기로 구한 상한, 원문 검증 없음)
+     */
+    public int estimateContaining(String term) {
+        lock.readLock().lock();
+        try {
+            return term.isEmpty() ? documents.size() : nGramIndex.estimate(term);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * containingChoseong(choseong) 결과 크기의 추정치
+     */
+    public int estimateChoseong(String choseong) {
+        lock.readLock().lock();
+        try {
+            return choseongIndex.estimate(choseong);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * fuzzy(term, maxEdits) 결과 크기의 추정치 (일치하는 토큰별 포스팅 크기의 합, 전체 도서 수 이하)
+     */
+    public int estimateFuzzy(String term, int maxEdits) {
+        lock.readLock().lock();
+        try {
+            List<PostingList> matches = new ArrayList<>();
+            fuzzyIndex.search(NGramIndex.normalize(term), maxEdits, matches);
+            long sum = 0;
+            for (PostingList postings : matches) {
+                sum += postings.size();
+            }
+            return (int) Math.min(sum, documents.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * docId 도서의 제목 또는 저자에 term 이 포함되는지 (포스팅 리스트를 만들지 않고 원문으로 확인)
+     */
+    public boolean documentContains(int docId, String term) {
+        IndexedBook document = document(docId);
+        return document != null && (term.isEmpty() || matches(document, term));
+    }
+
+    public boolean documentContainsChoseong(int docId, String choseong) {
+        IndexedBook document = document(docId);
+        return document != null
+                && (Choseong.extract(document.title()).contains(choseong)
+                || Choseong.extract(document.author()).contains(choseong));
+    }
+
+    public boolean documentMatchesFuzzy(int docId, String term, int maxEdits) {
+        IndexedBook document = document(docId);
+        if (document == null) {
+            return false;
+        }
+
+        String normalized = NGramIndex.normalize(term);
+        for (String token : tokensOf(document)) {
+            if (BkTree.distance(normalized, NGramIndex.normalize(token)) <= maxEdits) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 제목 또는 저자에 terms 중 하나라도 포함된 도서 ID 집합
+     */
+    public PostingList containingAny(List<String> terms) {
+        return containingAny(terms, new HashMap<>());
+    }
+
+    /**
+     * containingAny(terms) 와 같고, 검색어별 결과 크기를 documentFrequencies 에 남긴다.
+     */
+    public PostingList containingAny(List<String> terms, Map<String, Integer> documentFrequencies) {
+        List<PostingList> matches = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            matches.add(containing(term, documentFrequencies));
+        }
+        return PostingList.union(matches);
+    }
+
+    /**
+     * matches 중 terms 에 대한 BM25 점수 상위 limit 개의 도서 ID (점수 내림차순, 동점이면 ID 오름차순)
+     */
+    public int[] topByRelevance(PostingList matches, List<String> terms, int limit) {
+        return topByRelevance(matches, terms, Map.of(), limit);
+    }
+
+    /**
+     * documentFrequencies 는 매칭하면서 이미 센 검색어별 일치 도서 수. 없는 검색어만 containing 으로 다시 센다.
+     */
+    public int[] topByRelevance(PostingList matches, List<String> terms, Map<String, Integer> documentFrequencies,
+                                int limit) {
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            String[] termArray = terms.toArray(String[]::new);
+            float[] idf = new float[termArray.length];
+            for (int i = 0; i < termArray.length; i++) {
+                Integer documentFrequency = documentFrequencies.get(termArray[i]);
+                idf[i] = Bm25Scorer.idf(documentCount,
+                        documentFrequency != null ? documentFrequency : containing(termArray[i]).size());
+            }
+
+            Bm25Scorer scorer = new Bm25Scorer(termArray, idf,
+                    average(titleLengthSum, documentCount),
+                    average(subtitleLengthSum, documentCount),
+                    average(authorLengthSum, documentCount));
+            TopKHeap heap = new TopKHeap(Math.max(0, Math.min(limit, matches.size())));
+            matches.forEach(docId -> {
+                IndexedBook document = documents.get(docId);
+                if (document != null) {
+                    heap.offer(docId, scorer.score(document));
+                }
+            });
+            return heap.drainDescending();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public PostingList all() {
+        lock.readLock().lock();
+        try {
+            return allDocuments.copy();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public IndexedBook document(int docId) {
+        lock.readLock().lock();
+        try {
+            return documents.get(docId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private static float average(long sum, int count) {
+        return count == 0 ? 0f : (float) sum / count;
+    }
+
+    private boolean matches(IndexedBook document, String term) {
+        return (document.title() != null && document.title().contains(term))
+                || (document.author() != null && document.author().contains(term));
+    }
+
+    private void addDocument(IndexedBook document) {
+        documents.put(document.id(), document);
+        allDocuments.add(document.id());
+        titleLengthSum += document.titleLength();
+        subtitleLengthSum += document.subtitleLength();
+        authorLengthSum += document.authorLength();
+        for (String token : tokensOf(document)) {
+            fuzzyIndex.add(NGramIndex.normalize(token), document.id());
+        }
+        nGramIndex.add(document.id(), document.title());
+        nGramIndex.add(document.id(), document.author());
+        choseongIndex.add(document.id(), Choseong.extract(document.title()));
+        choseongIndex.add(document.id(), Choseong.extract(document.author()));
+    }
+
+    private void removeDocument(int docId) {
+        IndexedBook previous = documents.remove(docId);
+        if (previous == null) {
+            return;
+        }
+
+        allDocuments.remove(docId);
+        titleLengthSum -= previous.titleLength();
+        subtitleLengthSum -= previous.subtitleLength();
+        authorLengthSum -= previous.authorLength();
+        for (String token : tokensOf(previous)) {
+            fuzzyIndex.remove(NGramIndex.normalize(token), docId);
+        }
+        nGramIndex.remove(docId, previous.title());
+        nGramIndex.remove(docId, previous.author());
+        choseongIndex.remove(docId, Choseong.extract(previous.title()));
+        choseongIndex.remove(docId, Choseong.extract(previous.author()));
+    }
+
+    private Set<String> tokensOf(IndexedBook document) {
+        Set<String> tokens = new LinkedHashSet<>(TextTokenizer.tokenize(document.title()));
+        tokens.addAll(TextTokenizer.tokenize(document.author()));
+        return tokens;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.booksearch.index;
+
+import com.example.booksearch.config.SearchBackend;
+import com.example.booksearch.domain.BookChangedEvent;
+import com.example.booksearch.repository.BookRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 애플리케이션 기동 시 색인을 구축하고, 커밋된 도서 변경 사항을 색인에 반영한다.
+ */
+@Component
+public class BookIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(BookIndexer.class);
+
+    private final BookRepository bookRepository;
+    private final BookIndex bookIndex;
+    private final LuceneBookIndex luceneBookIndex;
+    private final SearchBackend searchBackend;
+
+    public BookIndexer(BookRepository bookRepository, BookIndex bookIndex, LuceneBookIndex luceneBookIndex,
+                       @Value("${booksearch.search.backend:database}") SearchBackend searchBackend) {
+        this.bookRepository = bookRepository;
+        this.bookIndex = bookIndex;
+        this.luceneBookIndex = luceneBookIndex;
+        this.searchBackend = searchBackend;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void buildIndex() {
+        long startTime = System.currentTimeMillis();
+        if (searchBackend == SearchBackend.INDEX) {
+            bookIndex.rebuild(bookRepository.findAll());
+            log.info("도서 색인 구축 완료: {}건, {}ms", bookIndex.size(), System.currentTimeMillis() - startTime);
+        } else if (searchBackend == SearchBackend.LUCENE) {
+            luceneBookIndex.rebuild(bookRepository.findAll());
+            log.info("Lucene 도서 색인 구축 완료: {}ms", System.currentTimeMillis() - startTime);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBookChanged(BookChangedEvent event) {
+        if (searchBackend == SearchBackend.INDEX) {
+            switch (event.changeType()) {
+                case SAVED -> bookIndex.index(event.book());
+                case DELETED -> bookIndex.remove(event.book().getId());
+            }
+        } else if (searchBackend == SearchBackend.LUCENE) {
+            switch (event.changeType()) {
+                case SAVED -> luceneBookIndex.index(event.book());
+                case DELETED -> luceneBookIndex.remove(event.book().getId());
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.booksearch.index;
+
+/**
+ * 한글 초성 추출/판별
+ *
+ * 완성형 음절(가~힣)을 자모로 분해해 초성만 남긴 문자열을 만든다. 초성 검색어와 비교할 수 없는
+ * 한글 이외의 문자는 공백으로 바꾸므로 "파이썬3 입문" 은 "ㅍㅇㅆ ㅇㅁ" 이 된다.
+ */
+public final class Choseong {
+
+    private static final char[] INITIALS = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char SYLLABLE_BEGIN = '가';
+    private static final char SYLLABLE_END = '힣';
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+
+    private Choseong() {
+    }
+
+    /**
+     * 초성 자모로만 이루어진 검색어인지 여부 (예: "ㅍㅇㅆ")
+     */
+    public static boolean isChoseongOnly(String term) {
+        if (term == null || term.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < term.length(); i++) {
+            if (!isInitial(term.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static String extract(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        char[] result = new char[text.length()];
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= SYLLABLE_BEGIN && c <= SYLLABLE_END) {
+                result[i] = INITIALS[(c - SYLLABLE_BEGIN) / SYLLABLES_PER_INITIAL];
+            } else if (isInitial(c)) {
+                result[i] = c;
+            } else {
+                result[i] = ' ';
+            }
+        }
+        return new String(result);
+    }
+
+    private static boolean isInitial(char c) {
+        for (char initial : INITIALS) {
+            if (initial == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.booksearch.index;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Roaring 방식 포스팅 리스트의 컨테이너 (상위 16비트가 같은 ID 들의 하위 16비트 집합)
+ *
+ * 원소가 {@link #ARRAY_MAX_SIZE} 개 이하이면 정렬 배열, 그보다 많으면 65536 비트 비트맵으로 표현한다.
+ * 변경 연산은 표현 방식이 바뀔 수 있으므로 결과 컨테이너를 돌려준다.
+ */
+abstract class Container {
+
+    static final int ARRAY_MAX_SIZE = 4096;
+
+    abstract Container add(char value);
+
+    abstract Container remove(char value);
+
+    abstract boolean contains(char value);
+
+    abstract int cardinality();
+
+    /**
+     * 오름차순 rank 번째 값 (0부터)
+     */
+    abstract char select(int rank);
+
+    /**
+     * value 보다 작은 값의 개수
+     */
+    abstract int rank(char value);
+
+    abstract Container and(Container other);
+
+    abstract Container or(Container other);
+
+    /**
+     * or 와 같지만 this 를 결과로 고쳐 쓸 수 있으면 새로 만들지 않는다 (this 는 호출한 쪽만 가진 컨테이너여야 한다).
+     */
+    Container orInPlace(Container other) {
+        return or(other);
+    }
+
+    abstract Container andNot(Container other);
+
+    abstract Container copy();
+
+    /**
+     * 오름차순으로 from 번째부터 count 개의 값을 high 를 붙여 target[offset..] 에 채운다.
+     */
+    abstract void fill(int high, int from, int count, int[] target, int offset);
+
+    /**
+     * 모든 값을 오름차순으로 high 를 붙여 전달한다.
+     */
+    abstract void forEach(int high, IntConsumer consumer);
+
+    static Container empty() {
+        return new ArrayContainer();
+    }
+}
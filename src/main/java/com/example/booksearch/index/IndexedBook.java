@@ -0,0 +1,34 @@
+package com.example.booksearch.index;
+
+import com.example.booksearch.domain.Book;
+
+import java.time.LocalDate;
+
+/**
+ * 색인에 보관되는 도서 필드 스냅샷 (매칭 검증과 정렬에 사용)
+ *
+ * 필드별 토큰 수는 BM25 길이 정규화와 평균 길이 합계에 쓰이므로 색인할 때 한 번만 센다.
+ */
+public record IndexedBook(
+        int id,
+        String title,
+        String subtitle,
+        String author,
+        LocalDate publicationDate,
+        int titleLength,
+        int subtitleLength,
+        int authorLength
+) {
+    public static IndexedBook from(Book book) {
+        return new IndexedBook(
+                BookIndex.toDocId(book.getId()),
+                book.getTitle(),
+                book.getSubtitle(),
+                book.getAuthor(),
+                book.getPublicationDate(),
+                TextTokenizer.countTokens(book.getTitle()),
+                TextTokenizer.countTokens(book.getSubtitle()),
+                TextTokenizer.countTokens(book.getAuthor())
+        );
+    }
+}
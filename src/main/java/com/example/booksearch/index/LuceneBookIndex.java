@@ -0,0 +1,287 @@
+package com.example.booksearch.index;
+
+import com.example.booksearch.domain.Book;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 도서 제목/저자에 대한 로컬 디스크 Lucene 색인 (lucene 백엔드)
+ *
+ * IndexWriter 에서 바로 여는 NRT 검색기를 SearcherManager 로 관리하므로 변경 사항은
+ * 커밋(fsync) 없이 갱신 직후부터 검색된다. 디스크 색인은 기동할 때마다 데이터베이스로 다시 구축한다.
+ * 검색어는 StandardAnalyzer 로 토큰화하고 토큰 단위 접두어 일치로 찾는다 (부분 문자열 일치가 아님).
+ */
+@Component
+public class LuceneBookIndex {
+
+    static final String BOOK_ID = "bookId";
+    static final String ID = "id";
+    static final String TITLE = "title";
+    static final String SUBTITLE = "subtitle";
+    static final String AUTHOR = "author";
+    static final String PUBLICATION_DATE = "publicationDate";
+    private static final String SORT_SUFFIX = "_sort";
+
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of(ID, TITLE, SUBTITLE, AUTHOR, PUBLICATION_DATE);
+    private static final List<String> SEARCH_FIELDS = List.of(TITLE, AUTHOR);
+
+    private final Path indexPath;
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean ready;
+
+    public LuceneBookIndex(@Value("${booksearch.search.lucene.path:${java.io.tmpdir}/booksearch-lucene}") Path indexPath) {
+        this.indexPath = indexPath;
+    }
+
+    public synchronized void rebuild(Collection<Book> books) {
+        try {
+            if (writer == null) {
+                open();
+            }
+            writer.deleteAll();
+            for (Book book : books) {
+                writer.addDocument(toDocument(book));
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+            ready = true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene 색인 구축에 실패했습니다: " + indexPath, e);
+        }
+    }
+
+    public void index(Book book) {
+        if (!ready || book.getId() == null) {
+            return;
+        }
+
+        try {
+            writer.updateDocument(new Term(BOOK_ID, book.getId().toString()), toDocument(book));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene 색인 갱신에 실패했습니다: " + book.getId(), e);
+        }
+    }
+
+    public void remove(Long bookId) {
+        if (!ready || bookId == null) {
+            return;
+        }
+
+        try {
+            writer.deleteDocuments(new Term(BOOK_ID, bookId.toString()));
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene 색인 삭제에 실패했습니다: " + bookId, e);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 요청한 정렬을 색인의 DocValues 로 처리할 수 있는지 여부 (정렬 없음은 점수순)
+     */
+    public boolean supports(Sort sort) {
+        return sort.stream().allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty()));
+    }
+
+    /**
+     * 포함어 중 하나 이상과 일치하고 제외어와는 하나도 일치하지 않는 도서의 [offset, offset + limit) 구간
+     */
+    public LuceneHits search(List<String> includeTerms, List<String> excludeTerms, Sort sort, int offset, int limit) {
+        Query query = toQuery(includeTerms, excludeTerms);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int total = searcher.count(query);
+                int end = (int) Math.min((long) offset + limit, total);
+                if (offset >= end) {
+                    return new LuceneHits(List.of(), total);
+                }
+
+                TopDocs topDocs = sort.isUnsorted()
+                        ? searcher.search(query, end)
+                        : searcher.search(query, end, toLuceneSort(sort));
+
+                StoredFields storedFields = searcher.storedFields();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                List<Long> bookIds = new ArrayList<>(Math.max(0, scoreDocs.length - offset));
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    Document document = storedFields.document(scoreDocs[i].doc, Set.of(BOOK_ID));
+                    bookIds.add(Long.parseLong(document.get(BOOK_ID)));
+                }
+                return new LuceneHits(bookIds, total);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Lucene 검색에 실패했습니다: " + query, e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        ready = false;
+        if (searcherManager != null) {
+            searcherManager.close();
+        }
+        if (writer != null) {
+            writer.close();
+        }
+        if (directory != null) {
+            directory.close();
+        }
+    }
+
+    private void open() throws IOException {
+        directory = FSDirectory.open(indexPath);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    private Query toQuery(List<String> includeTerms, List<String> excludeTerms) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (includeTerms.isEmpty()) {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        } else {
+            BooleanQuery.Builder includes = new BooleanQuery.Builder();
+            for (String includeTerm : includeTerms) {
+                includes.add(termQuery(includeTerm), BooleanClause.Occur.SHOULD);
+            }
+            builder.add(includes.build(), BooleanClause.Occur.MUST);
+        }
+
+        for (String excludeTerm : excludeTerms) {
+            builder.add(termQuery(excludeTerm), BooleanClause.Occur.MUST_NOT);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 검색어의 모든 토큰이 제목 또는 저자에 (접두어로) 나타나는 문서
+     */
+    private Query termQuery(String term) {
+        List<String> tokens = analyze(term);
+        if (tokens.isEmpty()) {
+            return new MatchNoDocsQuery("분석 후 토큰이 없는 검색어: " + term);
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String token : tokens) {
+            BooleanQuery.Builder tokenQuery = new BooleanQuery.Builder();
+            for (String field : SEARCH_FIELDS) {
+                // 정확히 일치하는 토큰은 점수를 받고, 접두어 일치는 상수 점수로 후보만 넓힌다
+                tokenQuery.add(new TermQuery(new Term(field, token)), BooleanClause.Occur.SHOULD);
+                tokenQuery.add(new PrefixQuery(new Term(field, token)), BooleanClause.Occur.SHOULD);
+            }
+            builder.add(tokenQuery.build(), BooleanClause.Occur.MUST);
+        }
+        return builder.build();
+    }
+
+    private List<String> analyze(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute attribute = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(attribute.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private org.apache.lucene.search.Sort toLuceneSort(Sort sort) {
+        List<SortField> sortFields = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            boolean reverse = order.isDescending();
+            SortField sortField = switch (order.getProperty()) {
+                case ID -> new SortField(ID, SortField.Type.LONG, reverse);
+                case PUBLICATION_DATE -> {
+                    SortField field = new SortField(PUBLICATION_DATE, SortField.Type.LONG, reverse);
+                    field.setMissingValue(Long.MAX_VALUE);
+                    yield field;
+                }
+                case TITLE, SUBTITLE, AUTHOR -> {
+                    SortField field = new SortField(order.getProperty() + SORT_SUFFIX, SortField.Type.STRING, reverse);
+                    field.setMissingValue(SortField.STRING_LAST);
+                    yield field;
+                }
+                default -> throw new IllegalArgumentException("Lucene 색인으로 정렬할 수 없는 속성입니다: " + order.getProperty());
+            };
+            sortFields.add(sortField);
+        }
+        sortFields.add(new SortField(ID, SortField.Type.LONG));
+        return new org.apache.lucene.search.Sort(sortFields.toArray(SortField[]::new));
+    }
+
+    private Document toDocument(Book book) {
+        Document document = new Document();
+        document.add(new StringField(BOOK_ID, book.getId().toString(), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID, book.getId()));
+        addText(document, TITLE, book.getTitle());
+        addText(document, SUBTITLE, book.getSubtitle());
+        addText(document, AUTHOR, book.getAuthor());
+        if (book.getPublicationDate() != null) {
+            document.add(new NumericDocValuesField(PUBLICATION_DATE, book.getPublicationDate().toEpochDay()));
+        }
+        return document;
+    }
+
+    private void addText(Document document, String field, String value) {
+        if (value == null) {
+            return;
+        }
+        document.add(new TextField(field, value, Field.Store.NO));
+        document.add(new SortedDocValuesField(field + SORT_SUFFIX, new BytesRef(value)));
+    }
+}
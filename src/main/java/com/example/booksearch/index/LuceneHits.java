@@ -0,0 +1,12 @@
+package com.example.booksearch.index;
+
+import java.util.List;
+
+/**
+ * Lucene 검색 결과 한 페이지 (순서대로 정렬된 도서 ID 와 전체 일치 건수)
+ */
+public record LuceneHits(
+        List<Long> bookIds,
+        long totalHits
+) {
+}
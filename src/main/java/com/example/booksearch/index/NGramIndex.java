@@ -0,0 +1,119 @@
+package com.example.booksearch.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문자 n-gram(1~3gram) 색인
+ *
+ * 공백 단위 토큰이 아닌 임의의 부분 문자열(예: "파이썬 머신러닝"의 "머신")을 찾기 위한 후보 집합을 만든다.
+ * gram은 문자 단위 소문자 변환만 거친 텍스트에서 뽑는다. 문자 단위 변환은 길이를 바꾸지 않으므로
+ * 원문에 검색어가 포함되면 정규화된 원문에도 정규화된 검색어의 모든 gram이 포함되고,
+ * 따라서 후보 집합은 항상 실제 결과의 상위 집합이 된다. 최종 결과는 호출하는 쪽에서 원문으로 검증한다.
+ */
+class NGramIndex {
+
+    static final int MAX_GRAM = 3;
+
+    private final Map<String, PostingList> grams = new HashMap<>();
+
+    void add(int docId, String text) {
+        for (String gram : gramsOf(text)) {
+            grams.computeIfAbsent(gram, key -> new PostingList()).add(docId);
+        }
+    }
+
+    void remove(int docId, String text) {
+        for (String gram : gramsOf(text)) {
+            PostingList postings = grams.get(gram);
+            if (postings != null && postings.remove(docId) && postings.isEmpty()) {
+                grams.remove(gram);
+            }
+        }
+    }
+
+    void clear() {
+        grams.clear();
+    }
+
+    /**
+     * term을 포함할 가능성이 있는 문서 후보 (검증 전)
+     */
+    PostingList candidates(String term) {
+        String normalized = normalize(term);
+        int gramLength = Math.min(normalized.length(), MAX_GRAM);
+
+        List<PostingList> postings = new ArrayList<>();
+        for (String gram : gramsOfLength(normalized, gramLength)) {
+            PostingList posting = grams.get(gram);
+            if (posting == null) {
+                return new PostingList();
+            }
+            postings.add(posting);
+        }
+
+        // 가장 짧은 포스팅 리스트부터 교집합
+        postings.sort(Comparator.comparingInt(PostingList::size));
+        PostingList result = postings.get(0);
+        for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+            result = result.and(postings.get(i));
+        }
+        return result.copy();
+    }
+
+    /**
+     * term 후보 수의 상한 (교집합 없이 가장 짧은 gram 포스팅 리스트 크기만 본다)
+     */
+    int estimate(String term) {
+        String normalized = normalize(term);
+        int gramLength = Math.min(normalized.length(), MAX_GRAM);
+
+        int estimate = Integer.MAX_VALUE;
+        for (String gram : gramsOfLength(normalized, gramLength)) {
+            PostingList posting = grams.get(gram);
+            if (posting == null) {
+                return 0;
+            }
+            estimate = Math.min(estimate, posting.size());
+        }
+        return estimate;
+    }
+
+    int gramCount() {
+        return grams.size();
+    }
+
+    private Set<String> gramsOf(String text) {
+        Set<String> result = new LinkedHashSet<>();
+        if (text == null) {
+            return result;
+        }
+
+        String normalized = normalize(text);
+        for (int length = 1; length <= MAX_GRAM; length++) {
+            result.addAll(gramsOfLength(normalized, length));
+        }
+        return result;
+    }
+
+    private static Set<String> gramsOfLength(String normalized, int length) {
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + length <= normalized.length(); i++) {
+            result.add(normalized.substring(i, i + length));
+        }
+        return result;
+    }
+
+    static String normalize(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+}
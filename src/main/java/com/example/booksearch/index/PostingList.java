@@ -0,0 +1,373 @@
+package com.example.booksearch.index;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.IntConsumer;
+
+/**
+ * 오름차순으로 정렬된 도서 ID 집합 (색인의 포스팅 리스트)
+ *
+ * Roaring 비트맵 방식으로 ID 의 상위 16비트마다 컨테이너를 두고, 컨테이너는 밀도에 따라
+ * 정렬 배열 또는 비트맵으로 표현한다. 합집합/차집합은 컨테이너 단위로 계산하고 (여러 집합의 합집합은 한 결과에 차례로 합친다),
+ * 페이지 구간은 컨테이너 크기를 건너뛰는 rank/select 로 바로 찾는다.
+ */
+public class PostingList {
+
+    private char[] keys;
+    private Container[] containers;
+    private int containerCount;
+    private int size;
+
+    public PostingList() {
+        this(new char[4], new Container[4], 0, 0);
+    }
+
+    private PostingList(char[] keys, Container[] containers, int containerCount, int size) {
+        this.keys = keys;
+        this.containers = containers;
+        this.containerCount = containerCount;
+        this.size = size;
+    }
+
+    public static PostingList of(int... ids) {
+        PostingList postingList = new PostingList();
+        for (int id : ids) {
+            postingList.add(id);
+        }
+        return postingList;
+    }
+
+    public static PostingList union(Collection<PostingList> lists) {
+        PostingList result = new PostingList();
+        for (PostingList list : lists) {
+            result.orInPlace(list);
+        }
+        return result;
+    }
+
+    public boolean add(int id) {
+        checkId(id);
+        char key = highBits(id);
+        int position = Arrays.binarySearch(keys, 0, containerCount, key);
+        if (position < 0) {
+            position = insertContainer(-position - 1, key, Container.empty());
+        }
+
+        Container container = containers[position];
+        int before = container.cardinality();
+        containers[position] = container.add(lowBits(id));
+        if (containers[position].cardinality() == before) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    public boolean remove(int id) {
+        if (id < 0) {
+            return false;
+        }
+        int position = Arrays.binarySearch(keys, 0, containerCount, highBits(id));
+        if (position < 0) {
+            return false;
+        }
+
+        Container container = containers[position];
+        int before = container.cardinality();
+        containers[position] = container.remove(lowBits(id));
+        if (containers[position].cardinality() == before) {
+            return false;
+        }
+        size--;
+        if (containers[position].cardinality() == 0) {
+            removeContainer(position);
+        }
+        return true;
+    }
+
+    public void clear() {
+        keys = new char[4];
+        containers = new Container[4];
+        containerCount = 0;
+        size = 0;
+    }
+
+    public boolean contains(int id) {
+        if (id < 0) {
+            return false;
+        }
+        int position = Arrays.binarySearch(keys, 0, containerCount, highBits(id));
+        return position >= 0 && containers[position].contains(lowBits(id));
+    }
+
+    /**
+     * 정렬 순서상 index 번째 ID (select)
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        int remaining = index;
+        for (int i = 0; i < containerCount; i++) {
+            int cardinality = containers[i].cardinality();
+            if (remaining < cardinality) {
+                return (keys[i] << 16) | containers[i].select(remaining);
+            }
+            remaining -= cardinality;
+        }
+        throw new IllegalStateException("컨테이너 크기 합계가 size 와 다릅니다.");
+    }
+
+    /**
+     * id 보다 작은 ID 의 개수 (rank). 커서 다음 위치를 컨테이너 크기만 더해 찾는다.
+     */
+    public int rank(int id) {
+        if (id <= 0) {
+            return 0;
+        }
+
+        char high = highBits(id);
+        int count = 0;
+        for (int i = 0; i < containerCount && keys[i] <= high; i++) {
+            if (keys[i] < high) {
+                count += containers[i].cardinality();
+            } else {
+                count += containers[i].rank(lowBits(id));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 오름차순 [from, to) 구간의 ID. 앞쪽 컨테이너는 크기만 보고 건너뛴다.
+     */
+    public int[] slice(int from, int to) {
+        int start = Math.max(0, Math.min(from, size));
+        int end = Math.max(start, Math.min(to, size));
+        int[] result = new int[end - start];
+
+        int skipped = 0;
+        int written = 0;
+        for (int i = 0; i < containerCount && written < result.length; i++) {
+            int cardinality = containers[i].cardinality();
+            if (skipped + cardinality <= start) {
+                skipped += cardinality;
+                continue;
+            }
+
+            int offsetInContainer = Math.max(0, start - skipped);
+            int count = Math.min(cardinality - offsetInContainer, result.length - written);
+            containers[i].fill(keys[i] << 16, offsetInContainer, count, result, written);
+            written += count;
+            skipped += cardinality;
+        }
+        return result;
+    }
+
+    /**
+     * 내림차순 [from, to) 구간의 ID
+     */
+    public int[] sliceDescending(int from, int to) {
+        int start = Math.max(0, Math.min(from, size));
+        int end = Math.max(start, Math.min(to, size));
+        int[] ascending = slice(size - end, size - start);
+
+        int[] result = new int[ascending.length];
+        for (int i = 0; i < ascending.length; i++) {
+            result[i] = ascending[ascending.length - 1 - i];
+        }
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public PostingList and(PostingList other) {
+        PostingList result = new PostingList();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public PostingList or(PostingList other) {
+        PostingList result = new PostingList();
+        int i = 0;
+        int j = 0;
+        while (i < containerCount && j < other.containerCount) {
+            if (keys[i] < other.keys[j]) {
+                result.appendContainer(keys[i], containers[i].copy());
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                result.appendContainer(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendContainer(keys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        for (; i < containerCount; i++) {
+            result.appendContainer(keys[i], containers[i].copy());
+        }
+        for (; j < other.containerCount; j++) {
+            result.appendContainer(other.keys[j], other.containers[j].copy());
+        }
+        return result;
+    }
+
+    /**
+     * other 를 이 집합에 합친다. 같은 키의 컨테이너는 제자리에서 합치고(비트맵은 복사 없이 OR),
+     * 이 집합에 없는 키의 컨테이너만 복사해 넣으므로 이 집합 전체를 다시 복사하지 않는다.
+     */
+    private void orInPlace(PostingList other) {
+        int capacity = Math.max(4, containerCount + other.containerCount);
+        char[] mergedKeys = new char[capacity];
+        Container[] merged = new Container[capacity];
+        int count = 0;
+        int mergedSize = 0;
+        int i = 0;
+        int j = 0;
+        while (i < containerCount || j < other.containerCount) {
+            char key;
+            Container container;
+            if (j == other.containerCount || (i < containerCount && keys[i] < other.keys[j])) {
+                key = keys[i];
+                container = containers[i++];
+            } else if (i == containerCount || keys[i] > other.keys[j]) {
+                key = other.keys[j];
+                container = other.containers[j++].copy();
+            } else {
+                key = keys[i];
+                container = containers[i++].orInPlace(other.containers[j++]);
+            }
+            mergedKeys[count] = key;
+            merged[count++] = container;
+            mergedSize += container.cardinality();
+        }
+        keys = mergedKeys;
+        containers = merged;
+        containerCount = count;
+        size = mergedSize;
+    }
+
+    public PostingList andNot(PostingList other) {
+        PostingList result = new PostingList();
+        int j = 0;
+        for (int i = 0; i < containerCount; i++) {
+            while (j < other.containerCount && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.containerCount && other.keys[j] == keys[i]) {
+                result.appendContainer(keys[i], containers[i].andNot(other.containers[j]));
+            } else {
+                result.appendContainer(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 여러 집합을 한 번에 제외 (제외 집합들의 합집합과의 차집합)
+     */
+    public PostingList andNot(Collection<PostingList> others) {
+        return others.isEmpty() ? copy() : andNot(union(others));
+    }
+
+    public PostingList copy() {
+        PostingList result = new PostingList(new char[Math.max(containerCount, 4)],
+                new Container[Math.max(containerCount, 4)], 0, 0);
+        for (int i = 0; i < containerCount; i++) {
+            result.appendContainer(keys[i], containers[i].copy());
+        }
+        return result;
+    }
+
+    /**
+     * 배열로 복사하지 않고 ID 를 오름차순으로 순회한다.
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < containerCount; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    public int[] toArray() {
+        return slice(0, size);
+    }
+
+    private void appendContainer(char key, Container container) {
+        if (container.cardinality() == 0) {
+            return;
+        }
+        ensureCapacity(containerCount + 1);
+        keys[containerCount] = key;
+        containers[containerCount] = container;
+        containerCount++;
+        size += container.cardinality();
+    }
+
+    private int insertContainer(int position, char key, Container container) {
+        ensureCapacity(containerCount + 1);
+        System.arraycopy(keys, position, keys, position + 1, containerCount - position);
+        System.arraycopy(containers, position, containers, position + 1, containerCount - position);
+        keys[position] = key;
+        containers[position] = container;
+        containerCount++;
+        return position;
+    }
+
+    private void removeContainer(int position) {
+        System.arraycopy(keys, position + 1, keys, position, containerCount - position - 1);
+        System.arraycopy(containers, position + 1, containers, position, containerCount - position - 1);
+        containerCount--;
+        containers[containerCount] = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int newCapacity = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, newCapacity);
+            containers = Arrays.copyOf(containers, newCapacity);
+        }
+    }
+
+    private static void checkId(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("음수 ID 는 색인할 수 없습니다: " + id);
+        }
+    }
+
+    private static char highBits(int id) {
+        return (char) (id >>> 16);
+    }
+
+    private static char lowBits(int id) {
+        return (char) id;
+    }
+
+    @Override
+    public String toString() {
+        return "PostingList{" +
+                "size=" + size +
+                ", ids=" + Arrays.toString(slice(0, 10)) +
+                (size > 10 ? "..." : "") +
+                '}';
+    }
+}
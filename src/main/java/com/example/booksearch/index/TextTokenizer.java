@@ -0,0 +1,63 @@
+package com.example.booksearch.index;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공백 기준 토크나이저
+ *
+ * QueryParser가 검색어를 나누는 공백 문자 집합(\s)과 동일한 기준으로 자르므로,
+ * 공백을 포함하지 않는 검색어가 필드에 부분 문자열로 존재하면 반드시 어떤 토큰의 부분 문자열이 된다.
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i < text.length(); i++) {
+            if (isSeparator(text.charAt(i))) {
+                if (start >= 0) {
+                    tokens.add(text.substring(start, i));
+                    start = -1;
+                }
+            } else if (start < 0) {
+                start = i;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(text.substring(start));
+        }
+        return tokens;
+    }
+
+    /**
+     * 토큰 목록을 만들지 않고 토큰 수만 센다.
+     */
+    public static int countTokens(String text) {
+        if (text == null) {
+            return 0;
+        }
+
+        int count = 0;
+        boolean inToken = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean separator = isSeparator(text.charAt(i));
+            if (!separator && !inToken) {
+                count++;
+            }
+            inToken = !separator;
+        }
+        return count;
+    }
+
+    public static boolean isSeparator(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.booksearch.index;
+
+/**
+ * 점수 상위 k 개 문서를 고르는 크기 제한 최소 힙
+ *
+ * 전체 결과를 정렬하지 않고 O(n log k) 로 상위 k 개만 남긴다. 점수가 같으면 ID 가 작은 문서를 우선한다.
+ * 박싱을 피하려고 문서 ID 와 점수를 기본형 배열 두 개로 보관한다.
+ */
+final class TopKHeap {
+
+    private final int[] docIds;
+    private final float[] scores;
+    private int size;
+
+    TopKHeap(int capacity) {
+        this.docIds = new int[capacity];
+        this.scores = new float[capacity];
+    }
+
+    void offer(int docId, float score) {
+        if (docIds.length == 0) {
+            return;
+        }
+        if (size < docIds.length) {
+            docIds[size] = docId;
+            scores[size] = score;
+            siftUp(size++);
+        } else if (isWorse(docIds[0], scores[0], docId, score)) {
+            docIds[0] = docId;
+            scores[0] = score;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * 점수 내림차순으로 정렬된 문서 ID (힙을 비운다)
+     */
+    int[] drainDescending() {
+        int[] result = new int[size];
+        for (int i = size - 1; i >= 0; i--) {
+            result[i] = docIds[0];
+            size--;
+            docIds[0] = docIds[size];
+            scores[0] = scores[size];
+            siftDown(0);
+        }
+        return result;
+    }
+
+    /**
+     * (aId, aScore) 가 (bId, bScore) 보다 순위가 낮은지 여부
+     */
+    private static boolean isWorse(int aId, float aScore, int bId, float bScore) {
+        return aScore < bScore || (aScore == bScore && aId > bId);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isWorse(docIds[index], scores[index], docIds[parent], scores[parent])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = index * 2 + 1;
+            if (left >= size) {
+                return;
+            }
+            int right = left + 1;
+            int worst = right < size && isWorse(docIds[right], scores[right], docIds[left], scores[left]) ? right : left;
+            if (!isWorse(docIds[worst], scores[worst], docIds[index], scores[index])) {
+                return;
+            }
+            swap(index, worst);
+            index = worst;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int docId = docIds[i];
+        docIds[i] = docIds[j];
+        docIds[j] = docId;
+        float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.booksearch.query;
+
+import com.example.booksearch.exception.InvalidSearchQueryException;
+import com.example.booksearch.index.TextTokenizer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 불리언 검색식 파서 (재귀 하강)
+ *
+ * <pre>
+ * query   := or EOF
+ * or      := and (("|" | "OR")? and)*      공백으로 이어진 항은 기존 문법과 같이 OR
+ * and     := unary ("AND" unary)*
+ * unary   := ("-" | "NOT") unary | "(" or ")" | "\"phrase\"" | term
+ * </pre>
+ * AND 가 OR 보다 먼저 묶이고, 연산자 키워드는 대문자로 쓴 독립된 단어일 때만 연산자로 본다.
+ */
+public class BooleanQueryParser {
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+
+    private final Function<String, TermNode> termFactory;
+
+    /**
+     * @param termFactory 따옴표 밖의 검색어를 초성/오타 허용 여부에 맞는 노드로 바꾼다
+     */
+    public BooleanQueryParser(Function<String, TermNode> termFactory) {
+        this.termFactory = termFactory;
+    }
+
+    /**
+     * 괄호, 따옴표, 연산자 키워드처럼 기존 검색 문법에 없는 구문을 쓰는지 여부
+     */
+    public static boolean usesBooleanSyntax(String query) {
+        int wordStart = 0;
+        for (int i = 0; i <= query.length(); i++) {
+            if (i == query.length() || TextTokenizer.isSeparator(query.charAt(i))) {
+                if (isOperatorWord(query, wordStart, i - wordStart)) {
+                    return true;
+                }
+                wordStart = i + 1;
+                continue;
+            }
+            char c = query.charAt(i);
+            if (c == '(' || c == ')' || c == '"') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isOperatorWord(String query, int start, int length) {
+        return (length == AND.length() && query.startsWith(AND, start))
+                || (length == OR.length() && query.startsWith(OR, start))
+                || (length == NOT.length() && query.startsWith(NOT, start));
+    }
+
+    public QueryNode parse(String query) {
+        return new Parser(query, tokenize(query)).parseQuery();
+    }
+
+    private List<Token> tokenize(String query) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < query.length()) {
+            char c = query.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')' || c == '|') {
+                tokens.add(new Token(TokenType.of(c), String.valueOf(c)));
+                i++;
+            } else if (c == '-') {
+                // 단어 앞의 - 만 제외 연산자로 본다 (단어 중간의 - 는 검색어의 일부)
+                tokens.add(new Token(TokenType.NOT, "-"));
+                i++;
+            } else if (c == '"') {
+                int end = query.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new InvalidSearchQueryException(query, "따옴표가 닫히지 않았습니다");
+                }
+                String phrase = query.substring(i + 1, end).trim();
+                if (!phrase.isEmpty()) {
+                    tokens.add(new Token(TokenType.PHRASE, phrase));
+                }
+                i = end + 1;
+            } else {
+                int start = i;
+                while (i < query.length() && !isDelimiter(query.charAt(i))) {
+                    i++;
+                }
+                String word = query.substring(start, i);
+                tokens.add(switch (word) {
+                    case AND -> new Token(TokenType.AND, word);
+                    case OR -> new Token(TokenType.OR, word);
+                    case NOT -> new Token(TokenType.NOT, word);
+                    default -> new Token(TokenType.TERM, word);
+                });
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')' || c == '|' || c == '"';
+    }
+
+    private enum TokenType {
+        TERM, PHRASE, AND, OR, NOT, LEFT_PAREN, RIGHT_PAREN;
+
+        static TokenType of(char c) {
+            return switch (c) {
+                case '(' -> LEFT_PAREN;
+                case ')' -> RIGHT_PAREN;
+                default -> OR;
+            };
+        }
+    }
+
+    private record Token(TokenType type, String text) {
+    }
+
+    private final class Parser {
+
+        private final String query;
+        private final List<Token> tokens;
+        private int position;
+
+        private Parser(String query, List<Token> tokens) {
+            this.query = query;
+            this.tokens = tokens;
+        }
+
+        QueryNode parseQuery() {
+            if (tokens.isEmpty()) {
+                throw new InvalidSearchQueryException(query, "검색어가 없습니다");
+            }
+            QueryNode root = parseOr();
+            if (position < tokens.size()) {
+                throw new InvalidSearchQueryException(query, "예상하지 못한 '" + tokens.get(position).text() + "'");
+            }
+            // 제외 조건만 있는 검색식은 전체 도서에서 빼는 AND 로 둔다
+            return root instanceof NotNode ? new AndNode(List.of(root)) : root;
+        }
+
+        private QueryNode parseOr() {
+            List<QueryNode> operands = new ArrayList<>();
+            operands.add(parseAnd());
+            while (position < tokens.size()) {
+                TokenType type = peek();
+                if (type == TokenType.OR) {
+                    position++;
+                    operands.add(parseAnd());
+                } else if (startsOperand(type)) {
+                    operands.add(parseAnd());
+                } else {
+                    break;
+                }
+            }
+            return QueryNodes.or(operands);
+        }
+
+        private QueryNode parseAnd() {
+            List<QueryNode> operands = new ArrayList<>();
+            operands.add(parseUnary());
+            while (position < tokens.size() && peek() == TokenType.AND) {
+                position++;
+                operands.add(parseUnary());
+            }
+            return QueryNodes.and(operands);
+        }
+
+        private QueryNode parseUnary() {
+            if (position >= tokens.size()) {
+                throw new InvalidSearchQueryException(query, "연산자 뒤에 검색어가 없습니다");
+            }
+
+            Token token = tokens.get(position++);
+            return switch (token.type()) {
+                case NOT -> QueryNodes.not(parseUnary());
+                case LEFT_PAREN -> {
+                    if (position < tokens.size() && peek() == TokenType.RIGHT_PAREN) {
+                        throw new InvalidSearchQueryException(query, "빈 괄호가 있습니다");
+                    }
+                    QueryNode inner = parseOr();
+                    if (position >= tokens.size() || peek() != TokenType.RIGHT_PAREN) {
+                        throw new InvalidSearchQueryException(query, "괄호가 닫히지 않았습니다");
+                    }
+                    position++;
+                    yield inner;
+                }
+                case PHRASE -> TermNode.of(token.text());
+                case TERM -> termFactory.apply(token.text());
+                default -> throw new InvalidSearchQueryException(query, "예상하지 못한 '" + token.text() + "'");
+            };
+        }
+
+        private TokenType peek() {
+            return tokens.get(position).type();
+        }
+
+        private boolean startsOperand(TokenType type) {
+            return type == TokenType.TERM || type == TokenType.PHRASE
+                    || type == TokenType.NOT || type == TokenType.LEFT_PAREN;
+        }
+    }
+}
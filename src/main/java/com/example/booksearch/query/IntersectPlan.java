@@ -0,0 +1,115 @@
+package com.example.booksearch.query;
+
+import com.example.booksearch.index.BookIndex;
+import com.example.booksearch.index.PostingList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * AND 노드. 포함 조건은 예상 건수가 적은 순으로, 제외 조건은 그 뒤에 적용한다.
+ * 앞 단계 후보가 이미 충분히 작으면 뒤 조건은 포스팅 리스트를 만들지 않고 후보를 하나씩 확인(FILTER)한다.
+ */
+final class IntersectPlan extends PlanNode {
+
+    private final List<PlanNode> included;
+    private final List<PlanNode> excluded;
+
+    IntersectPlan(List<PlanNode> included, List<PlanNode> excluded, long estimatedRows) {
+        super(estimatedRows);
+        this.included = included;
+        this.excluded = excluded;
+    }
+
+    @Override
+    PostingList evaluate(BookIndex index) {
+        // 포함 조건이 없으면 전체 도서에서 뺀다
+        PostingList result = included.isEmpty() ? index.all() : included.get(0).execute(index);
+        for (int i = 1; i < included.size() && !result.isEmpty(); i++) {
+            PlanNode operand = included.get(i);
+            result = operand.accessPath() == Access.FILTER
+                    ? filter(index, result, operand, true)
+                    : result.and(operand.execute(index));
+        }
+        for (int i = 0; i < excluded.size() && !result.isEmpty(); i++) {
+            PlanNode operand = excluded.get(i);
+            result = operand.accessPath() == Access.FILTER
+                    ? filter(index, result, operand, false)
+                    : result.andNot(operand.execute(index));
+        }
+        return result;
+    }
+
+    /**
+     * candidates 중 operand 와 일치 여부가 keep 인 도서만 남긴다. operand 의 실제 건수는 후보 중 일치한 수로 남긴다.
+     */
+    private static PostingList filter(BookIndex index, PostingList candidates, PlanNode operand, boolean keep) {
+        PostingList kept = new PostingList();
+        int[] matched = new int[1];
+        candidates.forEach(docId -> {
+            boolean matches = operand.test(index, docId);
+            if (matches) {
+                matched[0]++;
+            }
+            if (matches == keep) {
+                kept.add(docId);
+            }
+        });
+        operand.actualRows(matched[0]);
+        return kept;
+    }
+
+    @Override
+    boolean test(BookIndex index, int docId) {
+        for (PlanNode operand : included) {
+            if (!operand.test(index, docId)) {
+                return false;
+            }
+        }
+        for (PlanNode operand : excluded) {
+            if (operand.test(index, docId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    int checkCost() {
+        return children().stream().mapToInt(PlanNode::checkCost).sum();
+    }
+
+    @Override
+    long lookupCost() {
+        return children().stream().mapToLong(PlanNode::lookupCost).sum();
+    }
+
+    @Override
+    String operator() {
+        return "AND";
+    }
+
+    @Override
+    String detail() {
+        return null;
+    }
+
+    @Override
+    List<PlanNode> children() {
+        List<PlanNode> children = new ArrayList<>(included);
+        children.addAll(excluded);
+        return children;
+    }
+
+    @Override
+    PlanStep explain() {
+        PlanStep step = super.explain();
+        List<PlanStep> steps = new ArrayList<>(step.children().size());
+        for (int i = 0; i < step.children().size(); i++) {
+            PlanStep child = step.children().get(i);
+            steps.add(i < included.size() ? child : PlanStep.excluding(child));
+        }
+        return new PlanStep(step.operator(), step.detail(), step.access(),
+                step.estimatedRows(), step.actualRows(), steps);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.booksearch.query;
+
+import java.util.List;
+
+public record NotNode(QueryNode operand) implements QueryNode {
+
+    @Override
+    public List<QueryNode> children() {
+        return List.of(operand);
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + operand;
+    }
+}
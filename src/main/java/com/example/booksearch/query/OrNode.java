@@ -0,0 +1,12 @@
+package com.example.booksearch.query;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+public record OrNode(List<QueryNode> children) implements QueryNode {
+
+    @Override
+    public String toString() {
+        return children.stream().map(Object::toString).collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.booksearch.query;
+
+import com.example.booksearch.index.BookIndex;
+import com.example.booksearch.index.PostingList;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 실행 계획 노드
+ *
+ * 노드는 색인으로 일치 집합 전체를 만들 수도 있고(execute), 도서 한 권이 조건에 맞는지만 확인할 수도 있다(test).
+ * 어느 쪽으로 쓸지는 부모 AND 노드가 예상 건수로 정한다. 실행 결과 건수는 explain 을 위해 노드에 남긴다.
+ */
+abstract class PlanNode {
+
+    enum Access {
+        INDEX, FILTER
+    }
+
+    private long estimatedRows;
+    private long actualRows = -1;
+    private Access access = Access.INDEX;
+
+    PlanNode(long estimatedRows) {
+        this.estimatedRows = estimatedRows;
+    }
+
+    final PostingList execute(BookIndex index) {
+        PostingList result = evaluate(index);
+        actualRows = result.size();
+        return result;
+    }
+
+    abstract PostingList evaluate(BookIndex index);
+
+    abstract boolean test(BookIndex index, int docId);
+
+    /**
+     * 도서 한 권을 확인하는 비용 (원문 검사 횟수 기준)
+     */
+    abstract int checkCost();
+
+    abstract String operator();
+
+    abstract String detail();
+
+    abstract List<PlanNode> children();
+
+    /**
+     * 실행 중 색인으로 일치 집합 전체를 만든 일반 검색어의 일치 도서 수를 모은다 (BM25 idf 용).
+     */
+    void collectDocumentFrequencies(Map<String, Integer> documentFrequencies) {
+        for (PlanNode child : children()) {
+            child.collectDocumentFrequencies(documentFrequencies);
+        }
+    }
+
+    /**
+     * 색인으로 일치 집합 전체를 만드는 비용 (원문으로 검증할 후보 수 기준)
+     */
+    long lookupCost() {
+        return estimatedRows;
+    }
+
+    PlanStep explain() {
+        return new PlanStep(operator(), detail(), access.name(),
+                estimatedRows, actualRows < 0 ? null : actualRows,
+                children().stream().map(PlanNode::explain).toList());
+    }
+
+    long estimatedRows() {
+        return estimatedRows;
+    }
+
+    void estimatedRows(long estimatedRows) {
+        this.estimatedRows = estimatedRows;
+    }
+
+    void actualRows(long actualRows) {
+        this.actualRows = actualRows;
+    }
+
+    Access accessPath() {
+        return access;
+    }
+
+    void accessPath(Access access) {
+        this.access = access;
+    }
+}
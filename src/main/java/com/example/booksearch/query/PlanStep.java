@@ -0,0 +1,23 @@
+package com.example.booksearch.query;
+
+import java.util.List;
+
+/**
+ * 실행 계획 한 단계의 explain 결과
+ *
+ * @param access        INDEX(포스팅 리스트 조회) 또는 FILTER(앞 단계 후보를 원문으로 확인), 합성 단계는 null
+ * @param estimatedRows 계획 시점의 예상 건수 (FILTER 는 후보 중 일치할 예상 건수)
+ * @param actualRows    실행 후 실제 건수, 실행되지 않은 단계는 null
+ */
+public record PlanStep(
+        String operator,
+        String detail,
+        String access,
+        Long estimatedRows,
+        Long actualRows,
+        List<PlanStep> children
+) {
+    static PlanStep excluding(PlanStep operand) {
+        return new PlanStep("NOT", null, null, null, null, List.of(operand));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.booksearch.query;
+
+import java.util.List;
+
+/**
+ * 검색식 AST 노드 (검색어, AND, OR, NOT)
+ */
+public sealed interface QueryNode permits TermNode, AndNode, OrNode, NotNode {
+
+    /**
+     * 자식 노드 (검색어는 빈 목록)
+     */
+    List<QueryNode> children();
+}
@@ -0,0 +1,67 @@
+package com.example.booksearch.query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 정규화된 AST 를 만드는 팩토리
+ *
+ * 같은 연산자는 평평하게 펴고, 이중 부정은 지운다. OR 묶음 안의 제외 항(-term)은 기존 검색 문법과 같이
+ * 묶음 전체에서 빼는 조건으로 바꾼다 ("a | b -c" → (a OR b) AND NOT c).
+ * 파서가 돌려주는 최상위 노드가 NOT 이면 AND 로 감싸므로, 완성된 검색식에서 NOT 노드는 항상 AND 노드의 자식이다.
+ */
+public final class QueryNodes {
+
+    private QueryNodes() {
+    }
+
+    public static QueryNode and(List<QueryNode> operands) {
+        List<QueryNode> flattened = new ArrayList<>();
+        for (QueryNode operand : operands) {
+            if (operand instanceof AndNode and) {
+                flattened.addAll(and.children());
+            } else {
+                flattened.add(operand);
+            }
+        }
+        return flattened.size() == 1 ? flattened.get(0) : new AndNode(List.copyOf(flattened));
+    }
+
+    public static QueryNode or(List<QueryNode> operands) {
+        List<QueryNode> included = new ArrayList<>();
+        List<QueryNode> excluded = new ArrayList<>();
+        for (QueryNode operand : operands) {
+            if (operand instanceof OrNode or) {
+                included.addAll(or.children());
+            } else if (operand instanceof NotNode) {
+                excluded.add(operand);
+            } else {
+                included.add(operand);
+            }
+        }
+
+        if (excluded.isEmpty()) {
+            return included.size() == 1 ? included.get(0) : new OrNode(List.copyOf(included));
+        }
+
+        List<QueryNode> conjunction = new ArrayList<>();
+        if (!included.isEmpty()) {
+            conjunction.add(included.size() == 1 ? included.get(0) : new OrNode(List.copyOf(included)));
+        }
+        conjunction.addAll(excluded);
+        // 제외 항만 남아도 AND 로 감싸 전체 도서에서 빼는 조건임을 드러낸다
+        QueryNode result = and(conjunction);
+        return result instanceof NotNode ? new AndNode(List.of(result)) : result;
+    }
+
+    public static QueryNode not(QueryNode operand) {
+        if (operand instanceof NotNode not) {
+            return not.operand();
+        }
+        if (operand instanceof AndNode and && and.children().stream().allMatch(NotNode.class::isInstance)) {
+            // NOT (NOT a AND NOT b) = a OR b
+            return or(and.children().stream().map(QueryNodes::not).toList());
+        }
+        return new NotNode(operand);
+    }
+}
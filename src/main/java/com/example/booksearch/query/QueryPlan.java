@@ -0,0 +1,43 @@
+package com.example.booksearch.query;
+
+import com.example.booksearch.index.BookIndex;
+import com.example.booksearch.index.PostingList;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link QueryPlanner} 가 만든 실행 계획. 실행하면 단계별 실제 건수가 남으므로 요청마다 새로 만든다.
+ */
+public final class QueryPlan {
+
+    private final PlanNode root;
+
+    QueryPlan(PlanNode root) {
+        this.root = root;
+    }
+
+    public PostingList execute(BookIndex index) {
+        return root.execute(index);
+    }
+
+    /**
+     * 실행하고, 색인으로 일치 집합을 만든 검색어별 일치 도서 수를 documentFrequencies 에 남긴다.
+     */
+    public PostingList execute(BookIndex index, Map<String, Integer> documentFrequencies) {
+        PostingList result = root.execute(index);
+        root.collectDocumentFrequencies(documentFrequencies);
+        return result;
+    }
+
+    public PlanStep explain() {
+        return root.explain();
+    }
+
+    /**
+     * 색인 없이 데이터베이스 쿼리 하나로 실행한 경우의 explain (예상 건수 없음)
+     */
+    public static PlanStep databaseScan(QueryNode expression, long actualRows) {
+        return new PlanStep("DATABASE_SCAN", expression.toString(), "SCAN", null, actualRows, List.of());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.booksearch.query;
+
+import com.example.booksearch.index.BookIndex;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 검색식을 메모리 색인 실행 계획으로 바꾼다.
+ *
+ * 검색어별 예상 건수는 색인의 n-gram/BK-tree 포스팅 크기로 구하고, 조건 사이는 서로 독립이라고 보고 곱한다.
+ * AND 는 예상 건수가 가장 적은 포함 조건부터 교집합하고 제외 조건은 마지막에 뺀다.
+ * 뒤 조건마다 "남은 후보를 원문으로 확인하는 비용"과 "조건의 포스팅 리스트를 만드는 비용"을 비교해
+ * 더 싼 쪽(FILTER 또는 INDEX)을 고른다.
+ */
+public final class QueryPlanner {
+
+    private QueryPlanner() {
+    }
+
+    public static QueryPlan plan(QueryNode expression, BookIndex index) {
+        return new QueryPlan(compile(expression, index, index.size()));
+    }
+
+    private static PlanNode compile(QueryNode node, BookIndex index, int documentCount) {
+        if (node instanceof TermNode term) {
+            return TermPlan.of(term, index);
+        }
+        if (node instanceof OrNode or) {
+            List<PlanNode> operands = new ArrayList<>();
+            double missProbability = 1;
+            for (QueryNode child : or.children()) {
+                PlanNode operand = compile(child, index, documentCount);
+                operands.add(operand);
+                missProbability *= 1 - fraction(operand, documentCount);
+            }
+            return new UnionPlan(operands, Math.round(documentCount * (1 - missProbability)));
+        }
+        if (node instanceof AndNode and) {
+            return compileAnd(and.children(), index, documentCount);
+        }
+        return compileAnd(List.of(node), index, documentCount);
+    }
+
+    private static PlanNode compileAnd(List<QueryNode> children, BookIndex index, int documentCount) {
+        List<PlanNode> included = new ArrayList<>();
+        List<PlanNode> excluded = new ArrayList<>();
+        for (QueryNode child : children) {
+            if (child instanceof NotNode not) {
+                excluded.add(compile(not.operand(), index, documentCount));
+            } else {
+                included.add(compile(child, index, documentCount));
+            }
+        }
+
+        // 드문 조건부터 교집합하고, 제외 조건은 많이 걸러내는 것부터 뺀다
+        included.sort(Comparator.comparingLong(PlanNode::estimatedRows));
+        excluded.sort(Comparator.<PlanNode>comparingLong(PlanNode::estimatedRows).reversed());
+
+        double candidates = included.isEmpty() ? documentCount : included.get(0).estimatedRows();
+        for (int i = 1; i < included.size(); i++) {
+            PlanNode operand = included.get(i);
+            double selectivity = fraction(operand, documentCount);
+            chooseAccess(operand, candidates, selectivity);
+            candidates *= selectivity;
+        }
+        for (PlanNode operand : excluded) {
+            double selectivity = fraction(operand, documentCount);
+            chooseAccess(operand, candidates, selectivity);
+            candidates *= 1 - selectivity;
+        }
+        return new IntersectPlan(included, excluded, Math.round(candidates));
+    }
+
+    private static void chooseAccess(PlanNode operand, double candidates, double selectivity) {
+        if (candidates * operand.checkCost() < operand.lookupCost()) {
+            operand.accessPath(PlanNode.Access.FILTER);
+            operand.estimatedRows(Math.round(candidates * selectivity));
+        }
+    }
+
+    private static double fraction(PlanNode operand, int documentCount) {
+        return documentCount == 0 ? 0 : Math.min(1.0, (double) operand.estimatedRows() / documentCount);
+    }
+}
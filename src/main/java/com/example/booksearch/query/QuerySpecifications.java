@@ -0,0 +1,40 @@
+package com.example.booksearch.query;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.repository.BookSpecifications;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 색인을 쓸 수 없을 때 검색식을 LIKE 조건 하나로 바꾼다.
+ *
+ * 초성/오타 검색어는 데이터베이스에 대응하는 조건이 없으므로 기존 전략들처럼 문자 그대로 LIKE 검색한다.
+ */
+public final class QuerySpecifications {
+
+    private QuerySpecifications() {
+    }
+
+    public static Specification<Book> from(QueryNode node) {
+        if (node instanceof TermNode term) {
+            return BookSpecifications.containsAny(List.of(term.text()));
+        }
+        if (node instanceof NotNode not) {
+            return not.operand() instanceof TermNode term
+                    ? BookSpecifications.containsNone(List.of(term.text()))
+                    : Specification.not(from(not.operand()));
+        }
+
+        Specification<Book> combined = null;
+        for (QueryNode child : node.children()) {
+            Specification<Book> next = from(child);
+            if (combined == null) {
+                combined = next;
+            } else {
+                combined = node instanceof OrNode ? combined.or(next) : combined.and(next);
+            }
+        }
+        return combined;
+    }
+}
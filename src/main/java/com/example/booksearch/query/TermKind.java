@@ -0,0 +1,13 @@
+package com.example.booksearch.query;
+
+/**
+ * 검색어를 어떤 색인으로 찾을지
+ */
+public enum TermKind {
+    /** 제목/저자 부분 문자열 */
+    SUBSTRING,
+    /** 초성열 부분 문자열 (예: "ㅍㅇㅆ") */
+    CHOSEONG,
+    /** 편집 거리 이내의 토큰 (예: "Efective~") */
+    FUZZY
+}
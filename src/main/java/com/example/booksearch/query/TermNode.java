@@ -0,0 +1,33 @@
+package com.example.booksearch.query;
+
+import java.util.List;
+
+/**
+ * 검색어 노드. 공백을 포함한 따옴표 구문도 하나의 검색어로 그대로 부분 문자열 일치시킨다.
+ *
+ * @param maxEdits FUZZY 검색어에 허용할 최대 편집 거리 (그 외에는 0)
+ */
+public record TermNode(
+        String text,
+        TermKind kind,
+        int maxEdits
+) implements QueryNode {
+
+    public static TermNode of(String text) {
+        return new TermNode(text, TermKind.SUBSTRING, 0);
+    }
+
+    @Override
+    public List<QueryNode> children() {
+        return List.of();
+    }
+
+    @Override
+    public String toString() {
+        String quoted = text.chars().anyMatch(c -> Character.isWhitespace(c)) ? "\"" + text + "\"" : text;
+        return switch (kind) {
+            case SUBSTRING, CHOSEONG -> quoted;
+            case FUZZY -> quoted + "~" + maxEdits;
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.booksearch.query;
+
+import com.example.booksearch.index.BookIndex;
+import com.example.booksearch.index.PostingList;
+
+import java.util.List;
+import java.util.Map;
+
+final class TermPlan extends PlanNode {
+
+    private static final int FUZZY_CHECK_COST = 4;
+
+    private final TermNode term;
+    /** SUBSTRING 검색어를 색인으로 실행했을 때의 일치 도서 수 (FILTER 로만 확인했으면 -1) */
+    private int documentFrequency = -1;
+
+    private TermPlan(TermNode term, long estimatedRows) {
+        super(estimatedRows);
+        this.term = term;
+    }
+
+    static TermPlan of(TermNode term, BookIndex index) {
+        long estimate = switch (term.kind()) {
+            case SUBSTRING -> index.estimateContaining(term.text());
+            case CHOSEONG -> index.estimateChoseong(term.text());
+            case FUZZY -> index.estimateFuzzy(term.text(), term.maxEdits());
+        };
+        return new TermPlan(term, estimate);
+    }
+
+    @Override
+    PostingList evaluate(BookIndex index) {
+        return switch (term.kind()) {
+            case SUBSTRING -> {
+                PostingList matches = index.containing(term.text());
+                documentFrequency = matches.size();
+                yield matches;
+            }
+            case CHOSEONG -> index.containingChoseong(term.text());
+            case FUZZY -> index.fuzzy(term.text(), term.maxEdits());
+        };
+    }
+
+    @Override
+    void collectDocumentFrequencies(Map<String, Integer> documentFrequencies) {
+        if (documentFrequency >= 0) {
+            documentFrequencies.put(term.text(), documentFrequency);
+        }
+    }
+
+    @Override
+    boolean test(BookIndex index, int docId) {
+        return switch (term.kind()) {
+            case SUBSTRING -> index.documentContains(docId, term.text());
+            case CHOSEONG -> index.documentContainsChoseong(docId, term.text());
+            case FUZZY -> index.documentMatchesFuzzy(docId, term.text(), term.maxEdits());
+        };
+    }
+
+    @Override
+    int checkCost() {
+        return term.kind() == TermKind.FUZZY ? FUZZY_CHECK_COST : 1;
+    }
+
+    @Override
+    String operator() {
+        return term.kind().name();
+    }
+
+    @Override
+    String detail() {
+        return term.toString();
+    }
+
+    @Override
+    List<PlanNode> children() {
+        return List.of();
+    }
+}
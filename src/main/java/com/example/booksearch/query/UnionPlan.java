@@ -0,0 +1,61 @@
+package com.example.booksearch.query;
+
+import com.example.booksearch.index.BookIndex;
+import com.example.booksearch.index.PostingList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class UnionPlan extends PlanNode {
+
+    private final List<PlanNode> operands;
+
+    UnionPlan(List<PlanNode> operands, long estimatedRows) {
+        super(estimatedRows);
+        this.operands = operands;
+    }
+
+    @Override
+    PostingList evaluate(BookIndex index) {
+        List<PostingList> results = new ArrayList<>(operands.size());
+        for (PlanNode operand : operands) {
+            results.add(operand.execute(index));
+        }
+        return PostingList.union(results);
+    }
+
+    @Override
+    boolean test(BookIndex index, int docId) {
+        for (PlanNode operand : operands) {
+            if (operand.test(index, docId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    int checkCost() {
+        return operands.stream().mapToInt(PlanNode::checkCost).sum();
+    }
+
+    @Override
+    long lookupCost() {
+        return operands.stream().mapToLong(PlanNode::lookupCost).sum();
+    }
+
+    @Override
+    String operator() {
+        return "OR";
+    }
+
+    @Override
+    String detail() {
+        return null;
+    }
+
+    @Override
+    List<PlanNode> children() {
+        return operands;
+    }
+}
@@ -2,6 +2,7 @@ package com.example.booksearch.repository;
 
 import com.example.booksearch.domain.Book;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,7 +13,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 @Repository
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book>, BookRepositoryCustom {
 
     Optional<Book> findByIsbn(String isbn);
 
@@ -46,5 +47,67 @@ public interface BookRepository extends JpaRepository<Book, Long> {
            "(b.title NOT LIKE %:excludeTerm% AND b.author NOT LIKE %:excludeTerm%)")
     Page<Book> findByExcludeTerm(@Param("excludeTerm") String excludeTerm, Pageable pageable);
 
+    // PostgreSQL pg_trgm 전용 네이티브 쿼리 (검색어는 LIKE 이스케이프된 상태로 전달)
+    // title/author 의 gin_trgm_ops 색인으로 Bitmap Index Scan 이 가능하다. NOT LIKE 조건은 색인을 타지 않는다.
+
+    @Query(value = "SELECT b.* FROM books b WHERE " +
+                   "b.title LIKE '%' || :term || '%' OR b.author LIKE '%' || :term || '%'",
+           countQuery = "SELECT COUNT(*) FROM books b WHERE " +
+                        "b.title LIKE '%' || :term || '%' OR b.author LIKE '%' || :term || '%'",
+           nativeQuery = true)
+    Page<Book> searchContaining(@Param("term") String term, Pageable pageable);
+
+    @Query(value = "SELECT b.* FROM books b WHERE " +
+                   "b.title LIKE '%' || :term1 || '%' OR b.author LIKE '%' || :term1 || '%' OR " +
+                   "b.title LIKE '%' || :term2 || '%' OR b.author LIKE '%' || :term2 || '%'",
+           countQuery = "SELECT COUNT(*) FROM books b WHERE " +
+                        "b.title LIKE '%' || :term1 || '%' OR b.author LIKE '%' || :term1 || '%' OR " +
+                        "b.title LIKE '%' || :term2 || '%' OR b.author LIKE '%' || :term2 || '%'",
+           nativeQuery = true)
+    Page<Book> searchContainingEither(@Param("term1") String term1, @Param("term2") String term2, Pageable pageable);
+
+    @Query(value = "SELECT b.* FROM books b WHERE " +
+                   "(b.title LIKE '%' || :term1 || '%' OR b.author LIKE '%' || :term1 || '%' OR " +
+                   "b.title LIKE '%' || :term2 || '%' OR b.author LIKE '%' || :term2 || '%') AND " +
+                   "b.title NOT LIKE '%' || :excludeTerm || '%' AND b.author NOT LIKE '%' || :excludeTerm || '%'",
+           countQuery = "SELECT COUNT(*) FROM books b WHERE " +
+                        "(b.title LIKE '%' || :term1 || '%' OR b.author LIKE '%' || :term1 || '%' OR " +
+                        "b.title LIKE '%' || :term2 || '%' OR b.author LIKE '%' || :term2 || '%') AND " +
+                        "b.title NOT LIKE '%' || :excludeTerm || '%' AND b.author NOT LIKE '%' || :excludeTerm || '%'",
+           nativeQuery = true)
+    Page<Book> searchContainingEitherExcluding(@Param("term1") String term1, @Param("term2") String term2,
+                                               @Param("excludeTerm") String excludeTerm, Pageable pageable);
+
+    @Query(value = "SELECT b.* FROM books b WHERE " +
+                   "(b.title LIKE '%' || :includeTerm || '%' OR b.author LIKE '%' || :includeTerm || '%') AND " +
+                   "b.title NOT LIKE '%' || :excludeTerm || '%' AND b.author NOT LIKE '%' || :excludeTerm || '%'",
+           countQuery = "SELECT COUNT(*) FROM books b WHERE " +
+                        "(b.title LIKE '%' || :includeTerm || '%' OR b.author LIKE '%' || :includeTerm || '%') AND " +
+                        "b.title NOT LIKE '%' || :excludeTerm || '%' AND b.author NOT LIKE '%' || :excludeTerm || '%'",
+           nativeQuery = true)
+    Page<Book> searchContainingExcluding(@Param("includeTerm") String includeTerm,
+                                         @Param("excludeTerm") String excludeTerm, Pageable pageable);
+
+    @Query(value = "SELECT b.* FROM books b WHERE " +
+                   "b.title NOT LIKE '%' || :excludeTerm || '%' AND b.author NOT LIKE '%' || :excludeTerm || '%'",
+           countQuery = "SELECT COUNT(*) FROM books b WHERE " +
+                        "b.title NOT LIKE '%' || :excludeTerm || '%' AND b.author NOT LIKE '%' || :excludeTerm || '%'",
+           nativeQuery = true)
+    Page<Book> searchExcluding(@Param("excludeTerm") String excludeTerm, Pageable pageable);
+
+    // PostgreSQL 전문 검색 전용 네이티브 쿼리 (search_vector 생성 컬럼과 GIN 색인은 FullTextIndexInitializer 가 만든다)
+    // 건수도 같은 @@ 조건으로 세므로 색인만으로 응답한다.
+
+    @Query(value = "SELECT b.* FROM books b, to_tsquery('simple', :tsQuery) q " +
+                   "WHERE b.search_vector @@ q ORDER BY ts_rank(b.search_vector, q) DESC, b.id",
+           countQuery = "SELECT COUNT(*) FROM books b WHERE b.search_vector @@ to_tsquery('simple', :tsQuery)",
+           nativeQuery = true)
+    Page<Book> searchFullTextRanked(@Param("tsQuery") String tsQuery, Pageable pageable);
+
+    @Query(value = "SELECT b.* FROM books b WHERE b.search_vector @@ to_tsquery('simple', :tsQuery)",
+           countQuery = "SELECT COUNT(*) FROM books b WHERE b.search_vector @@ to_tsquery('simple', :tsQuery)",
+           nativeQuery = true)
+    Page<Book> searchFullText(@Param("tsQuery") String tsQuery, Pageable pageable);
+
     boolean existsByIsbn(String isbn);
 }
\ No newline at end of file
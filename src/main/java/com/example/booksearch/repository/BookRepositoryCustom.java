@@ -0,0 +1,30 @@
+package com.example.booksearch.repository;
+
+import com.example.booksearch.domain.Book;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * COUNT 쿼리 없이 페이지를 읽고, 건수는 상한까지만 세는 조회 ({@link BookRepositoryImpl})
+ */
+public interface BookRepositoryCustom {
+
+    /**
+     * 요청한 페이지를 size + 1 개까지만 읽어 다음 페이지가 있는지 판단한다 (전체 개수는 세지 않음).
+     */
+    Slice<Book> findSlice(Specification<Book> specification, Pageable pageable);
+
+    /**
+     * 조건에 맞는 도서를 limit 개까지만 센다 (ID 만 LIMIT 으로 읽으므로 그 뒤의 행은 보지 않는다).
+     */
+    long countUpTo(Specification<Book> specification, int limit);
+
+    /**
+     * 조건에 맞는 도서의 ID 를 sort 순서로 limit 개까지 읽는다 (엔티티는 읽지 않음).
+     */
+    List<Long> findIds(Specification<Book> specification, Sort sort, int limit);
+}
@@ -0,0 +1,95 @@
+package com.example.booksearch.repository;
+
+import com.example.booksearch.domain.Book;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * 검색어 개수가 정해지지 않은 LIKE 조건을 위한 Specification
+ */
+public final class BookSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private BookSpecifications() {
+    }
+
+    /**
+     * 제목 또는 저자에 검색어 중 하나라도 포함
+     */
+    public static Specification<Book> containsAny(List<String> terms) {
+        return (root, query, cb) -> cb.or(terms.stream()
+                .map(term -> cb.or(
+                        cb.like(root.<String>get("title"), containsPattern(term), ESCAPE),
+                        cb.like(root.<String>get("author"), containsPattern(term), ESCAPE)))
+                .toArray(Predicate[]::new));
+    }
+
+    /**
+     * 제목과 저자 모두에 어떤 제외어도 포함되지 않음
+     */
+    public static Specification<Book> containsNone(List<String> terms) {
+        return (root, query, cb) -> cb.and(terms.stream()
+                .map(term -> cb.and(
+                        cb.notLike(root.<String>get("title"), containsPattern(term), ESCAPE),
+                        cb.notLike(root.<String>get("author"), containsPattern(term), ESCAPE)))
+                .toArray(Predicate[]::new));
+    }
+
+    /**
+     * 조건 없음 (모든 도서)
+     */
+    public static Specification<Book> all() {
+        return (root, query, cb) -> cb.conjunction();
+    }
+
+    /**
+     * 정렬 키 (property, id)가 커서 (value, afterId) 뒤인 도서 (keyset 조건, 같은 키 값이면 ID 로 구분)
+     */
+    public static <Y extends Comparable<? super Y>> Specification<Book> keyAfter(String property, Y value,
+                                                                                long afterId, boolean ascending) {
+        return (root, query, cb) -> {
+            Path<Y> key = root.get(property);
+            Path<Long> id = root.get("id");
+            return ascending
+                    ? cb.or(cb.greaterThan(key, value), cb.and(cb.equal(key, value), cb.greaterThan(id, afterId)))
+                    : cb.or(cb.lessThan(key, value), cb.and(cb.equal(key, value), cb.lessThan(id, afterId)));
+        };
+    }
+
+    public static Specification<Book> idAfter(long afterId, boolean ascending) {
+        return (root, query, cb) -> ascending
+                ? cb.greaterThan(root.<Long>get("id"), afterId)
+                : cb.lessThan(root.<Long>get("id"), afterId);
+    }
+
+    public static Specification<Book> isNull(String property) {
+        return (root, query, cb) -> cb.isNull(root.get(property));
+    }
+
+    public static Specification<Book> isNotNull(String property) {
+        return (root, query, cb) -> cb.isNotNull(root.get(property));
+    }
+
+    /**
+     * LIKE 패턴 문자(%, _)와 이스케이프 문자(\)를 리터럴로 취급하도록 이스케이프
+     */
+    public static String escapeLike(String term) {
+        StringBuilder escaped = new StringBuilder(term.length() + 4);
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == ESCAPE || c == '%' || c == '_') {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private static String containsPattern(String term) {
+        return "%" + escapeLike(term) + "%";
+    }
+}
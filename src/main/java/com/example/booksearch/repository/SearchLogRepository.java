@@ -10,7 +10,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SearchLogRepository extends JpaRepository<SearchLog, Long> {
+public interface SearchLogRepository extends JpaRepository<SearchLog, Long>, SearchLogRepositoryCustom {
 
     Optional<SearchLog> findByKeyword(String keyword);
 
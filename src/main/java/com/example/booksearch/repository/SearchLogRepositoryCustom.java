@@ -0,0 +1,26 @@
+package com.example.booksearch.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 검색 횟수를 읽지 않고 데이터베이스에서 바로 더하는 upsert ({@link SearchLogRepositoryImpl})
+ */
+public interface SearchLogRepositoryCustom {
+
+    /**
+     * 소문자로 접은 정규형 keyword 에 더할 횟수와 그중 마지막 검색의 대소문자를 유지한 정규형
+     */
+    record SearchCount(String keyword, String lastQuery, int count) {
+    }
+
+    /**
+     * keyword 의 검색 횟수에 count 를 더한다. 없으면 count 로 만든다.
+     */
+    void addSearchCount(SearchCount searchCount, LocalDateTime searchedAt);
+
+    /**
+     * 검색어별 횟수를 한 문장으로 더한다. 없는 검색어는 그 횟수로 만든다. keyword 는 겹치지 않아야 한다.
+     */
+    void addSearchCounts(List<SearchCount> searchCounts, LocalDateTime searchedAt);
+}
@@ -0,0 +1,101 @@
+package com.example.booksearch.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * {@link SearchLogRepositoryCustom} 구현 (Spring Data 가 SearchLogRepository 에 조각으로 붙인다)
+ *
+ * 조회 후 엔티티를 고쳐 저장하면 같은 검색어를 동시에 저장할 때 횟수를 잃거나 keyword 유일 제약에 걸리므로
+ * PostgreSQL 은 INSERT ... ON CONFLICT, 그 밖(H2)은 표준 MERGE 한 문장으로 행 잠금 안에서 더한다.
+ * 여러 노드가 같은 검색어들을 함께 더해도 교착하지 않도록 행은 검색어 순으로 잠근다.
+ * 네이티브 쿼리라 실행 전에 영속성 컨텍스트를 내보내고, 이미 읽어 둔 엔티티의 횟수는 바뀌지 않는다.
+ */
+public class SearchLogRepositoryImpl implements SearchLogRepositoryCustom {
+
+    private static final String POSTGRES_UPSERT =
+            "INSERT INTO search_logs (keyword, last_query, search_count, created_at, last_searched_at) VALUES %s " +
+                    "ON CONFLICT (keyword) DO UPDATE SET " +
+                    "search_count = search_logs.search_count + EXCLUDED.search_count, " +
+                    "last_query = EXCLUDED.last_query, last_searched_at = EXCLUDED.last_searched_at";
+    private static final String POSTGRES_ROW = "(?, ?, ?, ?, ?)";
+    private static final String MERGE_UPSERT =
+            "MERGE INTO search_logs t USING (%s) s " +
+                    "ON (t.keyword = s.keyword) " +
+                    "WHEN MATCHED THEN UPDATE SET search_count = t.search_count + s.search_count, " +
+                    "last_query = s.last_query, last_searched_at = s.searched_at " +
+                    "WHEN NOT MATCHED THEN INSERT (keyword, last_query, search_count, created_at, last_searched_at) " +
+                    "VALUES (s.keyword, s.last_query, s.search_count, s.searched_at, s.searched_at)";
+    private static final String MERGE_ROW = "SELECT CAST(? AS VARCHAR(255)) AS keyword, CAST(? AS VARCHAR(255)) AS last_query, " +
+            "CAST(? AS INTEGER) AS search_count, CAST(? AS TIMESTAMP) AS searched_at";
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public SearchLogRepositoryImpl(EntityManager entityManager, JdbcTemplate jdbcTemplate) {
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void addSearchCount(SearchCount searchCount, LocalDateTime searchedAt) {
+        addSearchCounts(List.of(searchCount), searchedAt);
+    }
+
+    @Override
+    @Transactional
+    public void addSearchCounts(List<SearchCount> searchCounts, LocalDateTime searchedAt) {
+        if (searchCounts.isEmpty()) {
+            return;
+        }
+
+        boolean postgres = isPostgres();
+        StringJoiner rows = new StringJoiner(postgres ? ", " : " UNION ALL ");
+        for (int i = 0; i < searchCounts.size(); i++) {
+            rows.add(postgres ? POSTGRES_ROW : MERGE_ROW);
+        }
+        Query query = entityManager.createNativeQuery(
+                String.format(postgres ? POSTGRES_UPSERT : MERGE_UPSERT, rows));
+
+        int position = 1;
+        List<SearchCount> sorted = new ArrayList<>(searchCounts);
+        sorted.sort(Comparator.comparing(SearchCount::keyword));
+        for (SearchCount searchCount : sorted) {
+            query.setParameter(position++, searchCount.keyword());
+            query.setParameter(position++, searchCount.lastQuery());
+            query.setParameter(position++, searchCount.count());
+            query.setParameter(position++, searchedAt);
+            if (postgres) {
+                query.setParameter(position++, searchedAt);
+            }
+        }
+        query.executeUpdate();
+    }
+
+    private boolean isPostgres() {
+        Boolean cached = postgres;
+        if (cached == null) {
+            try {
+                String product = jdbcTemplate.execute(
+                        (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+                cached = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (DataAccessException e) {
+                cached = false;
+            }
+            postgres = cached;
+        }
+        return cached;
+    }
+}
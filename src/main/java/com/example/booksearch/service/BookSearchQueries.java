@@ -0,0 +1,258 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.config.SearchBackend;
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.repository.BookRepository;
+import com.example.booksearch.repository.BookSpecifications;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.booksearch.repository.BookSpecifications.escapeLike;
+import static com.example.booksearch.repository.BookSpecifications.idAfter;
+import static com.example.booksearch.repository.BookSpecifications.isNotNull;
+import static com.example.booksearch.repository.BookSpecifications.isNull;
+import static com.example.booksearch.repository.BookSpecifications.keyAfter;
+
+/**
+ * 데이터베이스 검색 쿼리 모음
+ *
+ * 기본은 BookRepository 의 JPQL 쿼리를 사용하고, pg-trgm 백엔드에서는
+ * pg_trgm GIN 색인을 탈 수 있는 PostgreSQL 네이티브 쿼리로 대신 실행한다.
+ * 관련도 점수가 없는 쿼리이므로 relevance 정렬은 빼고 실행한다 ({@link RelevanceSort}).
+ */
+@Component
+public class BookSearchQueries {
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "isbn", "isbn",
+            "title", "title",
+            "subtitle", "subtitle",
+            "author", "author",
+            "publisher", "publisher",
+            "publicationDate", "publication_date",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at"
+    );
+
+    private final BookRepository bookRepository;
+    private final boolean nativeTrigram;
+
+    public BookSearchQueries(BookRepository bookRepository,
+                             @Value("${booksearch.search.backend:database}") SearchBackend searchBackend) {
+        this.bookRepository = bookRepository;
+        this.nativeTrigram = searchBackend == SearchBackend.PG_TRGM;
+    }
+
+    public Page<Book> findAll(Pageable pageable) {
+        return bookRepository.findAll(RelevanceSort.withoutRelevance(pageable));
+    }
+
+    public Page<Book> findContaining(String term, Pageable requested) {
+        Pageable pageable = RelevanceSort.withoutRelevance(requested);
+        if (nativeTrigram) {
+            return bookRepository.searchContaining(escapeLike(term), toColumnSort(pageable));
+        }
+        return bookRepository.findByTitleContainingOrAuthorContaining(term, term, pageable);
+    }
+
+    public Page<Book> findContainingEither(String term1, String term2, Pageable requested) {
+        Pageable pageable = RelevanceSort.withoutRelevance(requested);
+        if (nativeTrigram) {
+            return bookRepository.searchContainingEither(escapeLike(term1), escapeLike(term2), toColumnSort(pageable));
+        }
+        return bookRepository.findByIncludeTermsOr(term1, term2, pageable);
+    }
+
+    public Page<Book> findContainingEitherExcluding(String term1, String term2, String excludeTerm, Pageable requested) {
+        Pageable pageable = RelevanceSort.withoutRelevance(requested);
+        if (nativeTrigram) {
+            return bookRepository.searchContainingEitherExcluding(
+                    escapeLike(term1), escapeLike(term2), escapeLike(excludeTerm), toColumnSort(pageable));
+        }
+        return bookRepository.findByIncludeTermsOrAndExclude(term1, term2, excludeTerm, pageable);
+    }
+
+    public Page<Book> findContainingExcluding(String includeTerm, String excludeTerm, Pageable requested) {
+        Pageable pageable = RelevanceSort.withoutRelevance(requested);
+        if (nativeTrigram) {
+            return bookRepository.searchContainingExcluding(
+                    escapeLike(includeTerm), escapeLike(excludeTerm), toColumnSort(pageable));
+        }
+        return bookRepository.findByIncludeTermAndExclude(includeTerm, excludeTerm, pageable);
+    }
+
+    public Page<Book> findExcluding(String excludeTerm, Pageable requested) {
+        Pageable pageable = RelevanceSort.withoutRelevance(requested);
+        if (nativeTrigram) {
+            return bookRepository.searchExcluding(escapeLike(excludeTerm), toColumnSort(pageable));
+        }
+        return bookRepository.findByExcludeTerm(excludeTerm, pageable);
+    }
+
+    /**
+     * 포함어 중 하나 이상을 포함하고 제외어를 하나도 포함하지 않는 도서 (포함어가 없으면 제외 조건만 적용)
+     */
+    public Page<Book> findMatching(List<String> includeTerms, List<String> excludeTerms, Pageable requested) {
+        Specification<Book> specification = BookSpecifications.containsNone(excludeTerms);
+        if (!includeTerms.isEmpty()) {
+            specification = BookSpecifications.containsAny(includeTerms).and(specification);
+        }
+        return findMatching(specification, requested);
+    }
+
+    public Page<Book> findMatching(Specification<Book> specification, Pageable requested) {
+        return bookRepository.findAll(specification, RelevanceSort.withoutRelevance(requested));
+    }
+
+    /**
+     * 조건에 맞는 도서의 한 페이지를 COUNT 쿼리 없이 읽는다 (size + 1 개까지 읽어 다음 페이지 여부만 판단).
+     */
+    public Slice<Book> findSlice(Specification<Book> specification, Pageable requested) {
+        return bookRepository.findSlice(specification, RelevanceSort.withoutRelevance(requested));
+    }
+
+    /**
+     * 조건에 맞는 도서 ID 전체를 sort 순서로 (같은 값은 ID 순) 읽는다. limit 개를 넘으면 null.
+     */
+    public long[] findIds(Specification<Book> specification, Sort sort, int limit) {
+        Sort idSorted = RelevanceSort.withoutRelevance(sort);
+        if (idSorted.getOrderFor("id") == null) {
+            idSorted = idSorted.and(Sort.by("id"));
+        }
+        List<Long> ids = bookRepository.findIds(specification, idSorted, limit + 1);
+        if (ids.size() > limit) {
+            return null;
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 조건에 맞는 도서 중 커서 뒤의 한 조각 (specification 이 null 이면 전체 도서).
+     * size + 1 개까지만 읽어 다음 조각이 있는지 판단하므로 앞 페이지를 건너뛰거나 COUNT 쿼리를 실행하지 않는다.
+     */
+    public Slice<Book> findMatchingAfter(Specification<Book> specification, CursorRequest request) {
+        int limit = request.size() + 1;
+        List<Book> books = new ArrayList<>(limit);
+        for (KeysetSegment segment : keysetSegments(request)) {
+            int remaining = limit - books.size();
+            if (remaining <= 0) {
+                break;
+            }
+            Specification<Book> where = specification != null ? specification.and(segment.where()) : segment.where();
+            List<Book> rows = bookRepository.findBy(where, query -> query.sortBy(segment.sort()).limit(remaining).all());
+            books.addAll(rows);
+        }
+
+        boolean hasNext = books.size() > request.size();
+        return new SliceImpl<>(hasNext ? books.subList(0, request.size()) : books, request.toPageable(), hasNext);
+    }
+
+    /**
+     * 커서 뒤를 읽을 구간을 순서대로 만든다. 출간일처럼 비어 있을 수 있는 키는 값이 있는 구간과 없는 구간을
+     * 나눠 읽어 데이터베이스마다 다른 NULL 정렬 위치에 기대지 않는다 (오름차순이면 값이 없는 구간이 뒤).
+     */
+    private List<KeysetSegment> keysetSegments(CursorRequest request) {
+        CursorRequest.Key key = request.key();
+        String property = key.property();
+        boolean ascending = request.isAscending();
+        Sort idSort = Sort.by(request.direction(), "id");
+        Sort keySort = Sort.by(request.direction(), property, "id");
+
+        if (key == CursorRequest.Key.ID) {
+            return List.of(new KeysetSegment(
+                    request.isFirst() ? BookSpecifications.all() : idAfter(request.afterId(), ascending), idSort));
+        }
+        if (!key.isNullable()) {
+            return List.of(new KeysetSegment(request.isFirst()
+                    ? BookSpecifications.all()
+                    : keyAfter(property, request.afterValue(), request.afterId(), ascending), keySort));
+        }
+
+        boolean cursorInNulls = !request.isFirst() && request.afterValue() == null;
+        boolean cursorInValues = !request.isFirst() && request.afterValue() != null;
+        KeysetSegment values = new KeysetSegment(cursorInValues
+                ? keyAfter(property, LocalDate.parse(request.afterValue()), request.afterId(), ascending)
+                : isNotNull(property), keySort);
+        KeysetSegment nulls = new KeysetSegment(cursorInNulls
+                ? isNull(property).and(idAfter(request.afterId(), ascending))
+                : isNull(property), idSort);
+
+        if (ascending) {
+            return cursorInNulls ? List.of(nulls) : List.of(values, nulls);
+        }
+        return cursorInValues ? List.of(values) : List.of(nulls, values);
+    }
+
+    private record KeysetSegment(Specification<Book> where, Sort sort) {
+    }
+
+    /**
+     * 주어진 ID 순서대로 도서를 조회한다 (외부 색인이 정한 순서를 유지, 이미 삭제된 도서는 건너뜀)
+     */
+    public List<Book> findAllByIdInOrder(List<Long> bookIds) {
+        if (bookIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Book> booksById = new HashMap<>();
+        for (Book book : bookRepository.findAllById(bookIds)) {
+            booksById.put(book.getId(), book);
+        }
+
+        List<Book> ordered = new ArrayList<>(bookIds.size());
+        for (Long bookId : bookIds) {
+            Book book = booksById.get(bookId);
+            if (book != null) {
+                ordered.add(book);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * tsquery 로 전문 검색한다. 정렬 지정이 없거나 relevance 이면 ts_rank 순, 그 외에는 요청한 컬럼 순으로 돌려준다.
+     */
+    public Page<Book> findFullText(String tsQuery, Pageable pageable) {
+        if (pageable.getSort().isUnsorted() || RelevanceSort.isRequested(pageable)) {
+            return bookRepository.searchFullTextRanked(tsQuery, RelevanceSort.unsorted(pageable));
+        }
+        return bookRepository.searchFullText(tsQuery, toColumnSort(pageable));
+    }
+
+    /**
+     * 네이티브 쿼리는 정렬 속성을 그대로 ORDER BY 에 붙이므로 엔티티 속성명을 컬럼명으로 바꾼다.
+     */
+    private Pageable toColumnSort(Pageable pageable) {
+        if (pageable.getSort().isUnsorted()) {
+            return pageable;
+        }
+
+        Sort columnSort = Sort.by(pageable.getSort().stream()
+                .map(order -> {
+                    String column = SORT_COLUMNS.get(order.getProperty());
+                    if (column == null) {
+                        throw new IllegalArgumentException("정렬할 수 없는 속성입니다: " + order.getProperty());
+                    }
+                    return order.withProperty(column);
+                })
+                .toList());
+
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), columnSort)
+                : Pageable.unpaged(columnSort);
+    }
+}
@@ -3,29 +3,53 @@ package com.example.booksearch.service;
 import com.example.booksearch.domain.Book;
 import com.example.booksearch.exception.BookNotFoundException;
 import com.example.booksearch.repository.BookRepository;
+import com.example.booksearch.repository.BookSpecifications;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
+
 @Service
 @Transactional(readOnly = true)
 public class BookService {
 
     private final BookRepository bookRepository;
+    private final IndexSearchExecutor indexSearchExecutor;
+    private final BookSearchQueries bookSearchQueries;
 
-    public BookService(BookRepository bookRepository) {
+    public BookService(BookRepository bookRepository, IndexSearchExecutor indexSearchExecutor,
+                       BookSearchQueries bookSearchQueries) {
         this.bookRepository = bookRepository;
+        this.indexSearchExecutor = indexSearchExecutor;
+        this.bookSearchQueries = bookSearchQueries;
     }
 
     public Page<Book> findBooks(String keyword, Pageable pageable) {
         if (StringUtils.hasText(keyword)) {
-            return bookRepository.findByTitleContainingOrAuthorContaining(keyword, keyword, pageable);
+            if (indexSearchExecutor.canServe(pageable)) {
+                return indexSearchExecutor.execute(index -> index.containing(keyword), pageable);
+            }
+            return bookSearchQueries.findContaining(keyword, pageable);
         }
         return bookRepository.findAll(pageable);
     }
 
+    /**
+     * 커서 뒤의 한 조각 (키워드가 없으면 전체 도서)
+     */
+    public Slice<Book> findBooksAfter(String keyword, CursorRequest request) {
+        boolean hasKeyword = StringUtils.hasText(keyword);
+        if (indexSearchExecutor.canServeCursor()) {
+            return indexSearchExecutor.executeAfter(index -> hasKeyword ? index.containing(keyword) : index.all(), request);
+        }
+        return bookSearchQueries.findMatchingAfter(
+                hasKeyword ? BookSpecifications.containsAny(List.of(keyword)) : null, request);
+    }
+
     public Book findById(Long id) {
         return bookRepository.findById(id)
                 .orElseThrow(() -> new BookNotFoundException(id));
@@ -0,0 +1,94 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.query.PlanStep;
+import com.example.booksearch.query.QueryNode;
+import com.example.booksearch.query.QueryPlan;
+import com.example.booksearch.query.QueryPlanner;
+import com.example.booksearch.query.QuerySpecifications;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 검색식 전략 (예: "(java | kotlin) AND spring -\"for beginners\"")
+ *
+ * 다른 전략이 다루지 못하는 검색식과 포함어가 셋 이상인 쿼리를 처리한다. 색인을 쓸 수 있으면
+ * {@link QueryPlanner} 가 예상 건수로 순서와 접근 경로를 정한 계획을 실행하고,
+ * 그렇지 않으면 검색식 전체를 LIKE 조건 하나로 바꿔 데이터베이스에서 검색한다.
+ */
+@Component
+public class BooleanSearchStrategy implements SearchStrategy {
+
+    private static final String STRATEGY_NAME = "BOOLEAN_SEARCH";
+
+    private final BookSearchQueries bookSearchQueries;
+    private final IndexSearchExecutor indexSearchExecutor;
+
+    public BooleanSearchStrategy(BookSearchQueries bookSearchQueries, IndexSearchExecutor indexSearchExecutor) {
+        this.bookSearchQueries = bookSearchQueries;
+        this.indexSearchExecutor = indexSearchExecutor;
+    }
+
+    @Override
+    public boolean canHandle(SearchQuery searchQuery) {
+        return !searchQuery.isEmpty()
+                && (!searchQuery.isFlat() || searchQuery.getIncludeTerms().size() > 2);
+    }
+
+    @Override
+    public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
+        return searchWithPlan(searchQuery, pageable).getBooks();
+    }
+
+    /**
+     * 검색하고 실행한 계획의 explain(단계별 예상/실제 건수)을 함께 돌려준다.
+     */
+    public SearchResult searchWithPlan(SearchQuery searchQuery, Pageable pageable) {
+        QueryNode expression = searchQuery.getExpression();
+
+        if (!indexSearchExecutor.canServe(pageable)) {
+            Page<Book> books = bookSearchQueries.findMatching(QuerySpecifications.from(expression), pageable);
+            return new SearchResult(books, STRATEGY_NAME,
+                    QueryPlan.databaseScan(expression, books.getTotalElements()));
+        }
+
+        AtomicReference<QueryPlan> executed = new AtomicReference<>();
+        Page<Book> books = indexSearchExecutor.execute((index, documentFrequencies) -> {
+            QueryPlan plan = QueryPlanner.plan(expression, index);
+            executed.set(plan);
+            return plan.execute(index, documentFrequencies);
+        }, IndexTermMatcher.rankingTerms(searchQuery), pageable);
+        PlanStep explain = executed.get().explain();
+        return new SearchResult(books, STRATEGY_NAME, explain);
+    }
+
+    /**
+     * 커서 페이지 검색. 어떤 형태의 쿼리든 검색식 하나로 바꿔 색인 계획 또는 LIKE 조건 뒤에 keyset 조건을 붙여 조회한다.
+     */
+    public Slice<Book> searchAfter(SearchQuery searchQuery, CursorRequest request) {
+        if (indexSearchExecutor.canServeCursor()) {
+            return indexSearchExecutor.executeAfter(index -> searchQuery.isEmpty()
+                    ? index.all()
+                    : QueryPlanner.plan(searchQuery.getExpression(), index).execute(index), request);
+        }
+        Specification<Book> specification = searchQuery.isEmpty()
+                ? null
+                : QuerySpecifications.from(searchQuery.getExpression());
+        return bookSearchQueries.findMatchingAfter(specification, request);
+    }
+
+    @Override
+    public int getPriority() {
+        return 8;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return STRATEGY_NAME;
+    }
+}
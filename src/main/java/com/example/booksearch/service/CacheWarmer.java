@@ -0,0 +1,171 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.SearchLog;
+import com.example.booksearch.repository.SearchLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 시 인기 검색어의 앞쪽 페이지로 검색 결과 캐시(searchResults)를 미리 채운다.
+ *
+ * ApplicationReadyEvent 리스너가 모두 끝나야 준비 완료(ReadinessState.ACCEPTING_TRAFFIC)가 되므로
+ * 예열이 끝나거나 제한 시간이 지날 때까지 트래픽을 받지 않는다. 색인 구축 등 검색 준비는 더 앞선 @Order 로 먼저 끝난다.
+ * 예열 검색은 검색어를 기록하지 않고, 다른 노드가 이미 채운 항목(redis 프로파일)은 건너뛴다.
+ * 통계의 키는 소문자로 접혀 있으므로 대소문자를 구분하는 백엔드에서도 같은 캐시 키가 되도록 마지막 검색의 대소문자 그대로 검색한다.
+ */
+@Component
+public class CacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheWarmer.class);
+
+    /**
+     * 검색 API 의 기본 정렬 (@PageableDefault sort = relevance)
+     */
+    private static final Sort DEFAULT_SORT = Sort.by(RelevanceSort.PROPERTY);
+
+    private final SearchLogRepository searchLogRepository;
+    private final SearchService searchService;
+    private final SearchCacheKeyGenerator cacheKeyGenerator;
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+    private final int keywordLimit;
+    private final int pages;
+    private final int pageSize;
+    private final int parallelism;
+    private final Duration timeout;
+
+    public CacheWarmer(SearchLogRepository searchLogRepository, SearchService searchService, SearchCacheKeyGenerator cacheKeyGenerator,
+                       CacheManager cacheManager,
+                       @Value("${booksearch.cache.warm-up.enabled:true}") boolean enabled,
+                       @Value("${booksearch.cache.warm-up.keywords:50}") int keywordLimit,
+                       @Value("${booksearch.cache.warm-up.pages:2}") int pages,
+                       @Value("${booksearch.cache.warm-up.page-size:20}") int pageSize,
+                       @Value("${booksearch.cache.warm-up.parallelism:4}") int parallelism,
+                       @Value("${booksearch.cache.warm-up.timeout-seconds:30}") long timeoutSeconds) {
+        this.searchLogRepository = searchLogRepository;
+        this.searchService = searchService;
+        this.cacheKeyGenerator = cacheKeyGenerator;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.keywordLimit = keywordLimit;
+        this.pages = pages;
+        this.pageSize = pageSize;
+        this.parallelism = Math.max(1, parallelism);
+        this.timeout = Duration.ofSeconds(timeoutSeconds);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onApplicationReady() {
+        if (enabled) {
+            warmUp();
+        }
+    }
+
+    /**
+     * 채운 검색 결과 페이지 수를 돌려준다. 제한 시간이 지나면 남은 검색은 취소한다.
+     */
+    public int warmUp() {
+        Cache searchResults = cacheManager.getCache("searchResults");
+        if (searchResults == null || keywordLimit <= 0 || pages <= 0) {
+            return 0;
+        }
+
+        long startTime = System.currentTimeMillis();
+        List<SearchLog> topKeywords = searchLogRepository.findTopSearchKeywords(PageRequest.of(0, keywordLimit));
+        if (topKeywords.isEmpty()) {
+            return 0;
+        }
+        AtomicInteger warmed = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        // 인기 검색어마다 첫 페이지를 먼저 채우도록 페이지 순으로 넣는다
+        for (int page = 0; page < pages; page++) {
+            for (SearchLog searchLog : topKeywords) {
+                Pageable pageable = PageRequest.of(page, pageSize, DEFAULT_SORT);
+                tasks.add(() -> {
+                    if (warm(searchResults, searchLog.getLastQuery(), pageable)) {
+                        warmed.incrementAndGet();
+                    }
+                    return null;
+                });
+            }
+        }
+
+        boolean completed = runAll(tasks);
+        if (completed) {
+            log.info("캐시 예열 완료: 검색어 {}개, 검색 결과 {}페이지, {}ms",
+                    topKeywords.size(), warmed.get(), System.currentTimeMillis() - startTime);
+        } else {
+            log.warn("캐시 예열 제한 시간({}초) 초과: 검색어 {}개 중 검색 결과 {}페이지만 채움",
+                    timeout.toSeconds(), topKeywords.size(), warmed.get());
+        }
+        return warmed.get();
+    }
+
+    private boolean warm(Cache searchResults, String keyword, Pageable pageable) {
+        Object key = cacheKeyGenerator.generate(searchService, null, keyword, pageable);
+        if (searchResults.get(key) != null) {
+            return false;
+        }
+        // put 대신 get(key, loader) 로 채워 검색하는 동안 도서가 바뀌면 결과를 남기지 않게 한다
+        boolean[] loaded = new boolean[1];
+        searchResults.get(key, () -> {
+            loaded[0] = true;
+            return searchService.searchBooksUncached(keyword, pageable);
+        });
+        return loaded[0];
+    }
+
+    /**
+     * 모두 끝났으면 true. 실패한 검색은 기록만 하고 나머지는 계속 채운다.
+     */
+    private boolean runAll(List<Callable<Void>> tasks) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()), runnable -> {
+            Thread thread = new Thread(runnable, "cache-warm-up-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        boolean completed = true;
+        try {
+            for (Future<Void> future : executor.invokeAll(tasks, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                try {
+                    future.get();
+                } catch (CancellationException e) {
+                    completed = false;
+                } catch (ExecutionException e) {
+                    log.warn("캐시 예열 검색 실패", e.getCause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completed = false;
+        } finally {
+            executor.shutdownNow();
+        }
+        return completed;
+    }
+}
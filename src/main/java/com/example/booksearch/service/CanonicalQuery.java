@@ -0,0 +1,93 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.query.AndNode;
+import com.example.booksearch.query.NotNode;
+import com.example.booksearch.query.QueryNode;
+import com.example.booksearch.query.TermKind;
+import com.example.booksearch.query.TermNode;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
+
+/**
+ * 파싱된 검색어의 정규형 문자열
+ *
+ * 같은 검색이 되는 검색어("Java|Spring", " java | spring ", "spring|java")가 같은 문자열이 되도록
+ * 포함어/제외어(검색식이면 AND/OR 의 항)를 중복 없이 정렬해 다시 쓴다. 기존 문법 쿼리는 "java spring -beginner",
+ * 검색식은 "(java OR kotlin) AND NOT \"for beginners\"" 처럼 다시 파싱할 수 있는 형태로 쓴다.
+ * foldCase 이면 검색어를 소문자로 바꾸므로, 대소문자를 구분해 일치시키는 곳(database/index 백엔드의 결과)에는 쓰지 않는다.
+ */
+public final class CanonicalQuery {
+
+    private CanonicalQuery() {
+    }
+
+    public static String of(SearchQuery searchQuery, boolean foldCase) {
+        if (searchQuery.isEmpty()) {
+            return "";
+        }
+        if (!searchQuery.isFlat()) {
+            return render(searchQuery.getExpression(), foldCase, true);
+        }
+
+        TreeSet<String> includes = new TreeSet<>();
+        for (String term : searchQuery.getIncludeTerms()) {
+            includes.add(term(searchQuery, term, foldCase));
+        }
+        TreeSet<String> excludes = new TreeSet<>();
+        for (String term : searchQuery.getExcludeTerms()) {
+            excludes.add("-" + term(searchQuery, term, foldCase));
+        }
+
+        StringBuilder canonical = new StringBuilder();
+        if (includes.size() == 1 && containsWhitespace(includes.first())) {
+            // 공백이 든 포함어 하나는 따옴표 구문으로 써야 여러 키워드로 나뉘지 않는다
+            canonical.append('"').append(includes.first()).append('"');
+        } else {
+            boolean piped = includes.stream().anyMatch(CanonicalQuery::containsWhitespace);
+            canonical.append(String.join(piped ? " | " : " ", includes));
+        }
+        for (String exclude : excludes) {
+            if (!canonical.isEmpty()) {
+                canonical.append(' ');
+            }
+            canonical.append(exclude);
+        }
+        return canonical.toString();
+    }
+
+    private static String term(SearchQuery searchQuery, String term, boolean foldCase) {
+        String text = fold(term, foldCase);
+        return searchQuery.isFuzzyTerm(term) ? text + "~" + searchQuery.getMaxEdits(term) : text;
+    }
+
+    private static String render(QueryNode node, boolean foldCase, boolean topLevel) {
+        if (node instanceof TermNode term) {
+            String text = fold(term.text(), foldCase);
+            String quoted = containsWhitespace(text) ? "\"" + text + "\"" : text;
+            return term.kind() == TermKind.FUZZY ? quoted + "~" + term.maxEdits() : quoted;
+        }
+        if (node instanceof NotNode not) {
+            return "NOT " + render(not.operand(), foldCase, false);
+        }
+
+        TreeSet<String> operands = new TreeSet<>();
+        for (QueryNode child : node.children()) {
+            operands.add(render(child, foldCase, false));
+        }
+        if (operands.size() == 1) {
+            return operands.first();
+        }
+        String joined = String.join(node instanceof AndNode ? " AND " : " OR ", List.copyOf(operands));
+        return topLevel ? joined : "(" + joined + ")";
+    }
+
+    private static String fold(String term, boolean foldCase) {
+        return foldCase ? term.toLowerCase(Locale.ROOT) : term;
+    }
+
+    private static boolean containsWhitespace(String text) {
+        return text.chars().anyMatch(Character::isWhitespace);
+    }
+}
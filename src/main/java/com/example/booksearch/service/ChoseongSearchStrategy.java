@@ -0,0 +1,50 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 초성 검색 전략 (예: "ㅍㅇㅆ" → "파이썬")
+ *
+ * 초성 검색어는 색인의 초성 n-gram 으로, 나머지 검색어는 일반 부분 문자열 색인으로 찾는다.
+ * 초성 색인은 메모리 색인 백엔드에만 있으므로, 색인을 쓸 수 없으면 기존처럼 문자 그대로 LIKE 검색한다.
+ */
+@Component
+public class ChoseongSearchStrategy implements SearchStrategy {
+
+    private final BookSearchQueries bookSearchQueries;
+    private final IndexSearchExecutor indexSearchExecutor;
+
+    public ChoseongSearchStrategy(BookSearchQueries bookSearchQueries, IndexSearchExecutor indexSearchExecutor) {
+        this.bookSearchQueries = bookSearchQueries;
+        this.indexSearchExecutor = indexSearchExecutor;
+    }
+
+    @Override
+    public boolean canHandle(SearchQuery searchQuery) {
+        return searchQuery.hasChoseongTerms();
+    }
+
+    @Override
+    public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
+        if (!indexSearchExecutor.canServe(pageable)) {
+            return bookSearchQueries.findMatching(searchQuery.getIncludeTerms(), searchQuery.getExcludeTerms(), pageable);
+        }
+
+        return indexSearchExecutor.execute(
+                (index, documentFrequencies) -> IndexTermMatcher.matches(index, searchQuery, documentFrequencies),
+                IndexTermMatcher.rankingTerms(searchQuery), pageable);
+    }
+
+    @Override
+    public int getPriority() {
+        return 5;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "CHOSEONG_SEARCH";
+    }
+}
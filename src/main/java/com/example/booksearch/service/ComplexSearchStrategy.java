@@ -1,18 +1,21 @@
 package com.example.booksearch.service;
 
 import com.example.booksearch.domain.Book;
-import com.example.booksearch.repository.BookRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class ComplexSearchStrategy implements SearchStrategy {
 
-    private final BookRepository bookRepository;
+    private final BookSearchQueries bookSearchQueries;
+    private final IndexSearchExecutor indexSearchExecutor;
 
-    public ComplexSearchStrategy(BookRepository bookRepository) {
-        this.bookRepository = bookRepository;
+    public ComplexSearchStrategy(BookSearchQueries bookSearchQueries, IndexSearchExecutor indexSearchExecutor) {
+        this.bookSearchQueries = bookSearchQueries;
+        this.indexSearchExecutor = indexSearchExecutor;
     }
 
     @Override
@@ -22,18 +25,32 @@ public class ComplexSearchStrategy implements SearchStrategy {
 
     @Override
     public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
-        String excludeTerm = searchQuery.getExcludeTerms().get(0);
-        
+        List<String> includeTerms = searchQuery.getIncludeTerms();
+        List<String> excludeTerms = searchQuery.getExcludeTerms();
+
+        if (indexSearchExecutor.canServe(pageable)) {
+            // 포함어 합집합에서 제외어 합집합을 한 번에 뺀다
+            return indexSearchExecutor.execute(
+                    (index, documentFrequencies) -> index.containingAny(includeTerms, documentFrequencies)
+                            .andNot(index.containingAny(excludeTerms)),
+                    includeTerms, pageable);
+        }
+
+        if (excludeTerms.size() > 1) {
+            return bookSearchQueries.findMatching(includeTerms, excludeTerms, pageable);
+        }
+
+        String excludeTerm = excludeTerms.get(0);
         if (searchQuery.getIncludeTerms().size() == 1) {
             String includeTerm = searchQuery.getIncludeTerms().get(0);
-            return bookRepository.findByIncludeTermAndExclude(includeTerm, excludeTerm, pageable);
+            return bookSearchQueries.findContainingExcluding(includeTerm, excludeTerm, pageable);
         } else if (searchQuery.getIncludeTerms().size() == 2) {
             String term1 = searchQuery.getIncludeTerms().get(0);
             String term2 = searchQuery.getIncludeTerms().get(1);
-            return bookRepository.findByIncludeTermsOrAndExclude(term1, term2, excludeTerm, pageable);
+            return bookSearchQueries.findContainingEitherExcluding(term1, term2, excludeTerm, pageable);
         }
-        
-        return bookRepository.findAll(pageable);
+
+        return bookSearchQueries.findMatching(includeTerms, excludeTerms, pageable);
     }
 
     @Override
@@ -0,0 +1,53 @@
+package com.example.booksearch.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키의 출현 횟수를 고정 크기 표(depth × width)로 어림하는 count-min sketch
+ *
+ * 행마다 다른 해시로 칸 하나씩을 올리고 그중 가장 작은 값을 어림값으로 쓰므로 실제보다 작게 세지 않는다.
+ * 칸은 AtomicLongArray 라 잠금 없이 여러 스레드가 함께 올린다.
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray table;
+
+    /**
+     * width 는 2 의 거듭제곱으로 올린다.
+     */
+    CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.table = new AtomicLongArray(depth * this.width);
+    }
+
+    /**
+     * amount 만큼 올리고 올린 뒤의 어림값을 돌려준다.
+     */
+    long add(String key, long amount) {
+        int hash = key.hashCode();
+        int step = mix(hash) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, table.addAndGet(index(row, hash, step), amount));
+        }
+        return estimate;
+    }
+
+    void clear() {
+        for (int i = 0; i < table.length(); i++) {
+            table.set(i, 0);
+        }
+    }
+
+    private int index(int row, int hash, int step) {
+        return row * width + ((hash + row * step) & (width - 1));
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
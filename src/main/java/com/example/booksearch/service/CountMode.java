@@ -0,0 +1,31 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.exception.InvalidParameterException;
+
+import java.util.Locale;
+
+/**
+ * 검색 결과 전체 개수를 구하는 방식 (booksearch.search.count.mode, 요청 파라미터 count)
+ */
+public enum CountMode {
+    /** COUNT 쿼리로 정확히 센다 */
+    EXACT,
+    /** 상한(booksearch.search.count.cap)까지만 세고 넘으면 "상한+" 로 보고한다 */
+    CAPPED,
+    /** 데이터베이스 실행 계획의 예상 행 수를 쓴다 (PostgreSQL 이 아니면 CAPPED 로 대신) */
+    ESTIMATED;
+
+    /**
+     * 대소문자 구분 없이 변환한다 (값이 없으면 defaultMode).
+     */
+    public static CountMode from(String value, CountMode defaultMode) {
+        if (value == null || value.isBlank()) {
+            return defaultMode;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("count", value, "exact, capped, estimated 중 하나여야 합니다");
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.exception.InvalidParameterException;
+import com.example.booksearch.index.IndexedBook;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * 커서(keyset) 페이지 요청
+ *
+ * 정렬 키와 마지막으로 받은 도서의 (키 값, ID)를 불투명한 토큰으로 주고받고, 다음 조각은 (키, ID)가
+ * 그 뒤인 도서부터 size 개를 조회한다. 앞 페이지를 건너뛰지 않고 전체 개수도 세지 않는다.
+ * 출간일이 없는 도서는 오름차순에서 맨 뒤, 내림차순에서 맨 앞에 온다.
+ *
+ * @param afterValue 마지막 도서의 키 값 (ID 정렬이거나 출간일이 없으면 null)
+ * @param afterId    마지막 도서의 ID (첫 조각이면 null)
+ */
+public record CursorRequest(Key key, Sort.Direction direction, int size, String afterValue, Long afterId) {
+
+    private static final char SEPARATOR = ':';
+    private static final int DEFAULT_SIZE = 20;
+
+    /**
+     * 커서 페이지에서 쓸 수 있는 정렬 키. 같은 키 값 안에서는 ID 로 순서를 정한다.
+     */
+    public enum Key {
+        ID("id"),
+        TITLE("title"),
+        PUBLICATION_DATE("publicationDate");
+
+        private final String property;
+
+        Key(String property) {
+            this.property = property;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public boolean isNullable() {
+            return this == PUBLICATION_DATE;
+        }
+
+        String valueOf(Book book) {
+            return switch (this) {
+                case ID -> null;
+                case TITLE -> book.getTitle();
+                case PUBLICATION_DATE -> book.getPublicationDate() != null ? book.getPublicationDate().toString() : null;
+            };
+        }
+
+        String valueOf(IndexedBook document) {
+            return switch (this) {
+                case ID -> null;
+                case TITLE -> document.title();
+                case PUBLICATION_DATE -> document.publicationDate() != null ? document.publicationDate().toString() : null;
+            };
+        }
+
+        static Key fromProperty(String property) {
+            for (Key key : values()) {
+                if (key.property.equals(property)) {
+                    return key;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * cursor 가 비어 있으면 pageable 의 정렬로 첫 조각을 요청하고, 있으면 토큰에 담긴 정렬로 이어서 요청한다.
+     * 관련도 정렬이나 정렬 지정이 없으면 ID 오름차순으로 본다.
+     */
+    public static CursorRequest of(String cursor, Pageable pageable) {
+        int size = pageable.isPaged() ? pageable.getPageSize() : DEFAULT_SIZE;
+        if (!StringUtils.hasText(cursor)) {
+            return first(pageable.getSort(), size);
+        }
+        return decode(cursor, size);
+    }
+
+    private static CursorRequest first(Sort sort, int size) {
+        Sort keyed = Sort.by(sort.stream()
+                .filter(order -> !order.getProperty().equals(RelevanceSort.PROPERTY))
+                .toList());
+        Iterator<Sort.Order> orders = keyed.iterator();
+        if (!orders.hasNext()) {
+            return new CursorRequest(Key.ID, Sort.Direction.ASC, size, null, null);
+        }
+
+        Sort.Order order = orders.next();
+        Key key = Key.fromProperty(order.getProperty());
+        // sort=title&sort=id 처럼 같은 방향의 ID 를 덧붙인 정렬은 허용한다
+        boolean tieBreakerOnly = !orders.hasNext() || (isIdTieBreaker(orders.next(), order) && !orders.hasNext());
+        if (key == null || !tieBreakerOnly) {
+            throw new InvalidParameterException("sort", sort.toString(),
+                    "커서 페이지는 id, title, publicationDate 중 하나로만 정렬할 수 있습니다");
+        }
+        return new CursorRequest(key, order.getDirection(), size, null, null);
+    }
+
+    private static boolean isIdTieBreaker(Sort.Order next, Sort.Order first) {
+        return next.getProperty().equals("id") && next.getDirection() == first.getDirection();
+    }
+
+    private static CursorRequest decode(String cursor, int size) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(String.valueOf(SEPARATOR), 4);
+            Key key = Key.fromProperty(parts[0]);
+            if (key == null || parts.length < 3) {
+                throw new IllegalArgumentException(decoded);
+            }
+
+            Sort.Direction direction = Sort.Direction.fromString(parts[1]);
+            long afterId = Long.parseLong(parts[2]);
+            String afterValue = parts.length == 4 ? parts[3] : null;
+            boolean valid = switch (key) {
+                case ID -> afterValue == null;
+                case TITLE -> afterValue != null;
+                case PUBLICATION_DATE -> afterValue == null || LocalDate.parse(afterValue) != null;
+            };
+            if (!valid) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return new CursorRequest(key, direction, size, afterValue, afterId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidParameterException("cursor", cursor, "올바른 커서가 아닙니다");
+        }
+    }
+
+    public boolean isFirst() {
+        return afterId == null;
+    }
+
+    public boolean isAscending() {
+        return direction.isAscending();
+    }
+
+    /**
+     * book 다음 조각을 요청하는 토큰
+     */
+    public String cursorAfter(Book book) {
+        String value = key.valueOf(book);
+        String token = key.property + SEPARATOR + direction.name() + SEPARATOR + book.getId()
+                + (value != null ? SEPARATOR + value : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 응답에 담을 조각의 페이지 정보 (정렬 키 뒤에 ID 를 붙인다)
+     */
+    public Pageable toPageable() {
+        Sort sort = key == Key.ID
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, key.property, "id");
+        return PageRequest.of(0, size, sort);
+    }
+
+    /**
+     * 색인 문서를 이 요청의 순서로 비교한다 (키 값이 없으면 오름차순 맨 뒤).
+     */
+    Comparator<IndexedBook> documentOrder() {
+        Comparator<IndexedBook> ascending = Comparator
+                .comparing((IndexedBook document) -> key.valueOf(document),
+                        Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparingInt(IndexedBook::id);
+        return isAscending() ? ascending : ascending.reversed();
+    }
+
+    /**
+     * 색인 문서가 커서 뒤에 오는지 여부
+     */
+    boolean isAfterCursor(IndexedBook document) {
+        if (isFirst()) {
+            return true;
+        }
+
+        int compared = Comparator.nullsLast(Comparator.<String>naturalOrder())
+                .compare(key.valueOf(document), afterValue);
+        if (compared == 0) {
+            compared = Long.compare(document.id(), afterId);
+        }
+        return isAscending() ? compared > 0 : compared < 0;
+    }
+}
@@ -22,7 +22,7 @@ public class EmptySearchStrategy implements SearchStrategy {
 
     @Override
     public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
-        return bookRepository.findAll(pageable);
+        return bookRepository.findAll(RelevanceSort.withoutRelevance(pageable));
     }
 
     @Override
@@ -0,0 +1,70 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.config.SearchBackend;
+import com.example.booksearch.domain.Book;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PostgreSQL 전문 검색 전략 (pg-fts 백엔드)
+ *
+ * 포함어는 OR(|), 제외어는 NOT(!) 으로 묶은 tsquery 를 만들어 search_vector GIN 색인으로 검색한다.
+ * 각 검색어는 접두어 일치(:*)로 검색하며, 따옴표로 감싼 어휘소로 넘겨 tsquery 연산자로 해석되지 않게 한다.
+ * 괄호/AND 가 들어간 검색식은 {@link BooleanSearchStrategy} 가 처리한다.
+ */
+@Component
+public class FullTextSearchStrategy implements SearchStrategy {
+
+    private final BookSearchQueries bookSearchQueries;
+    private final boolean enabled;
+
+    public FullTextSearchStrategy(BookSearchQueries bookSearchQueries,
+                                  @Value("${booksearch.search.backend:database}") SearchBackend searchBackend) {
+        this.bookSearchQueries = bookSearchQueries;
+        this.enabled = searchBackend == SearchBackend.PG_FTS;
+    }
+
+    @Override
+    public boolean canHandle(SearchQuery searchQuery) {
+        return enabled && !searchQuery.isEmpty() && searchQuery.isFlat();
+    }
+
+    @Override
+    public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
+        return bookSearchQueries.findFullText(toTsQuery(searchQuery), pageable);
+    }
+
+    static String toTsQuery(SearchQuery searchQuery) {
+        List<String> clauses = new ArrayList<>();
+        if (searchQuery.hasIncludeTerms()) {
+            List<String> includes = searchQuery.getIncludeTerms().stream()
+                    .map(FullTextSearchStrategy::prefixLexeme)
+                    .toList();
+            clauses.add(includes.size() == 1 ? includes.get(0) : "(" + String.join(" | ", includes) + ")");
+        }
+        for (String excludeTerm : searchQuery.getExcludeTerms()) {
+            clauses.add("!" + prefixLexeme(excludeTerm));
+        }
+        return String.join(" & ", clauses);
+    }
+
+    private static String prefixLexeme(String term) {
+        String quoted = term.replace("\\", "\\\\").replace("'", "''");
+        return "'" + quoted + "':*";
+    }
+
+    @Override
+    public int getPriority() {
+        return 10;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "FULL_TEXT_SEARCH";
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 오타 허용 검색 전략 (예: "Efective~" → "Effective")
+ *
+ * 오타 검색어는 색인의 BK-tree 에서 편집 거리 이내의 토큰을 찾고, 나머지 검색어는 일반 색인으로 찾는다.
+ * BK-tree 는 메모리 색인 백엔드에만 있으므로, 색인을 쓸 수 없으면 ~ 를 뗀 검색어로 LIKE 검색한다.
+ */
+@Component
+public class FuzzySearchStrategy implements SearchStrategy {
+
+    private final BookSearchQueries bookSearchQueries;
+    private final IndexSearchExecutor indexSearchExecutor;
+
+    public FuzzySearchStrategy(BookSearchQueries bookSearchQueries, IndexSearchExecutor indexSearchExecutor) {
+        this.bookSearchQueries = bookSearchQueries;
+        this.indexSearchExecutor = indexSearchExecutor;
+    }
+
+    @Override
+    public boolean canHandle(SearchQuery searchQuery) {
+        return searchQuery.hasFuzzyTerms();
+    }
+
+    @Override
+    public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
+        if (!indexSearchExecutor.canServe(pageable)) {
+            return bookSearchQueries.findMatching(searchQuery.getIncludeTerms(), searchQuery.getExcludeTerms(), pageable);
+        }
+
+        return indexSearchExecutor.execute(
+                (index, documentFrequencies) -> IndexTermMatcher.matches(index, searchQuery, documentFrequencies),
+                IndexTermMatcher.rankingTerms(searchQuery), pageable);
+    }
+
+    @Override
+    public int getPriority() {
+        return 6;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "FUZZY_SEARCH";
+    }
+}
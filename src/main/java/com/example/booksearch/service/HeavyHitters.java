@@ -0,0 +1,165 @@
+package com.example.booksearch.service;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 제한된 메모리로 자주 나오는 키 상위 capacity 개의 횟수를 세는 Space-Saving 집계
+ *
+ * 모든 키는 {@link CountMinSketch} 에 세고, 감시 중인 키는 자기 카운터만 올리므로 잠금이 없다.
+ * 감시하지 않는 키는 스케치의 어림값이 감시 중인 가장 작은 카운터보다 커질 때만 잠금을 잡고 그 자리를 대신하므로
+ * 한두 번 나온 드문 키가 인기 키를 밀어내지 못한다. 횟수는 실제보다 작지 않은 어림값이다 (감시 키 수보다 종류가 적으면 정확).
+ * 상위 목록은 정렬해 둔 스냅숏에서 잘라 주며, 스냅숏은 바뀐 뒤 refreshInterval 이 지나야 다시 만든다.
+ */
+public class HeavyHitters {
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH_PER_KEY = 16;
+    private static final Comparator<Hitter> BY_COUNT_THEN_RECENT = Comparator
+            .comparingLong(Hitter::count).reversed()
+            .thenComparing(Comparator.comparingLong(Hitter::lastSeenMillis).reversed())
+            .thenComparing(Hitter::key);
+
+    /**
+     * 키, 어림 횟수, 마지막으로 센 시각(epoch ms)
+     */
+    public record Hitter(String key, long count, long lastSeenMillis) {
+    }
+
+    private record Snapshot(List<Hitter> hitters, long builtAt) {
+    }
+
+    private static final class Counter {
+        private final AtomicLong count;
+        private volatile long lastSeenMillis;
+
+        private Counter(long count, long lastSeenMillis) {
+            this.count = new AtomicLong(count);
+            this.lastSeenMillis = lastSeenMillis;
+        }
+
+        private void increment(long now) {
+            count.incrementAndGet();
+            lastSeenMillis = now;
+        }
+    }
+
+    private final int capacity;
+    private final long refreshIntervalNanos;
+    private final ConcurrentMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final CountMinSketch sketch;
+    /** 감시 키가 가득 찼을 때 새 키가 넘어야 하는 횟수 (가장 작은 카운터, 늦게 갱신되어도 잠금 안에서 다시 확인한다) */
+    private volatile long admissionThreshold;
+    private volatile boolean dirty;
+    private volatile Snapshot snapshot;
+
+    public HeavyHitters(int capacity, Duration refreshInterval) {
+        this.capacity = capacity;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.sketch = new CountMinSketch(SKETCH_DEPTH, capacity * SKETCH_WIDTH_PER_KEY);
+    }
+
+    public void record(String key) {
+        long now = System.currentTimeMillis();
+        long estimate = sketch.add(key, 1);
+        dirty = true;
+
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.increment(now);
+            return;
+        }
+        if (counters.size() < capacity) {
+            // 가득 차기 전에는 밀려난 키가 없으므로 처음 나온 키다
+            Counter existing = counters.putIfAbsent(key, new Counter(1, now));
+            if (existing != null) {
+                existing.increment(now);
+            }
+            return;
+        }
+        if (estimate > admissionThreshold) {
+            admit(key, estimate, now);
+        }
+    }
+
+    /**
+     * 횟수가 많은 순(같으면 최근 순)으로 최대 limit 개
+     */
+    public List<Hitter> top(int limit) {
+        Snapshot current = snapshot;
+        if (current == null || (dirty && System.nanoTime() - current.builtAt() >= refreshIntervalNanos)) {
+            current = rebuildSnapshot();
+        }
+        List<Hitter> hitters = current.hitters();
+        return List.copyOf(hitters.subList(0, Math.min(limit, hitters.size())));
+    }
+
+    /**
+     * 감시 키와 횟수를 주어진 값(원본 집계)으로 바꾼다. capacity 를 넘는 뒤쪽 키는 버린다.
+     */
+    public synchronized void reset(List<Hitter> hitters) {
+        counters.clear();
+        sketch.clear();
+        for (Hitter hitter : hitters.subList(0, Math.min(capacity, hitters.size()))) {
+            counters.put(hitter.key(), new Counter(hitter.count(), hitter.lastSeenMillis()));
+            sketch.add(hitter.key(), hitter.count());
+        }
+        admissionThreshold = minimumCount();
+        snapshot = null;
+    }
+
+    private synchronized void admit(String key, long estimate, long now) {
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            counter.increment(now);
+            return;
+        }
+
+        Map.Entry<String, Counter> minimum = minimum();
+        if (minimum != null && estimate <= minimum.getValue().count.get()) {
+            admissionThreshold = minimum.getValue().count.get();
+            return;
+        }
+        if (minimum != null) {
+            counters.remove(minimum.getKey(), minimum.getValue());
+        }
+        counters.put(key, new Counter(estimate, now));
+        admissionThreshold = minimumCount();
+    }
+
+    private synchronized Snapshot rebuildSnapshot() {
+        // 만드는 동안 들어온 기록은 다음 조회에서 반영되도록 먼저 내린다
+        dirty = false;
+        List<Hitter> hitters = counters.entrySet().stream()
+                .map(entry -> new Hitter(entry.getKey(), entry.getValue().count.get(),
+                        entry.getValue().lastSeenMillis))
+                .sorted(BY_COUNT_THEN_RECENT)
+                .toList();
+        Snapshot rebuilt = new Snapshot(hitters, System.nanoTime());
+        snapshot = rebuilt;
+        return rebuilt;
+    }
+
+    private Map.Entry<String, Counter> minimum() {
+        Map.Entry<String, Counter> minimum = null;
+        for (Map.Entry<String, Counter> entry : counters.entrySet()) {
+            if (minimum == null || entry.getValue().count.get() < minimum.getValue().count.get()) {
+                minimum = entry;
+            }
+        }
+        return minimum;
+    }
+
+    private long minimumCount() {
+        if (counters.size() < capacity) {
+            return 0;
+        }
+        Map.Entry<String, Counter> minimum = minimum();
+        return minimum == null ? 0 : minimum.getValue().count.get();
+    }
+}
@@ -0,0 +1,234 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.config.SearchBackend;
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.index.BookIndex;
+import com.example.booksearch.index.IndexedBook;
+import com.example.booksearch.index.PostingList;
+import com.example.booksearch.repository.BookRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 메모리 색인으로 검색을 수행하고 결과를 페이지로 만든다.
+ *
+ * 매칭된 ID 집합에서 요청한 페이지 구간만 잘라 기본키로 조회하므로,
+ * 전체 개수는 포스팅 리스트 크기에서 바로 얻고 데이터베이스에는 LIKE 스캔이 발생하지 않는다.
+ */
+@Component
+public class IndexSearchExecutor {
+
+    private static final Set<String> SORTABLE_PROPERTIES =
+            Set.of("id", "title", "subtitle", "author", "publicationDate", RelevanceSort.PROPERTY);
+
+    private final BookRepository bookRepository;
+    private final BookIndex bookIndex;
+    private final SearchBackend searchBackend;
+
+    public IndexSearchExecutor(BookRepository bookRepository, BookIndex bookIndex,
+                               @Value("${booksearch.search.backend:database}") SearchBackend searchBackend) {
+        this.bookRepository = bookRepository;
+        this.bookIndex = bookIndex;
+        this.searchBackend = searchBackend;
+    }
+
+    public static IndexSearchExecutor disabled(BookRepository bookRepository) {
+        return new IndexSearchExecutor(bookRepository, new BookIndex(), SearchBackend.DATABASE);
+    }
+
+    /**
+     * 색인 백엔드가 활성화되어 있고, 요청한 정렬을 색인에 보관된 필드로 처리할 수 있는지 여부
+     */
+    public boolean canServe(Pageable pageable) {
+        if (!canServeCursor()) {
+            return false;
+        }
+        return pageable.getSort().stream()
+                .allMatch(order -> SORTABLE_PROPERTIES.contains(order.getProperty()));
+    }
+
+    /**
+     * 색인 백엔드가 활성화되어 커서 페이지를 처리할 수 있는지 여부 (커서 정렬 키는 모두 색인에 있다)
+     */
+    public boolean canServeCursor() {
+        return searchBackend == SearchBackend.INDEX && bookIndex.isReady();
+    }
+
+    public Page<Book> execute(Function<BookIndex, PostingList> query, Pageable pageable) {
+        return execute(query, List.of(), pageable);
+    }
+
+    /**
+     * rankingTerms 는 sort=relevance 일 때 BM25 점수를 매길 검색어 (없으면 ID 순)
+     */
+    public Page<Book> execute(Function<BookIndex, PostingList> query, List<String> rankingTerms, Pageable pageable) {
+        return execute((index, documentFrequencies) -> query.apply(index), rankingTerms, pageable);
+    }
+
+    /**
+     * query 가 매칭하면서 센 검색어별 일치 도서 수를 두 번째 인자에 남기면 BM25 idf 를 다시 세지 않고 쓴다.
+     */
+    public Page<Book> execute(BiFunction<BookIndex, Map<String, Integer>, PostingList> query,
+                              List<String> rankingTerms, Pageable pageable) {
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        PostingList matches = query.apply(bookIndex, documentFrequencies);
+
+        int total = matches.size();
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), total) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), total) : total;
+
+        int[] pageIds = RelevanceSort.isRequested(pageable)
+                ? relevancePageIds(matches, rankingTerms, documentFrequencies, from, to)
+                : pageIds(matches, pageable.getSort(), from, to);
+        return new PageImpl<>(loadInOrder(pageIds), pageable, total);
+    }
+
+    /**
+     * 매칭된 도서 ID 전체를 sort 순서로 돌려준다 (relevance 면 BM25 점수 순). limit 개를 넘으면 null.
+     */
+    public long[] sortedIds(BiFunction<BookIndex, Map<String, Integer>, PostingList> query, List<String> rankingTerms,
+                            Sort sort, int limit) {
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        PostingList matches = query.apply(bookIndex, documentFrequencies);
+        int total = matches.size();
+        if (total > limit) {
+            return null;
+        }
+
+        int[] ids = sort.getOrderFor(RelevanceSort.PROPERTY) != null
+                ? relevancePageIds(matches, rankingTerms, documentFrequencies, 0, total)
+                : pageIds(matches, sort, 0, total);
+        return Arrays.stream(ids).asLongStream().toArray();
+    }
+
+    /**
+     * 커서 뒤의 한 조각. ID 순이면 포스팅 리스트의 rank 로 커서 위치를 바로 찾고,
+     * 제목/출간일 순이면 커서 뒤의 문서만 골라 정렬한다. size + 1 개를 골라 다음 조각이 있는지 판단한다.
+     */
+    public Slice<Book> executeAfter(Function<BookIndex, PostingList> query, CursorRequest request) {
+        PostingList matches = query.apply(bookIndex);
+
+        int limit = request.size() + 1;
+        int[] ids = request.key() == CursorRequest.Key.ID
+                ? idsAfter(matches, request, limit)
+                : documentIdsAfter(matches, request, limit);
+        boolean hasNext = ids.length > request.size();
+        List<Book> books = loadInOrder(hasNext ? Arrays.copyOf(ids, request.size()) : ids);
+        return new SliceImpl<>(books, request.toPageable(), hasNext);
+    }
+
+    private int[] idsAfter(PostingList matches, CursorRequest request, int limit) {
+        if (request.isAscending()) {
+            int from = request.isFirst() ? 0 : matches.rank(BookIndex.toDocId(request.afterId()) + 1);
+            return matches.slice(from, from + limit);
+        }
+        int before = request.isFirst() ? matches.size() : matches.rank(BookIndex.toDocId(request.afterId()));
+        int from = matches.size() - before;
+        return matches.sliceDescending(from, from + limit);
+    }
+
+    private int[] documentIdsAfter(PostingList matches, CursorRequest request, int limit) {
+        List<IndexedBook> documents = new ArrayList<>();
+        matches.forEach(id -> {
+            IndexedBook document = bookIndex.document(id);
+            if (document != null && request.isAfterCursor(document)) {
+                documents.add(document);
+            }
+        });
+        documents.sort(request.documentOrder());
+        return documents.subList(0, Math.min(limit, documents.size())).stream()
+                .mapToInt(IndexedBook::id)
+                .toArray();
+    }
+
+    private int[] relevancePageIds(PostingList matches, List<String> rankingTerms,
+                                   Map<String, Integer> documentFrequencies, int from, int to) {
+        if (rankingTerms.isEmpty()) {
+            return matches.slice(from, to);
+        }
+        // 앞 페이지까지 포함한 상위 to 개만 힙으로 고르고 요청 구간만 잘라낸다
+        int[] top = bookIndex.topByRelevance(matches, rankingTerms, documentFrequencies, to);
+        return Arrays.copyOfRange(top, Math.min(from, top.length), top.length);
+    }
+
+    private int[] pageIds(PostingList matches, Sort sort, int from, int to) {
+        if (sort.isUnsorted()) {
+            return matches.slice(from, to);
+        }
+
+        Sort.Order firstOrder = sort.iterator().next();
+        if (sort.stream().count() == 1 && firstOrder.getProperty().equals("id")) {
+            // 포스팅 리스트는 이미 ID 오름차순이므로 rank/select 로 페이지 구간만 꺼낸다
+            return firstOrder.isAscending() ? matches.slice(from, to) : matches.sliceDescending(from, to);
+        }
+
+        Comparator<IndexedBook> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<IndexedBook> next = comparatorFor(order);
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<IndexedBook> byFields = comparator.thenComparingInt(IndexedBook::id);
+
+        int[] ids = matches.toArray();
+        List<IndexedBook> documents = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            IndexedBook document = bookIndex.document(id);
+            if (document != null) {
+                documents.add(document);
+            }
+        }
+        documents.sort(byFields);
+        return documents.subList(Math.min(from, documents.size()), Math.min(to, documents.size())).stream()
+                .mapToInt(IndexedBook::id)
+                .toArray();
+    }
+
+    private Comparator<IndexedBook> comparatorFor(Sort.Order order) {
+        Comparator<IndexedBook> comparator = switch (order.getProperty()) {
+            case "id" -> Comparator.comparingInt(IndexedBook::id);
+            case "title" -> Comparator.comparing(IndexedBook::title, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "subtitle" -> Comparator.comparing(IndexedBook::subtitle, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "author" -> Comparator.comparing(IndexedBook::author, Comparator.nullsLast(Comparator.naturalOrder()));
+            case "publicationDate" -> Comparator.comparing(IndexedBook::publicationDate, Comparator.nullsLast(Comparator.naturalOrder()));
+            default -> throw new IllegalArgumentException("색인으로 정렬할 수 없는 속성입니다: " + order.getProperty());
+        };
+        return order.isAscending() ? comparator : comparator.reversed();
+    }
+
+    private List<Book> loadInOrder(int[] ids) {
+        if (ids.length == 0) {
+            return List.of();
+        }
+
+        List<Long> bookIds = Arrays.stream(ids).mapToObj(id -> (long) id).toList();
+        Map<Long, Book> booksById = new HashMap<>();
+        for (Book book : bookRepository.findAllById(bookIds)) {
+            booksById.put(book.getId(), book);
+        }
+
+        List<Book> ordered = new ArrayList<>(ids.length);
+        for (Long bookId : bookIds) {
+            Book book = booksById.get(bookId);
+            if (book != null) {
+                ordered.add(book);
+            }
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.index.BookIndex;
+import com.example.booksearch.index.PostingList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색어 종류(일반 / 초성 / 오타 허용)에 맞는 색인 조회를 골라 SearchQuery 전체의 일치 집합을 만든다.
+ */
+final class IndexTermMatcher {
+
+    private IndexTermMatcher() {
+    }
+
+    /**
+     * 포함어 중 하나 이상과 일치하고(포함어가 없으면 전체) 제외어와는 하나도 일치하지 않는 도서.
+     * 일반 포함어의 일치 도서 수는 documentFrequencies 에 남긴다.
+     */
+    static PostingList matches(BookIndex index, SearchQuery searchQuery, Map<String, Integer> documentFrequencies) {
+        PostingList matches = searchQuery.hasIncludeTerms()
+                ? matchingAny(index, searchQuery, searchQuery.getIncludeTerms(), documentFrequencies)
+                : index.all();
+        return matches.andNot(matchingAny(index, searchQuery, searchQuery.getExcludeTerms(), new HashMap<>()));
+    }
+
+    /**
+     * 관련도 점수를 매길 검색어. 초성/오타 검색어는 원문에 그대로 나타나지 않으므로 제외한다.
+     */
+    static List<String> rankingTerms(SearchQuery searchQuery) {
+        return searchQuery.getIncludeTerms().stream()
+                .filter(term -> !searchQuery.isChoseongTerm(term) && !searchQuery.isFuzzyTerm(term))
+                .toList();
+    }
+
+    private static PostingList matchingAny(BookIndex index, SearchQuery searchQuery, List<String> terms,
+                                           Map<String, Integer> documentFrequencies) {
+        List<PostingList> matches = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            matches.add(matching(index, searchQuery, term, documentFrequencies));
+        }
+        return PostingList.union(matches);
+    }
+
+    private static PostingList matching(BookIndex index, SearchQuery searchQuery, String term,
+                                        Map<String, Integer> documentFrequencies) {
+        if (searchQuery.isFuzzyTerm(term)) {
+            return index.fuzzy(term, searchQuery.getMaxEdits(term));
+        }
+        if (searchQuery.isChoseongTerm(term)) {
+            return index.containingChoseong(term);
+        }
+        return index.containing(term, documentFrequencies);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.config.SearchBackend;
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.index.LuceneBookIndex;
+import com.example.booksearch.index.LuceneHits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lucene 색인 검색 전략 (lucene 백엔드)
+ *
+ * 포함어/제외어 개수에 관계없이 검색 쿼리를 처리한다 (괄호/AND 가 들어간 검색식은 {@link BooleanSearchStrategy}).
+ * 색인이 아직 준비되지 않았거나 색인에 없는 속성으로 정렬을 요청하면 데이터베이스 쿼리로 대신 검색한다.
+ */
+@Component
+public class LuceneSearchStrategy implements SearchStrategy {
+
+    private final BookSearchQueries bookSearchQueries;
+    private final LuceneBookIndex luceneBookIndex;
+    private final boolean enabled;
+
+    public LuceneSearchStrategy(BookSearchQueries bookSearchQueries, LuceneBookIndex luceneBookIndex,
+                                @Value("${booksearch.search.backend:database}") SearchBackend searchBackend) {
+        this.bookSearchQueries = bookSearchQueries;
+        this.luceneBookIndex = luceneBookIndex;
+        this.enabled = searchBackend == SearchBackend.LUCENE;
+    }
+
+    @Override
+    public boolean canHandle(SearchQuery searchQuery) {
+        return enabled && !searchQuery.isEmpty() && searchQuery.isFlat();
+    }
+
+    @Override
+    public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
+        // relevance 정렬은 Lucene 기본 점수(BM25)순으로 처리한다
+        Sort sort = RelevanceSort.isRequested(pageable) ? Sort.unsorted() : pageable.getSort();
+        if (!luceneBookIndex.isReady() || !luceneBookIndex.supports(sort)) {
+            return bookSearchQueries.findMatching(searchQuery.getIncludeTerms(), searchQuery.getExcludeTerms(), pageable);
+        }
+
+        int offset = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE) : 0;
+        int limit = pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE;
+        LuceneHits hits = luceneBookIndex.search(
+                searchQuery.getIncludeTerms(), searchQuery.getExcludeTerms(), sort, offset, limit);
+
+        return new PageImpl<>(bookSearchQueries.findAllByIdInOrder(hits.bookIds()), pageable, hits.totalHits());
+    }
+
+    @Override
+    public int getPriority() {
+        return 10;
+    }
+
+    @Override
+    public String getStrategyName() {
+        return "LUCENE_SEARCH";
+    }
+}
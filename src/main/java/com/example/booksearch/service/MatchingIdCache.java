@@ -0,0 +1,163 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.cache.DependencyIndex;
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.query.NotNode;
+import com.example.booksearch.query.OrNode;
+import com.example.booksearch.query.QueryNode;
+import com.example.booksearch.query.TermNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * 검색식 + 정렬별로 매칭된 도서 ID 전체를 정렬된 long[] 로 캐시한다.
+ *
+ * 어느 페이지든 ID 배열에서 구간만 잘라 기본키로 조회하므로, 같은 검색을 넘겨 보는 동안 매칭/정렬은
+ * 한 번만 계산하고 전체 개수는 배열 길이로 바로 얻는다. 캐시 크기는 보관한 ID 개수로 제한하고,
+ * 한 검색의 결과가 maxIdsPerQuery 를 넘으면 그 사실만 기억해 기존 페이지 쿼리로 검색하게 한다.
+ * 목록마다 검색식의 검색어({@link SearchTermDependencies#termsOf})를 기록해 두고, 도서가 바뀌면 그 도서의 제목·부제·저자에
+ * 나타나는 검색어의 목록과 검색어 없이도 일치하는 목록만 지운다 ({@link com.example.booksearch.config.BookChangeCacheInvalidator}).
+ */
+@Component
+public class MatchingIdCache {
+
+    /** 결과가 너무 커서 캐시하지 않는 검색의 표시 */
+    private static final long[] TOO_MANY = new long[0];
+    private static final int MAXIMUM_TRACKED_KEYS = 100_000;
+
+    private final BookSearchQueries bookSearchQueries;
+    private final Cache<String, long[]> idLists;
+    private final int maxIdsPerQuery;
+    private final DependencyIndex<String> dependencies = new DependencyIndex<>(MAXIMUM_TRACKED_KEYS);
+
+    @Autowired
+    public MatchingIdCache(BookSearchQueries bookSearchQueries,
+                           @Value("${booksearch.search.id-cache.max-ids:2000000}") long maxIds,
+                           @Value("${booksearch.search.id-cache.max-ids-per-query:100000}") int maxIdsPerQuery,
+                           @Value("${booksearch.search.id-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.bookSearchQueries = bookSearchQueries;
+        this.maxIdsPerQuery = maxIdsPerQuery;
+        this.idLists = maxIds > 0 && maxIdsPerQuery > 0
+                ? Caffeine.newBuilder()
+                        .maximumWeight(maxIds)
+                        .weigher((String key, long[] ids) -> Math.max(1, ids.length))
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .build()
+                : null;
+    }
+
+    /**
+     * 캐시하지 않는 인스턴스 (데이터베이스 없이 만든 SearchStrategyManager 용)
+     */
+    public static MatchingIdCache disabled(BookSearchQueries bookSearchQueries) {
+        return new MatchingIdCache(bookSearchQueries, 0, 0, 0);
+    }
+
+    public boolean isEnabled() {
+        return idLists != null;
+    }
+
+    /**
+     * key 의 ID 목록에서 요청한 페이지를 잘라 조회한다. 목록이 없으면 idLoader(limit) 로 계산해 캐시하고,
+     * idLoader 가 null (limit 개 초과)을 돌려주었거나 이전에 그랬으면 null 을 돌려준다.
+     *
+     * @param terms 목록이 의존하는 검색어 (빈 집합이면 어떤 도서 변경에도 지운다)
+     */
+    public Page<Book> findPage(String key, Set<String> terms, IntFunction<long[]> idLoader, Pageable pageable) {
+        // 계산 전에 기록해 두면 계산 중의 변경도 이 키를 지우고, Caffeine 은 계산이 끝난 뒤 지운다
+        if (!dependencies.makeRoomFor(key)) {
+            idLists.invalidateAll();
+        }
+        dependencies.track(key, terms);
+        long[] ids = idLists.get(key, ignored -> {
+            long[] loaded = idLoader.apply(maxIdsPerQuery);
+            return loaded != null ? loaded : TOO_MANY;
+        });
+        if (ids == TOO_MANY) {
+            return null;
+        }
+
+        int total = ids.length;
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), total) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), total) : total;
+        List<Long> pageIds = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            pageIds.add(ids[i]);
+        }
+        return new PageImpl<>(bookSearchQueries.findAllByIdInOrder(pageIds), pageable, total);
+    }
+
+    /**
+     * 검색식과 정렬의 캐시 키. 검색어는 길이를 앞에 붙여 어떤 문자가 들어 있어도 다른 검색식과 겹치지 않고,
+     * AND/OR 의 항은 중복 없이 정렬하므로 항 순서만 다른 검색식은 같은 키가 된다 (대소문자는 구분).
+     *
+     * @param path 결과를 계산한 경로 (색인과 데이터베이스는 관련도 순서가 다르므로 구분한다)
+     */
+    public static String keyOf(String path, QueryNode expression, Sort sort) {
+        StringBuilder key = new StringBuilder(path).append('|');
+        if (expression != null) {
+            appendNode(key, expression);
+        }
+        for (Sort.Order order : sort) {
+            key.append('|').append(order.getProperty()).append(order.isAscending() ? "+" : "-");
+        }
+        return key.toString();
+    }
+
+    private static void appendNode(StringBuilder key, QueryNode node) {
+        if (node instanceof TermNode term) {
+            key.append(term.kind().name().charAt(0)).append(term.maxEdits())
+                    .append(':').append(term.text().length()).append(':').append(term.text());
+            return;
+        }
+        if (node instanceof NotNode not) {
+            key.append('!');
+            appendNode(key, not.operand());
+            return;
+        }
+        TreeSet<String> operands = new TreeSet<>();
+        for (QueryNode child : node.children()) {
+            StringBuilder operand = new StringBuilder();
+            appendNode(operand, child);
+            operands.add(operand.toString());
+        }
+        key.append(node instanceof OrNode ? "|(" : "&(");
+        for (String operand : operands) {
+            key.append(operand).append(',');
+        }
+        key.append(')');
+    }
+
+    /**
+     * changed 가 참인 검색어에 의존하는 목록과 검색어에 의존하지 않는 목록을 지운다.
+     */
+    public void invalidate(Predicate<String> changed) {
+        if (idLists != null) {
+            idLists.invalidateAll(dependencies.removeDependents(changed));
+        }
+    }
+
+    /**
+     * ID 목록을 모두 비운다 (다른 노드에서 도서가 바뀌었을 때).
+     */
+    public void clear() {
+        if (idLists != null) {
+            idLists.invalidateAll();
+        }
+    }
+}
@@ -1,18 +1,21 @@
 package com.example.booksearch.service;
 
 import com.example.booksearch.domain.Book;
-import com.example.booksearch.repository.BookRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class NotSearchStrategy implements SearchStrategy {
 
-    private final BookRepository bookRepository;
+    private final BookSearchQueries bookSearchQueries;
+    private final IndexSearchExecutor indexSearchExecutor;
 
-    public NotSearchStrategy(BookRepository bookRepository) {
-        this.bookRepository = bookRepository;
+    public NotSearchStrategy(BookSearchQueries bookSearchQueries, IndexSearchExecutor indexSearchExecutor) {
+        this.bookSearchQueries = bookSearchQueries;
+        this.indexSearchExecutor = indexSearchExecutor;
     }
 
     @Override
@@ -22,8 +25,15 @@ public class NotSearchStrategy implements SearchStrategy {
 
     @Override
     public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
-        String excludeTerm = searchQuery.getExcludeTerms().get(0);
-        return bookRepository.findByExcludeTerm(excludeTerm, pageable);
+        List<String> excludeTerms = searchQuery.getExcludeTerms();
+        if (indexSearchExecutor.canServe(pageable)) {
+            return indexSearchExecutor.execute(index -> index.all().andNot(index.containingAny(excludeTerms)), pageable);
+        }
+
+        if (excludeTerms.size() == 1) {
+            return bookSearchQueries.findExcluding(excludeTerms.get(0), pageable);
+        }
+        return bookSearchQueries.findMatching(List.of(), excludeTerms, pageable);
     }
 
     @Override
@@ -1,7 +1,6 @@
 package com.example.booksearch.service;
 
 import com.example.booksearch.domain.Book;
-import com.example.booksearch.repository.BookRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -9,10 +8,12 @@ import org.springframework.stereotype.Component;
 @Component
 public class OrSearchStrategy implements SearchStrategy {
 
-    private final BookRepository bookRepository;
+    private final BookSearchQueries bookSearchQueries;
+    private final IndexSearchExecutor indexSearchExecutor;
 
-    public OrSearchStrategy(BookRepository bookRepository) {
-        this.bookRepository = bookRepository;
+    public OrSearchStrategy(BookSearchQueries bookSearchQueries, IndexSearchExecutor indexSearchExecutor) {
+        this.bookSearchQueries = bookSearchQueries;
+        this.indexSearchExecutor = indexSearchExecutor;
     }
 
     @Override
@@ -26,7 +27,12 @@ public class OrSearchStrategy implements SearchStrategy {
     public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
         String term1 = searchQuery.getIncludeTerms().get(0);
         String term2 = searchQuery.getIncludeTerms().get(1);
-        return bookRepository.findByIncludeTermsOr(term1, term2, pageable);
+        if (indexSearchExecutor.canServe(pageable)) {
+            return indexSearchExecutor.execute((index, documentFrequencies) ->
+                            index.containing(term1, documentFrequencies).or(index.containing(term2, documentFrequencies)),
+                    searchQuery.getIncludeTerms(), pageable);
+        }
+        return bookSearchQueries.findContainingEither(term1, term2, pageable);
     }
 
     @Override
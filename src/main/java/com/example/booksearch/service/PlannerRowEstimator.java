@@ -0,0 +1,112 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.query.NotNode;
+import com.example.booksearch.query.OrNode;
+import com.example.booksearch.query.QueryNode;
+import com.example.booksearch.query.TermNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.example.booksearch.repository.BookSpecifications.escapeLike;
+
+/**
+ * PostgreSQL 실행 계획의 예상 행 수로 검색 결과 개수를 어림한다.
+ *
+ * 검색식을 {@link com.example.booksearch.query.QuerySpecifications} 와 같은 LIKE 조건으로 바꿔
+ * EXPLAIN 만 실행하므로 행을 읽지 않는다. 값은 테이블 통계(ANALYZE)에 따라 실제와 크게 다를 수 있다.
+ * PostgreSQL 이 아니거나 EXPLAIN 이 실패하면 빈 값을 돌려준다.
+ */
+@Component
+public class PlannerRowEstimator {
+
+    private static final Logger log = LoggerFactory.getLogger(PlannerRowEstimator.class);
+
+    private static final Pattern PLAN_ROWS = Pattern.compile("\"Plan Rows\"\\s*:\\s*(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public PlannerRowEstimator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 예상을 쓸 수 없는 추정기 (데이터베이스 없이 만든 SearchStrategyManager 용)
+     */
+    public static PlannerRowEstimator unavailable() {
+        return new PlannerRowEstimator(null);
+    }
+
+    /**
+     * expression 에 맞는 도서 수의 예상 값 (null 이면 전체 도서 수)
+     */
+    public OptionalLong estimate(QueryNode expression) {
+        if (!isPostgres()) {
+            return OptionalLong.empty();
+        }
+
+        List<Object> patterns = new ArrayList<>();
+        String sql = "EXPLAIN (FORMAT JSON) SELECT 1 FROM books b"
+                + (expression != null ? " WHERE " + toCondition(expression, patterns) : "");
+        try {
+            String plan = jdbcTemplate.queryForObject(sql, String.class, patterns.toArray());
+            // 맨 처음 나오는 Plan Rows 가 최상위 노드의 예상 행 수다
+            Matcher matcher = plan != null ? PLAN_ROWS.matcher(plan) : null;
+            return matcher != null && matcher.find()
+                    ? OptionalLong.of(Long.parseLong(matcher.group(1)))
+                    : OptionalLong.empty();
+        } catch (DataAccessException e) {
+            log.debug("예상 행 수 조회 실패: {}", sql, e);
+            return OptionalLong.empty();
+        }
+    }
+
+    private boolean isPostgres() {
+        if (jdbcTemplate == null) {
+            return false;
+        }
+        Boolean cached = postgres;
+        if (cached == null) {
+            try {
+                String product = jdbcTemplate.execute(
+                        (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+                cached = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (DataAccessException e) {
+                cached = false;
+            }
+            postgres = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * 검색식을 SQL 조건으로 바꾼다. 검색어는 SQL 에 넣지 않고 LIKE 이스케이프한 패턴을 자리표시자 순서대로 patterns 에 더한다.
+     */
+    static String toCondition(QueryNode node, List<Object> patterns) {
+        if (node instanceof TermNode term) {
+            String pattern = "%" + escapeLike(term.text()) + "%";
+            patterns.add(pattern);
+            patterns.add(pattern);
+            return "(b.title LIKE ? ESCAPE '\\' OR b.author LIKE ? ESCAPE '\\')";
+        }
+        if (node instanceof NotNode not) {
+            return "NOT " + toCondition(not.operand(), patterns);
+        }
+
+        List<String> conditions = new ArrayList<>(node.children().size());
+        for (QueryNode child : node.children()) {
+            conditions.add(toCondition(child, patterns));
+        }
+        return "(" + String.join(node instanceof OrNode ? " OR " : " AND ", conditions) + ")";
+    }
+}
@@ -1,86 +1,335 @@
 package com.example.booksearch.service;
 
+import com.example.booksearch.index.Choseong;
+import com.example.booksearch.index.TextTokenizer;
+import com.example.booksearch.query.BooleanQueryParser;
+import com.example.booksearch.query.TermKind;
+import com.example.booksearch.query.TermNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
+/**
+ * 검색어 파서
+ *
+ * 기존 문법(공백/| 로 이은 포함어, -제외어, term~)은 정규식 없이 문자열을 한 번 훑는 렉서로 나누고,
+ * 결과는 불변 {@link SearchQuery} 로 만들어 원문 검색어를 키로 하는 크기 제한 캐시에 둔다.
+ */
 @Component
 public class QueryParser {
 
-    private static final Pattern EXCLUDE_PATTERN = Pattern.compile("-\\s*([^\\s-]+)");
-    private static final String OR_SEPARATOR = "\\|";
-    
+    private static final SearchQuery EMPTY_QUERY = new SearchQuery(List.of(), List.of());
+    private static final int MAX_EDITS = 2;
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+
+    private final int oneEditMinLength;
+    private final int twoEditsMinLength;
+    private final Cache<String, SearchQuery> parseCache;
+    private final BooleanQueryParser booleanQueryParser = new BooleanQueryParser(this::toTermNode);
+
+    public QueryParser() {
+        this(3, 6, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * 오타 검색어(term~)의 허용 편집 거리는 검색어 길이로 정한다.
+     * oneEditMinLength 글자 이상이면 1, twoEditsMinLength 글자 이상이면 2, 그보다 짧으면 일반 검색어로 취급한다.
+     * cacheSize 가 0 이면 파싱 결과를 캐시하지 않는다.
+     */
+    @Autowired
+    public QueryParser(@Value("${booksearch.search.fuzzy.one-edit-min-length:3}") int oneEditMinLength,
+                       @Value("${booksearch.search.fuzzy.two-edits-min-length:6}") int twoEditsMinLength,
+                       @Value("${booksearch.search.parse-cache-size:10000}") int cacheSize) {
+        this.oneEditMinLength = oneEditMinLength;
+        this.twoEditsMinLength = twoEditsMinLength;
+        this.parseCache = cacheSize > 0 ? Caffeine.newBuilder().maximumSize(cacheSize).build() : null;
+    }
+
     public SearchQuery parse(String query) {
-        if (!StringUtils.hasText(query) || query.trim().equals("-") || query.trim().equals("|")) {
-            return new SearchQuery(new ArrayList<>(), new ArrayList<>());
+        if (query == null) {
+            return EMPTY_QUERY;
         }
+        // 잘못된 검색식의 예외는 캐시되지 않고 그대로 전달된다
+        return parseCache != null ? parseCache.get(query, this::parseUncached) : parseUncached(query);
+    }
 
+    private SearchQuery parseUncached(String query) {
         String trimmedQuery = query.trim();
-        
-        // 제외어 추출
-        List<String> excludeTerms = extractExcludeTerms(trimmedQuery);
-        
-        // 제외어를 제거한 나머지 부분에서 포함 키워드 추출
-        String includeQuery = removeExcludeTerms(trimmedQuery);
-        List<String> includeTerms = extractIncludeTerms(includeQuery);
-        
-        // 최대 2개 키워드 제한 검증
-        validateKeywordLimit(includeTerms);
-        
-        return new SearchQuery(includeTerms, excludeTerms);
+        if (!hasText(trimmedQuery, 0, trimmedQuery.length())
+                || trimmedQuery.equals("-") || trimmedQuery.equals("|")) {
+            return EMPTY_QUERY;
+        }
+
+        // 괄호, 따옴표 구문, AND/OR/NOT 을 쓰면 검색식으로 파싱
+        if (BooleanQueryParser.usesBooleanSyntax(trimmedQuery)) {
+            return SearchQuery.of(booleanQueryParser.parse(trimmedQuery));
+        }
+        return new Lexer(trimmedQuery).lex();
     }
-    
-    private List<String> extractExcludeTerms(String query) {
-        List<String> excludeTerms = new ArrayList<>();
-        Matcher matcher = EXCLUDE_PATTERN.matcher(query);
-        
-        while (matcher.find()) {
-            String excludeTerm = matcher.group(1).trim();
-            if (StringUtils.hasText(excludeTerm) && !excludeTerm.equals("")) {
-                excludeTerms.add(excludeTerm);
-            }
-        }
-        
-        return excludeTerms;
+
+    /**
+     * 검색식의 검색어 하나를 오타 허용 표시와 초성 여부에 맞는 노드로 바꾼다.
+     */
+    private TermNode toTermNode(String word) {
+        int mark = fuzzyMarkIndex(word);
+        if (mark >= 0) {
+            String baseTerm = word.substring(0, mark);
+            int maxEdits = maxEditsOf(word, mark, baseTerm);
+            if (maxEdits > 0) {
+                return new TermNode(baseTerm, TermKind.FUZZY, maxEdits);
+            }
+            word = baseTerm;
+        }
+        return Choseong.isChoseongOnly(word) ? new TermNode(word, TermKind.CHOSEONG, 0) : TermNode.of(word);
     }
-    
-    private String removeExcludeTerms(String query) {
-        return EXCLUDE_PATTERN.matcher(query).replaceAll("").trim();
+
+    private int maxEditsOf(String term, int mark, String baseTerm) {
+        return mark + 1 < term.length() ? term.charAt(mark + 1) - '0' : maxEditsFor(baseTerm);
     }
-    
-    private List<String> extractIncludeTerms(String includeQuery) {
-        if (!StringUtils.hasText(includeQuery)) {
-            return new ArrayList<>();
-        }
-        
-        // OR 연산자로 분리
-        List<String> terms = Arrays.stream(includeQuery.split(OR_SEPARATOR))
-                .map(String::trim)
-                .filter(StringUtils::hasText)
-                .collect(Collectors.toList());
-        
-        // 공백으로 분리된 여러 키워드도 처리
-        if (terms.size() == 1) {
-            String[] spaceSeparated = terms.get(0).split("\\s+");
-            if (spaceSeparated.length > 1) {
-                terms = Arrays.stream(spaceSeparated)
-                        .filter(StringUtils::hasText)
-                        .collect(Collectors.toList());
-            }
-        }
-        
-        return terms;
+
+    private int maxEditsFor(String term) {
+        int length = term.codePointCount(0, term.length());
+        if (length >= twoEditsMinLength) {
+            return MAX_EDITS;
+        }
+        return length >= oneEditMinLength ? 1 : 0;
     }
-    
-    private void validateKeywordLimit(List<String> includeTerms) {
-        if (includeTerms.size() > 2) {
-            throw new IllegalArgumentException("최대 2개의 키워드만 지원합니다.");
+
+    /**
+     * 검색어가 "기본어~" 또는 "기본어~0..2" 형태면 '~' 의 위치, 아니면 -1.
+     * 가장 긴 기본어를 택하므로 "a~~" 의 기본어는 "a~" 이고, 기본어에는 줄바꿈 문자가 없어야 한다.
+     */
+    static int fuzzyMarkIndex(String term) {
+        int length = term.length();
+        int mark;
+        if (length >= 2 && term.charAt(length - 1) == '~') {
+            mark = length - 1;
+        } else if (length >= 3 && term.charAt(length - 2) == '~' && isEditDigit(term.charAt(length - 1))) {
+            mark = length - 2;
+        } else {
+            return -1;
         }
+        for (int i = 0; i < mark; i++) {
+            if (isLineTerminator(term.charAt(i))) {
+                return -1;
+            }
+        }
+        return mark;
+    }
+
+    private static boolean isEditDigit(char c) {
+        return c >= '0' && c <= '0' + MAX_EDITS;
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * StringUtils.hasText 와 같은 기준이지만 부분 문자열을 만들지 않는다.
+     */
+    private static boolean hasText(CharSequence text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 기존 문법의 검색어 하나를 훑는 렉서 (파싱마다 새로 만든다)
+     *
+     * 1. 단어 앞의 '-' 뒤 공백을 건너뛴 다음 공백/'-' 전까지를 제외어로 떼어 내고, 나머지 문자는 버퍼에 모은다.
+     * 2. 버퍼를 '|' 로 나눠 포함어를 만들고, 포함어가 하나뿐이면 공백으로 다시 나눈다.
+     * 3. 각 검색어의 오타 표시(~)를 떼고 초성 검색어를 표시한다.
+     */
+    private final class Lexer {
+
+        private final String query;
+        private final char[] includeBuffer;
+        private int includeLength;
+
+        private String[] includeTerms = new String[4];
+        private int includeCount;
+        private String[] excludeTerms = new String[2];
+        private int excludeCount;
+        private Set<String> choseongTerms;
+        private Map<String, Integer> fuzzyTerms;
+
+        private Lexer(String query) {
+            this.query = query;
+            this.includeBuffer = new char[query.length()];
+        }
+
+        SearchQuery lex() {
+            scanExcludeTerms();
+            splitIncludeTerms();
+            return new SearchQuery(
+                    toList(includeTerms, includeCount),
+                    toList(excludeTerms, excludeCount),
+                    choseongTerms != null ? Set.copyOf(choseongTerms) : Set.of(),
+                    fuzzyTerms != null ? Map.copyOf(fuzzyTerms) : Map.of());
+        }
+
+        private void scanExcludeTerms() {
+            int length = query.length();
+            int i = 0;
+            while (i < length) {
+                char c = query.charAt(i);
+                if (c == '-') {
+                    int start = i + 1;
+                    while (start < length && TextTokenizer.isSeparator(query.charAt(start))) {
+                        start++;
+                    }
+                    int end = start;
+                    while (end < length && !TextTokenizer.isSeparator(query.charAt(end)) && query.charAt(end) != '-') {
+                        end++;
+                    }
+                    if (end > start) {
+                        addExcludeTerm(start, end);
+                        i = end;
+                        continue;
+                    }
+                }
+                includeBuffer[includeLength++] = c;
+                i++;
+            }
+        }
+
+        private void splitIncludeTerms() {
+            int singleStart = -1;
+            int singleEnd = -1;
+            int pieceStart = 0;
+            for (int i = 0; i <= includeLength; i++) {
+                if (i < includeLength && includeBuffer[i] != '|') {
+                    continue;
+                }
+                int start = trimStart(pieceStart, i);
+                int end = trimEnd(start, i);
+                if (bufferHasText(start, end)) {
+                    singleStart = start;
+                    singleEnd = end;
+                    includeTerms = append(includeTerms, includeCount++, new String(includeBuffer, start, end - start));
+                }
+                pieceStart = i + 1;
+            }
+
+            // 포함어가 하나뿐이면 공백으로 나뉜 여러 키워드로 본다
+            if (includeCount == 1 && countWords(singleStart, singleEnd) > 1) {
+                includeCount = 0;
+                int wordStart = singleStart;
+                for (int i = singleStart; i <= singleEnd; i++) {
+                    if (i < singleEnd && !TextTokenizer.isSeparator(includeBuffer[i])) {
+                        continue;
+                    }
+                    if (i > wordStart && bufferHasText(wordStart, i)) {
+                        includeTerms = append(includeTerms, includeCount++, new String(includeBuffer, wordStart, i - wordStart));
+                    }
+                    wordStart = i + 1;
+                }
+            }
+
+            for (int i = 0; i < includeCount; i++) {
+                includeTerms[i] = stripFuzzyMark(includeTerms[i]);
+            }
+        }
+
+        private void addExcludeTerm(int start, int end) {
+            // 제외어 양끝의 제어 문자는 trim 과 같이 떼어 낸다
+            while (start < end && query.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && query.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            if (hasText(query, start, end)) {
+                excludeTerms = append(excludeTerms, excludeCount++, stripFuzzyMark(query.substring(start, end)));
+            }
+        }
+
+        private String stripFuzzyMark(String term) {
+            int mark = fuzzyMarkIndex(term);
+            if (mark >= 0) {
+                String baseTerm = term.substring(0, mark);
+                int maxEdits = maxEditsOf(term, mark, baseTerm);
+                if (maxEdits > 0) {
+                    if (fuzzyTerms == null) {
+                        fuzzyTerms = new HashMap<>();
+                    }
+                    fuzzyTerms.merge(baseTerm, maxEdits, Math::max);
+                }
+                term = baseTerm;
+            }
+            if (Choseong.isChoseongOnly(term)) {
+                if (choseongTerms == null) {
+                    choseongTerms = new HashSet<>();
+                }
+                choseongTerms.add(term);
+            }
+            return term;
+        }
+
+        private int countWords(int from, int to) {
+            int count = 0;
+            boolean inWord = false;
+            for (int i = from; i < to; i++) {
+                boolean separator = TextTokenizer.isSeparator(includeBuffer[i]);
+                if (!separator && !inWord) {
+                    count++;
+                }
+                inWord = !separator;
+            }
+            return count;
+        }
+
+        private int trimStart(int from, int to) {
+            while (from < to && includeBuffer[from] <= ' ') {
+                from++;
+            }
+            return from;
+        }
+
+        private int trimEnd(int from, int to) {
+            while (to > from && includeBuffer[to - 1] <= ' ') {
+                to--;
+            }
+            return to;
+        }
+
+        private boolean bufferHasText(int from, int to) {
+            for (int i = from; i < to; i++) {
+                if (!Character.isWhitespace(includeBuffer[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static String[] append(String[] terms, int index, String term) {
+        if (index == terms.length) {
+            terms = Arrays.copyOf(terms, terms.length * 2);
+        }
+        terms[index] = term;
+        return terms;
+    }
+
+    private static List<String> toList(String[] terms, int count) {
+        return switch (count) {
+            case 0 -> List.of();
+            case 1 -> List.of(terms[0]);
+            case 2 -> List.of(terms[0], terms[1]);
+            default -> List.of(Arrays.copyOf(terms, count));
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.example.booksearch.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * 관련도 정렬(sort=relevance) 처리
+ *
+ * relevance 는 엔티티 속성이 아니므로 점수를 계산할 수 없는 데이터베이스 경로에서는 정렬 조건에서 빼고
+ * 남은 정렬이 없으면 ID 오름차순으로 대신한다. 방향(asc/desc)과 관계없이 항상 관련도 높은 순이다.
+ */
+public final class RelevanceSort {
+
+    public static final String PROPERTY = "relevance";
+
+    private RelevanceSort() {
+    }
+
+    public static boolean isRequested(Pageable pageable) {
+        return pageable.getSort().getOrderFor(PROPERTY) != null;
+    }
+
+    public static Pageable withoutRelevance(Pageable pageable) {
+        if (!isRequested(pageable)) {
+            return pageable;
+        }
+        return withSort(pageable, withoutRelevance(pageable.getSort()));
+    }
+
+    public static Sort withoutRelevance(Sort sort) {
+        if (sort.getOrderFor(PROPERTY) == null) {
+            return sort;
+        }
+
+        Sort remaining = Sort.by(sort.stream()
+                .filter(order -> !order.getProperty().equals(PROPERTY))
+                .toList());
+        return remaining.isSorted() ? remaining : Sort.by("id");
+    }
+
+    /**
+     * 페이지 구간은 유지하고 정렬만 없앤다 (점수순 정렬을 쿼리가 직접 지정하는 경우)
+     */
+    public static Pageable unsorted(Pageable pageable) {
+        return withSort(pageable, Sort.unsorted());
+    }
+
+    private static Pageable withSort(Pageable pageable, Sort sort) {
+        return pageable.isPaged()
+                ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort)
+                : Pageable.unpaged(sort);
+    }
+}
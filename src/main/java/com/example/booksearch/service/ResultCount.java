@@ -0,0 +1,33 @@
+package com.example.booksearch.service;
+
+/**
+ * 검색 결과 전체 개수와 그 값을 구한 방식
+ *
+ * @param value 개수 (CAPPED 이면 상한, ESTIMATED 이면 예상 행 수)
+ * @param mode  실제로 쓴 방식. 상한 안에서 다 셌거나 마지막 페이지라 바로 알 수 있으면 EXACT
+ */
+public record ResultCount(long value, CountMode mode) {
+
+    public static ResultCount exact(long value) {
+        return new ResultCount(value, CountMode.EXACT);
+    }
+
+    public static ResultCount capped(long cap) {
+        return new ResultCount(cap, CountMode.CAPPED);
+    }
+
+    public static ResultCount estimated(long value) {
+        return new ResultCount(value, CountMode.ESTIMATED);
+    }
+
+    /**
+     * 화면에 보여 줄 값 ("37", "1000+", "~1200")
+     */
+    public String display() {
+        return switch (mode) {
+            case EXACT -> String.valueOf(value);
+            case CAPPED -> value + "+";
+            case ESTIMATED -> "~" + value;
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.query.QueryNode;
+import com.example.booksearch.repository.BookRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalLong;
+
+/**
+ * COUNT 쿼리 대신 상한까지 세거나 실행 계획으로 어림해 검색 결과 개수를 구한다.
+ *
+ * 읽은 페이지가 마지막 페이지면 앞 페이지 수와 읽은 건수로 정확한 개수를 바로 알 수 있으므로 따로 세지 않는다.
+ */
+@Component
+public class ResultCounter {
+
+    static final int DEFAULT_CAP = 1000;
+
+    private final BookRepository bookRepository;
+    private final PlannerRowEstimator rowEstimator;
+    private final int cap;
+
+    public ResultCounter(BookRepository bookRepository, PlannerRowEstimator rowEstimator,
+                         @Value("${booksearch.search.count.cap:1000}") int cap) {
+        if (cap < 1) {
+            throw new IllegalArgumentException("booksearch.search.count.cap 은 1 이상이어야 합니다: " + cap);
+        }
+        this.bookRepository = bookRepository;
+        this.rowEstimator = rowEstimator;
+        this.cap = cap;
+    }
+
+    /**
+     * page 를 읽은 조건(specification, 검색식 expression)의 전체 개수 (expression 이 null 이면 전체 도서)
+     *
+     * @param mode CAPPED 또는 ESTIMATED (EXACT 는 SearchStrategyManager 가 페이지 쿼리와 함께 센다)
+     */
+    public ResultCount count(CountMode mode, Specification<Book> specification, QueryNode expression, Slice<Book> page) {
+        long offset = page.getPageable().isPaged() ? page.getPageable().getOffset() : 0;
+        // 요청한 페이지가 결과 범위를 벗어나 비어 있으면 앞 페이지 수로는 알 수 없다
+        long seen = page.hasContent() ? offset + page.getNumberOfElements() : 0;
+        if (!page.hasNext() && (page.hasContent() || offset == 0)) {
+            return ResultCount.exact(seen);
+        }
+        // 어림하거나 상한까지 센 값은 적어도 지금까지 읽은 위치(다음 페이지가 있으면 그 이상)만큼은 된다
+        long atLeast = page.hasNext() ? seen + 1 : seen;
+
+        if (mode == CountMode.ESTIMATED) {
+            OptionalLong estimated = rowEstimator.estimate(expression);
+            if (estimated.isPresent()) {
+                return ResultCount.estimated(Math.max(estimated.getAsLong(), atLeast));
+            }
+        }
+
+        long counted = bookRepository.countUpTo(specification, cap + 1);
+        return counted > cap ? ResultCount.capped(Math.max(cap, seen)) : ResultCount.exact(counted);
+    }
+}
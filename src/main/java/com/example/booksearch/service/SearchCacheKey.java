@@ -0,0 +1,45 @@
+package com.example.booksearch.service;
+
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 검색 결과 캐시(searchResults)의 키
+ *
+ * 같은지는 정규형 키 문자열로만 판단하고, 만료 전에 다시 계산할 수 있도록 원문 검색어와 페이지 정보를 함께 담는다.
+ * toString 은 정규형 키 문자열이다 (Redis L2 키).
+ */
+public final class SearchCacheKey {
+
+    private final String value;
+    private final String query;
+    private final Pageable pageable;
+
+    public SearchCacheKey(String value, String query, Pageable pageable) {
+        this.value = value;
+        this.query = query;
+        this.pageable = pageable;
+    }
+
+    public String query() {
+        return query;
+    }
+
+    public Pageable pageable() {
+        return pageable;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof SearchCacheKey other && value.equals(other.value));
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.config.SearchBackend;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+/**
+ * 검색 결과 캐시(searchResults)의 키. 원문 검색어 대신 {@link CanonicalQuery} 에 페이지 정보를 붙인다.
+ *
+ * 대소문자를 구분하지 않는 pg-fts/Lucene 백엔드에서만 검색어를 소문자로 접는다.
+ */
+@Component("searchCacheKeyGenerator")
+public class SearchCacheKeyGenerator implements KeyGenerator {
+
+    private final QueryParser queryParser;
+    private final boolean foldCase;
+
+    public SearchCacheKeyGenerator(QueryParser queryParser,
+                                   @Value("${booksearch.search.backend:database}") SearchBackend searchBackend) {
+        this.queryParser = queryParser;
+        this.foldCase = searchBackend == SearchBackend.PG_FTS || searchBackend == SearchBackend.LUCENE;
+    }
+
+    /**
+     * params 는 (검색어, Pageable). 만료 전에 다시 계산할 수 있도록 원문과 함께 {@link SearchCacheKey} 로 돌려준다.
+     */
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        String query = (String) params[0];
+        Pageable pageable = (Pageable) params[1];
+        return new SearchCacheKey(keyOf(query, pageable), query, pageable);
+    }
+
+    public String keyOf(String query, Pageable pageable) {
+        String canonical = query == null || query.isBlank()
+                ? ""
+                : CanonicalQuery.of(queryParser.parse(query), foldCase);
+        return canonical + '_' + pageable.getPageNumber() + '_' + pageable.getPageSize() + '_' + pageable.getSort();
+    }
+}
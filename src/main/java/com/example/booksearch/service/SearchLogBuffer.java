@@ -0,0 +1,67 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.repository.SearchLogRepositoryCustom.SearchCount;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기록할 검색어를 모아 두는 크기 제한 큐
+ *
+ * 넣기는 잠금 없는 큐에 붙이기만 하므로 검색 요청이 기다리지 않는다.
+ * capacity 를 넘으면 가장 오래된 검색어부터 버리고 버린 수를 센다 (집계가 밀려도 메모리가 늘지 않는다).
+ */
+final class SearchLogBuffer {
+
+    private final int capacity;
+    private final Queue<SearchCount> searches = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    SearchLogBuffer(int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * keyword 는 소문자로 접은 정규형, query 는 대소문자를 유지한 정규형
+     */
+    void offer(String keyword, String query) {
+        searches.offer(new SearchCount(keyword, query, 1));
+        if (size.incrementAndGet() > capacity && searches.poll() != null) {
+            size.decrementAndGet();
+            dropped.increment();
+        }
+    }
+
+    /**
+     * 부른 시점까지 쌓인 검색어를 꺼내 검색어별 횟수로 합친다 (꺼내는 동안 들어온 검색어는 다음 차례).
+     * 대소문자를 유지한 정규형은 그 검색어의 마지막 검색을 쓴다.
+     */
+    List<SearchCount> drain() {
+        Map<String, SearchCount> counts = new LinkedHashMap<>();
+        SearchCount search;
+        for (int remaining = size.get(); remaining > 0 && (search = searches.poll()) != null; remaining--) {
+            size.decrementAndGet();
+            counts.merge(search.keyword(), search, (previous, latest) ->
+                    new SearchCount(latest.keyword(), latest.lastQuery(), previous.count() + latest.count()));
+        }
+        return new ArrayList<>(counts.values());
+    }
+
+    /**
+     * 지난번 호출 뒤로 버린 검색어 수
+     */
+    long takeDropped() {
+        return dropped.sumThenReset();
+    }
+
+    int size() {
+        return size.get();
+    }
+}
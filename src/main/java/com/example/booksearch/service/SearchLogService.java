@@ -1,58 +1,186 @@
 package com.example.booksearch.service;
 
 import com.example.booksearch.domain.SearchLog;
+import com.example.booksearch.dto.PopularSearchDto;
 import com.example.booksearch.repository.SearchLogRepository;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import com.example.booksearch.repository.SearchLogRepositoryCustom.SearchCount;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
 
+/**
+ * 검색어 기록과 인기 검색어
+ *
+ * 검색어는 요청 스레드에서 큐에 넣기만 하고, flush-interval-ms 마다 검색어별 횟수로 합쳐 search_logs 에 한꺼번에 더한다.
+ * 큐가 queue-capacity 를 넘으면 가장 오래된 검색어부터 버린다. booksearch.search-log.write-behind.enabled=false 이면 바로 저장한다.
+ * 인기 검색어는 검색마다 {@link HeavyHitters} 에 세어 두고 그 상위 목록을 돌려주므로 조회에 데이터베이스를 쓰지 않는다.
+ * 다른 노드의 검색과 어림 횟수의 오차는 주기적으로 search_logs 의 상위 횟수로 맞춘다.
+ * booksearch.popular.tracker.enabled=false 이면 매번 search_logs 에서 읽는다.
+ */
 @Service
 @Transactional
 public class SearchLogService {
 
+    private static final Logger log = LoggerFactory.getLogger(SearchLogService.class);
+
+    /**
+     * 업서트 문 하나에 담는 검색어(행) 수
+     */
+    private static final int WRITE_BATCH_SIZE = 500;
+
     private final SearchLogRepository searchLogRepository;
+    private final SearchLogWriter searchLogWriter;
+    private final QueryParser queryParser;
+    private final HeavyHitters popularKeywords;
+    private final int trackedKeywords;
+    private final SearchLogBuffer pendingSearches;
 
-    public SearchLogService(SearchLogRepository searchLogRepository) {
+    public SearchLogService(SearchLogRepository searchLogRepository, SearchLogWriter searchLogWriter,
+                            QueryParser queryParser,
+                            @Value("${booksearch.popular.tracker.enabled:true}") boolean trackerEnabled,
+                            @Value("${booksearch.popular.tracker.capacity:1000}") int trackedKeywords,
+                            @Value("${booksearch.popular.tracker.refresh-interval-ms:1000}") long refreshIntervalMs,
+                            @Value("${booksearch.search-log.write-behind.enabled:true}") boolean writeBehind,
+                            @Value("${booksearch.search-log.write-behind.queue-capacity:100000}") int queueCapacity) {
         this.searchLogRepository = searchLogRepository;
+        this.searchLogWriter = searchLogWriter;
+        this.queryParser = queryParser;
+        this.trackedKeywords = trackedKeywords;
+        this.popularKeywords = trackerEnabled
+                ? new HeavyHitters(trackedKeywords, Duration.ofMillis(refreshIntervalMs))
+                : null;
+        this.pendingSearches = writeBehind ? new SearchLogBuffer(queueCapacity) : null;
     }
 
-    @CacheEvict(value = "popularKeywords", allEntries = true)
+    /**
+     * 검색 요청 경로에서 부르므로 트랜잭션을 열지 않고, 쓰기 지연 중이면 데이터베이스에 닿지 않는다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void logSearch(String keyword) {
         if (!StringUtils.hasText(keyword)) {
             return;
         }
 
-        String normalizedKeyword = normalizeKeyword(keyword);
-        
-        Optional<SearchLog> existingLog = searchLogRepository.findByKeyword(normalizedKeyword);
-        
-        if (existingLog.isPresent()) {
-            existingLog.get().incrementSearchCount();
-            searchLogRepository.save(existingLog.get());
+        SearchQuery searchQuery = queryParser.parse(keyword);
+        String normalizedKeyword = normalizeKeyword(keyword, searchQuery, true);
+        String query = normalizeKeyword(keyword, searchQuery, false);
+        if (popularKeywords != null) {
+            popularKeywords.record(normalizedKeyword);
+        }
+        if (pendingSearches != null) {
+            pendingSearches.offer(normalizedKeyword, query);
         } else {
-            SearchLog newLog = SearchLog.of(normalizedKeyword);
-            searchLogRepository.save(newLog);
+            searchLogWriter.write(List.of(new SearchCount(normalizedKeyword, query, 1)));
+        }
+    }
+
+    /**
+     * 쌓인 검색어를 검색어별 횟수로 합쳐 저장한다. 저장에 실패한 횟수는 버리고 다음 검색부터 다시 센다.
+     */
+    @Scheduled(fixedDelayString = "${booksearch.search-log.write-behind.flush-interval-ms:200}")
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void flushSearchLogs() {
+        if (pendingSearches == null) {
+            return;
+        }
+
+        long dropped = pendingSearches.takeDropped();
+        if (dropped > 0) {
+            log.warn("검색어 기록 큐가 가득 차 오래된 검색어 {}개를 버림", dropped);
+        }
+        List<SearchCount> searchCounts = pendingSearches.drain();
+        for (int from = 0; from < searchCounts.size(); from += WRITE_BATCH_SIZE) {
+            write(searchCounts.subList(from, Math.min(from + WRITE_BATCH_SIZE, searchCounts.size())));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushSearchLogs();
+    }
+
+    private void write(List<SearchCount> searchCounts) {
+        try {
+            searchLogWriter.write(searchCounts);
+        } catch (DataAccessException e) {
+            log.error("검색어 기록 저장 실패: 검색어 {}개", searchCounts.size(), e);
         }
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "popularKeywords", key = "#limit")
     public List<SearchLog> getTopSearchKeywords(int limit) {
         return searchLogRepository.findTopSearchKeywords(PageRequest.of(0, limit));
     }
 
+    /**
+     * 검색 횟수가 많은 순으로 최대 limit 개. 집계를 쓰면 트랜잭션을 열지 않고 O(limit) 로 돌려준다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<PopularSearchDto> getPopularKeywords(int limit) {
+        if (popularKeywords == null) {
+            return getTopSearchKeywords(limit).stream()
+                    .map(PopularSearchDto::from)
+                    .toList();
+        }
+        return popularKeywords.top(limit).stream()
+                .map(hitter -> new PopularSearchDto(hitter.key(), (int) Math.min(hitter.count(), Integer.MAX_VALUE),
+                        LocalDateTime.ofInstant(Instant.ofEpochMilli(hitter.lastSeenMillis()), ZoneId.systemDefault())))
+                .toList();
+    }
+
+    /**
+     * 인기 검색어 집계를 search_logs 의 상위 검색어와 횟수로 바꾼다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${booksearch.popular.tracker.reconcile-interval-ms:60000}",
+            fixedDelayString = "${booksearch.popular.tracker.reconcile-interval-ms:60000}")
+    @Transactional(readOnly = true)
+    public void reconcilePopularKeywords() {
+        if (popularKeywords == null) {
+            return;
+        }
+        popularKeywords.reset(searchLogRepository.findTopSearchKeywords(PageRequest.of(0, trackedKeywords)).stream()
+                .map(searchLog -> new HeavyHitters.Hitter(searchLog.getKeyword(), searchLog.getSearchCount(),
+                        toEpochMilli(searchLog.getLastSearchedAt())))
+                .toList());
+    }
+
     @Transactional(readOnly = true)
     public List<SearchLog> getPopularSearchKeywords(int minCount, int limit) {
         return searchLogRepository.findPopularSearchKeywords(minCount, PageRequest.of(0, limit));
     }
 
-    private String normalizeKeyword(String keyword) {
-        return keyword.trim().toLowerCase();
+    /**
+     * 같은 검색이 되는 검색어를 한 통계로 모으도록 파싱한 쿼리의 정규형을 쓴다
+     * ("Java|Spring", "spring java" → "java spring"). 검색어가 남지 않으면 ("-", "|") 원문을 다듬어 쓴다.
+     * 통계의 키는 소문자로 접고, 같은 검색을 다시 실행할 검색어(foldCase=false)는 대소문자를 유지한다.
+     */
+    private static String normalizeKeyword(String keyword, SearchQuery searchQuery, boolean foldCase) {
+        String canonical = CanonicalQuery.of(searchQuery, foldCase);
+        if (!canonical.isEmpty()) {
+            return canonical;
+        }
+        return foldCase ? keyword.trim().toLowerCase(Locale.ROOT) : keyword.trim();
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime == null ? 0 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.repository.SearchLogRepository;
+import com.example.booksearch.repository.SearchLogRepositoryCustom.SearchCount;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 정규화한 검색어별 횟수를 search_logs 에 더한다.
+ *
+ * 검색어 수와 상관없이 upsert 한 문장이므로 행을 읽지 않고, 동시에 같은 검색어를 더해도 횟수를 잃지 않는다.
+ */
+@Component
+public class SearchLogWriter {
+
+    private final SearchLogRepository searchLogRepository;
+
+    public SearchLogWriter(SearchLogRepository searchLogRepository) {
+        this.searchLogRepository = searchLogRepository;
+    }
+
+    @Transactional
+    public void write(List<SearchCount> searchCounts) {
+        searchLogRepository.addSearchCounts(searchCounts, LocalDateTime.now());
+    }
+}
@@ -1,14 +1,76 @@
 package com.example.booksearch.service;
 
+import com.example.booksearch.query.NotNode;
+import com.example.booksearch.query.QueryNode;
+import com.example.booksearch.query.QueryNodes;
+import com.example.booksearch.query.TermKind;
+import com.example.booksearch.query.TermNode;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class SearchQuery {
     private final List<String> includeTerms;
     private final List<String> excludeTerms;
+    private final Set<String> choseongTerms;
+    private final Map<String, Integer> fuzzyTerms;
+    private final QueryNode expression;
 
     public SearchQuery(List<String> includeTerms, List<String> excludeTerms) {
+        this(includeTerms, excludeTerms, Set.of());
+    }
+
+    public SearchQuery(List<String> includeTerms, List<String> excludeTerms, Set<String> choseongTerms) {
+        this(includeTerms, excludeTerms, choseongTerms, Map.of());
+    }
+
+    public SearchQuery(List<String> includeTerms, List<String> excludeTerms, Set<String> choseongTerms,
+                       Map<String, Integer> fuzzyTerms) {
+        this(includeTerms, excludeTerms, choseongTerms, fuzzyTerms, null);
+    }
+
+    private SearchQuery(List<String> includeTerms, List<String> excludeTerms, Set<String> choseongTerms,
+                        Map<String, Integer> fuzzyTerms, QueryNode expression) {
         this.includeTerms = includeTerms;
         this.excludeTerms = excludeTerms;
+        this.choseongTerms = choseongTerms;
+        this.fuzzyTerms = fuzzyTerms;
+        this.expression = expression;
+    }
+
+    /**
+     * 괄호/AND/따옴표 구문 등으로 만든 검색식. 포함어/제외어 목록에는 검색식의 긍정/부정 위치에 있는 검색어를 담는다.
+     */
+    public static SearchQuery of(QueryNode expression) {
+        List<String> includeTerms = new ArrayList<>();
+        List<String> excludeTerms = new ArrayList<>();
+        Set<String> choseongTerms = new HashSet<>();
+        Map<String, Integer> fuzzyTerms = new HashMap<>();
+        collectTerms(expression, true, includeTerms, excludeTerms, choseongTerms, fuzzyTerms);
+        return new SearchQuery(List.copyOf(includeTerms), List.copyOf(excludeTerms),
+                Set.copyOf(choseongTerms), Map.copyOf(fuzzyTerms), expression);
+    }
+
+    private static void collectTerms(QueryNode node, boolean positive, List<String> includeTerms,
+                                     List<String> excludeTerms, Set<String> choseongTerms,
+                                     Map<String, Integer> fuzzyTerms) {
+        if (node instanceof TermNode term) {
+            (positive ? includeTerms : excludeTerms).add(term.text());
+            if (term.kind() == TermKind.CHOSEONG) {
+                choseongTerms.add(term.text());
+            } else if (term.kind() == TermKind.FUZZY) {
+                fuzzyTerms.merge(term.text(), term.maxEdits(), Math::max);
+            }
+            return;
+        }
+        boolean childPositive = node instanceof NotNode ? !positive : positive;
+        for (QueryNode child : node.children()) {
+            collectTerms(child, childPositive, includeTerms, excludeTerms, choseongTerms, fuzzyTerms);
+        }
     }
 
     public List<String> getIncludeTerms() {
@@ -31,11 +93,74 @@ public class SearchQuery {
         return !excludeTerms.isEmpty();
     }
 
+    /**
+     * 초성으로만 이루어져 초성 검색으로 처리할 검색어가 있는지 여부
+     */
+    public boolean hasChoseongTerms() {
+        return !choseongTerms.isEmpty();
+    }
+
+    public boolean isChoseongTerm(String term) {
+        return choseongTerms.contains(term);
+    }
+
+    /**
+     * 오타를 허용해 검색할 검색어(term~)가 있는지 여부
+     */
+    public boolean hasFuzzyTerms() {
+        return !fuzzyTerms.isEmpty();
+    }
+
+    public boolean isFuzzyTerm(String term) {
+        return fuzzyTerms.containsKey(term);
+    }
+
+    /**
+     * 오타 검색어에 허용할 최대 편집 거리
+     */
+    public int getMaxEdits(String term) {
+        return fuzzyTerms.getOrDefault(term, 0);
+    }
+
+    /**
+     * 포함어 OR 묶음에서 제외어를 빼는 기존 형태의 쿼리인지 여부 (false 면 검색식으로만 표현된다)
+     */
+    public boolean isFlat() {
+        return expression == null;
+    }
+
+    /**
+     * 쿼리 전체를 나타내는 검색식. 기존 형태의 쿼리는 (포함어1 OR 포함어2 ...) AND NOT 제외어 ... 로 바꾼다.
+     */
+    public QueryNode getExpression() {
+        if (expression != null) {
+            return expression;
+        }
+
+        List<QueryNode> operands = new ArrayList<>();
+        includeTerms.forEach(term -> operands.add(toTermNode(term)));
+        excludeTerms.forEach(term -> operands.add(QueryNodes.not(toTermNode(term))));
+        return QueryNodes.or(operands);
+    }
+
+    private TermNode toTermNode(String term) {
+        if (isFuzzyTerm(term)) {
+            return new TermNode(term, TermKind.FUZZY, getMaxEdits(term));
+        }
+        if (isChoseongTerm(term)) {
+            return new TermNode(term, TermKind.CHOSEONG, 0);
+        }
+        return TermNode.of(term);
+    }
+
     @Override
     public String toString() {
         return "SearchQuery{" +
                 "includeTerms=" + includeTerms +
                 ", excludeTerms=" + excludeTerms +
+                ", choseongTerms=" + choseongTerms +
+                ", fuzzyTerms=" + fuzzyTerms +
+                (expression != null ? ", expression=" + expression : "") +
                 '}';
     }
 }
\ No newline at end of file
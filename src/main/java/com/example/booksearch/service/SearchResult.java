@@ -1,15 +1,28 @@
 package com.example.booksearch.service;
 
 import com.example.booksearch.domain.Book;
+import com.example.booksearch.query.PlanStep;
 import org.springframework.data.domain.Page;
 
 public class SearchResult {
     private final Page<Book> books;
     private final String strategyUsed;
+    private final PlanStep plan;
+    private final ResultCount count;
 
     public SearchResult(Page<Book> books, String strategyUsed) {
+        this(books, strategyUsed, null);
+    }
+
+    public SearchResult(Page<Book> books, String strategyUsed, PlanStep plan) {
+        this(books, strategyUsed, plan, ResultCount.exact(books.getTotalElements()));
+    }
+
+    public SearchResult(Page<Book> books, String strategyUsed, PlanStep plan, ResultCount count) {
         this.books = books;
         this.strategyUsed = strategyUsed;
+        this.plan = plan;
+        this.count = count;
     }
 
     public Page<Book> getBooks() {
@@ -19,4 +32,18 @@ public class SearchResult {
     public String getStrategyUsed() {
         return strategyUsed;
     }
-}
\ No newline at end of file
+
+    /**
+     * explain 을 요청했을 때 실행한 계획 (그 외에는 null)
+     */
+    public PlanStep getPlan() {
+        return plan;
+    }
+
+    /**
+     * 전체 개수와 그 값을 구한 방식 (books 의 totalElements 와 같은 값)
+     */
+    public ResultCount getCount() {
+        return count;
+    }
+}
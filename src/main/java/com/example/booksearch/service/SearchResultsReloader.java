@@ -0,0 +1,30 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.cache.CacheReloader;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 결과 캐시(searchResults)의 항목을 키에 담긴 원문 검색어와 페이지 정보로 다시 검색한다.
+ */
+@Component
+public class SearchResultsReloader implements CacheReloader {
+
+    private final SearchService searchService;
+
+    public SearchResultsReloader(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @Override
+    public String cacheName() {
+        return "searchResults";
+    }
+
+    @Override
+    public Object reload(Object key) {
+        if (key instanceof SearchCacheKey searchKey) {
+            return searchService.searchBooksUncached(searchKey.query(), searchKey.pageable());
+        }
+        return null;
+    }
+}
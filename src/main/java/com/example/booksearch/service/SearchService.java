@@ -4,9 +4,11 @@ import com.example.booksearch.domain.Book;
 import com.example.booksearch.dto.SearchMetadata;
 import com.example.booksearch.dto.SearchResultWithMetadata;
 import com.example.booksearch.repository.BookRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,40 +20,94 @@ public class SearchService {
     private final QueryParser queryParser;
     private final SearchStrategyManager searchStrategyManager;
     private final SearchLogService searchLogService;
+    private final CountMode defaultCountMode;
+    private final SearchCacheKeyGenerator cacheKeyGenerator;
+    private final SingleFlight<String, Page<Book>> searchFlights = new SingleFlight<>();
+    private final SingleFlight<String, SearchResult> metadataSearchFlights = new SingleFlight<>();
 
     public SearchService(BookRepository bookRepository, QueryParser queryParser, 
-                        SearchStrategyManager searchStrategyManager, SearchLogService searchLogService) {
+                        SearchStrategyManager searchStrategyManager, SearchLogService searchLogService,
+                        @Value("${booksearch.search.count.mode:exact}") CountMode defaultCountMode,
+                        SearchCacheKeyGenerator cacheKeyGenerator) {
         this.bookRepository = bookRepository;
         this.queryParser = queryParser;
         this.searchStrategyManager = searchStrategyManager;
         this.searchLogService = searchLogService;
+        this.defaultCountMode = defaultCountMode;
+        this.cacheKeyGenerator = cacheKeyGenerator;
     }
 
-    @Cacheable(value = "searchResults", key = "#query + '_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort")
+    /**
+     * 캐시에 없는 검색이 동시에 들어오면 (인기 검색어의 캐시가 만료된 직후 등) 같은 정규형 키의 검색은 한 번만 실행하고
+     * 나머지 요청은 그 결과를 기다려 받는다. 캐시는 get(key, loader) 로 채워 검색 중에 도서가 바뀌면 결과를 넣지 않게 한다.
+     */
+    @Cacheable(value = "searchResults", keyGenerator = "searchCacheKeyGenerator", sync = true)
     public Page<Book> searchBooks(String query, Pageable pageable) {
-        if (query == null || query.trim().isEmpty()) {
-            return bookRepository.findAll(pageable);
+        if (query != null && !query.trim().isEmpty()) {
+            // 검색어 로깅 (비동기적으로 처리)
+            searchLogService.logSearch(query);
         }
+        return searchBooksUncached(query, pageable);
+    }
 
-        // 검색어 로깅 (비동기적으로 처리)
-        searchLogService.logSearch(query);
+    /**
+     * 검색 결과 캐시를 거치지 않고 검색어도 기록하지 않는다 (만료 전에 캐시를 다시 채울 때 쓴다).
+     */
+    public Page<Book> searchBooksUncached(String query, Pageable pageable) {
+        if (query == null || query.trim().isEmpty()) {
+            return bookRepository.findAll(RelevanceSort.withoutRelevance(pageable));
+        }
+        return searchFlights.execute(cacheKeyGenerator.keyOf(query, pageable),
+                () -> searchStrategyManager.search(queryParser.parse(query), pageable));
+    }
 
-        SearchQuery searchQuery = queryParser.parse(query);
-        return searchStrategyManager.search(searchQuery, pageable);
+    /**
+     * 커서 뒤의 한 조각을 검색한다. 이어지는 조각은 같은 검색의 연속이므로 첫 조각에서만 검색어를 기록한다.
+     */
+    public Slice<Book> searchBooksAfter(String query, CursorRequest request) {
+        if (query != null && !query.trim().isEmpty() && request.isFirst()) {
+            searchLogService.logSearch(query);
+        }
+        return searchStrategyManager.searchAfter(queryParser.parse(query), request);
     }
 
     public SearchResultWithMetadata<Book> searchBooksWithMetadata(String query, Pageable pageable) {
+        return searchBooksWithMetadata(query, pageable, false);
+    }
+
+    public SearchResultWithMetadata<Book> searchBooksWithMetadata(String query, Pageable pageable, boolean explain) {
+        return searchBooksWithMetadata(query, pageable, explain, null);
+    }
+
+    /**
+     * explain 이면 검색식 실행 계획으로 검색하고 계획의 단계별 예상/실제 건수를 메타데이터에 담는다.
+     * countMode 가 null 이면 booksearch.search.count.mode 를 쓰고, explain 은 계획의 실제 건수를 보여 주므로 항상 정확히 센다.
+     * 같은 검색이 동시에 들어오면 검색은 한 번만 실행하고, 실행 시간은 요청마다 기다린 시간으로 잰다.
+     */
+    public SearchResultWithMetadata<Book> searchBooksWithMetadata(String query, Pageable pageable, boolean explain,
+                                                                  CountMode countMode) {
         long startTime = System.currentTimeMillis();
+        CountMode mode = countMode != null ? countMode : defaultCountMode;
         
         if (query == null || query.trim().isEmpty()) {
-            Page<Book> results = bookRepository.findAll(pageable);
+            Page<Book> results;
+            ResultCount count;
+            if (mode == CountMode.EXACT) {
+                results = bookRepository.findAll(RelevanceSort.withoutRelevance(pageable));
+                count = ResultCount.exact(results.getTotalElements());
+            } else {
+                SearchResult searchResult = searchStrategyManager.searchWithMetadata(queryParser.parse(query), pageable, mode);
+                results = searchResult.getBooks();
+                count = searchResult.getCount();
+            }
             long executionTime = System.currentTimeMillis() - startTime;
             
             SearchMetadata metadata = new SearchMetadata(
                 query, 
                 "ALL_BOOKS", 
                 executionTime, 
-                (int) results.getTotalElements()
+                count,
+                null
             );
             
             return new SearchResultWithMetadata<>(results, metadata);
@@ -61,7 +117,10 @@ public class SearchService {
         searchLogService.logSearch(query);
 
         SearchQuery searchQuery = queryParser.parse(query);
-        SearchResult searchResult = searchStrategyManager.searchWithMetadata(searchQuery, pageable);
+        String flightKey = cacheKeyGenerator.keyOf(query, pageable) + '_' + (explain ? "EXPLAIN" : mode.name());
+        SearchResult searchResult = metadataSearchFlights.execute(flightKey, () -> explain
+                ? searchStrategyManager.searchWithPlan(searchQuery, pageable)
+                : searchStrategyManager.searchWithMetadata(searchQuery, pageable, mode));
         
         long executionTime = System.currentTimeMillis() - startTime;
         
@@ -69,7 +128,8 @@ public class SearchService {
             query,
             searchResult.getStrategyUsed(),
             executionTime,
-            (int) searchResult.getBooks().getTotalElements()
+            searchResult.getCount(),
+            searchResult.getPlan()
         );
         
         return new SearchResultWithMetadata<>(searchResult.getBooks(), metadata);
@@ -1,9 +1,20 @@
 package com.example.booksearch.service;
 
+import com.example.booksearch.config.SearchBackend;
 import com.example.booksearch.domain.Book;
+import com.example.booksearch.index.LuceneBookIndex;
+import com.example.booksearch.query.QueryPlanner;
+import com.example.booksearch.query.QuerySpecifications;
 import com.example.booksearch.repository.BookRepository;
+import com.example.booksearch.repository.BookSpecifications;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.util.Comparator;
@@ -12,33 +23,147 @@ import java.util.List;
 @Component
 public class SearchStrategyManager {
 
+    /** 전략 대신 검색식 하나를 Specification 으로 바꿔 COUNT 없이 조각으로 읽었을 때 보고하는 이름 */
+    static final String SPECIFICATION_SLICE_STRATEGY = "SPECIFICATION_SLICE_SEARCH";
+
     private final List<SearchStrategy> strategies;
+    private final BooleanSearchStrategy booleanSearchStrategy;
+    private final IndexSearchExecutor indexSearchExecutor;
+    private final BookSearchQueries bookSearchQueries;
+    private final ResultCounter resultCounter;
+    private final MatchingIdCache matchingIdCache;
+    private final SearchBackend searchBackend;
 
     public SearchStrategyManager(BookRepository bookRepository) {
+        this(bookRepository, new BookSearchQueries(bookRepository, SearchBackend.DATABASE));
+    }
+
+    private SearchStrategyManager(BookRepository bookRepository, BookSearchQueries bookSearchQueries) {
+        this(bookRepository, IndexSearchExecutor.disabled(bookRepository), bookSearchQueries, null,
+                new ResultCounter(bookRepository, PlannerRowEstimator.unavailable(), ResultCounter.DEFAULT_CAP),
+                MatchingIdCache.disabled(bookSearchQueries), SearchBackend.DATABASE);
+    }
+
+    @Autowired
+    public SearchStrategyManager(BookRepository bookRepository, IndexSearchExecutor indexSearchExecutor,
+                                 BookSearchQueries bookSearchQueries, LuceneBookIndex luceneBookIndex,
+                                 ResultCounter resultCounter, MatchingIdCache matchingIdCache,
+                                 @Value("${booksearch.search.backend:database}") SearchBackend searchBackend) {
+        this.booleanSearchStrategy = new BooleanSearchStrategy(bookSearchQueries, indexSearchExecutor);
+        this.indexSearchExecutor = indexSearchExecutor;
+        this.bookSearchQueries = bookSearchQueries;
+        this.resultCounter = resultCounter;
+        this.matchingIdCache = matchingIdCache;
+        this.searchBackend = searchBackend;
         this.strategies = List.of(
             new EmptySearchStrategy(bookRepository),
-            new SingleTermSearchStrategy(bookRepository),
-            new OrSearchStrategy(bookRepository),
-            new NotSearchStrategy(bookRepository),
-            new ComplexSearchStrategy(bookRepository)
+            new SingleTermSearchStrategy(bookSearchQueries, indexSearchExecutor),
+            new OrSearchStrategy(bookSearchQueries, indexSearchExecutor),
+            new NotSearchStrategy(bookSearchQueries, indexSearchExecutor),
+            new ComplexSearchStrategy(bookSearchQueries, indexSearchExecutor),
+            new ChoseongSearchStrategy(bookSearchQueries, indexSearchExecutor),
+            new FuzzySearchStrategy(bookSearchQueries, indexSearchExecutor),
+            booleanSearchStrategy,
+            new FullTextSearchStrategy(bookSearchQueries, searchBackend),
+            new LuceneSearchStrategy(bookSearchQueries, luceneBookIndex, searchBackend)
         );
     }
 
+    /**
+     * 색인/LIKE 로 검색하는 백엔드에서는 검색식 + 정렬의 ID 목록을 {@link MatchingIdCache} 에 한 번 계산해 두고
+     * 페이지마다 잘라 쓴다. 목록이 너무 크거나 pg-fts/Lucene 처럼 자체 점수로 정렬하면 선택된 전략으로 검색한다.
+     */
     public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
-        return strategies.stream()
-                .filter(strategy -> strategy.canHandle(searchQuery))
-                .max(Comparator.comparing(SearchStrategy::getPriority))
-                .map(strategy -> strategy.search(searchQuery, pageable))
-                .orElseThrow(() -> new IllegalArgumentException("지원되지 않는 검색 쿼리입니다."));
+        if (matchingIdCache.isEnabled() && usesIdLists()) {
+            boolean fromIndex = indexSearchExecutor.canServe(pageable);
+            String key = MatchingIdCache.keyOf(fromIndex ? "index" : "database",
+                    searchQuery.isEmpty() ? null : searchQuery.getExpression(),
+                    fromIndex ? pageable.getSort() : RelevanceSort.withoutRelevance(pageable.getSort()));
+            Page<Book> page = matchingIdCache.findPage(key, SearchTermDependencies.termsOf(searchQuery),
+                    limit -> matchingIds(searchQuery, pageable.getSort(), fromIndex, limit), pageable);
+            if (page != null) {
+                return page;
+            }
+        }
+        return selectStrategy(searchQuery).search(searchQuery, pageable);
+    }
+
+    private boolean usesIdLists() {
+        return searchBackend == SearchBackend.DATABASE
+                || searchBackend == SearchBackend.PG_TRGM
+                || searchBackend == SearchBackend.INDEX;
+    }
+
+    private long[] matchingIds(SearchQuery searchQuery, Sort sort, boolean fromIndex, int limit) {
+        if (fromIndex) {
+            return indexSearchExecutor.sortedIds((index, documentFrequencies) -> searchQuery.isEmpty()
+                            ? index.all()
+                            : QueryPlanner.plan(searchQuery.getExpression(), index).execute(index, documentFrequencies),
+                    IndexTermMatcher.rankingTerms(searchQuery), sort, limit);
+        }
+        Specification<Book> specification = searchQuery.isEmpty()
+                ? BookSpecifications.all()
+                : QuerySpecifications.from(searchQuery.getExpression());
+        return bookSearchQueries.findIds(specification, sort, limit);
     }
 
     public SearchResult searchWithMetadata(SearchQuery searchQuery, Pageable pageable) {
-        SearchStrategy selectedStrategy = strategies.stream()
+        SearchStrategy selectedStrategy = selectStrategy(searchQuery);
+        Page<Book> results = selectedStrategy.search(searchQuery, pageable);
+        return new SearchResult(results, selectedStrategy.getStrategyName());
+    }
+
+    /**
+     * countMode 로 전체 개수를 구해 검색한다.
+     *
+     * 색인/Lucene 은 매칭 건수를 이미 알고 있고 pg-fts 는 tsquery 조건을 LIKE 로 바꿀 수 없으므로 정확히 센다.
+     * 그 외에 데이터베이스에서 LIKE 로 검색할 때는 COUNT 쿼리 없이 페이지를 읽고 {@link ResultCounter} 로 개수를 구한다.
+     * 이때 결과는 전략을 거치지 않고 같은 조건을 검색식 하나로 바꿔 조회하므로 전략 이름도 그 경로의 이름으로 보고한다.
+     */
+    public SearchResult searchWithMetadata(SearchQuery searchQuery, Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT || !countsWithDatabase(pageable)) {
+            return searchWithMetadata(searchQuery, pageable);
+        }
+
+        Specification<Book> specification = searchQuery.isEmpty()
+                ? BookSpecifications.all()
+                : QuerySpecifications.from(searchQuery.getExpression());
+        Slice<Book> slice = bookSearchQueries.findSlice(specification, pageable);
+        ResultCount count = resultCounter.count(countMode, specification,
+                searchQuery.isEmpty() ? null : searchQuery.getExpression(), slice);
+        Page<Book> results = new PageImpl<>(slice.getContent(), slice.getPageable(), count.value());
+        return new SearchResult(results, SPECIFICATION_SLICE_STRATEGY, null, count);
+    }
+
+    private boolean countsWithDatabase(Pageable pageable) {
+        return switch (searchBackend) {
+            case DATABASE, PG_TRGM -> true;
+            case INDEX -> !indexSearchExecutor.canServe(pageable);
+            case PG_FTS, LUCENE -> false;
+        };
+    }
+
+    private SearchStrategy selectStrategy(SearchQuery searchQuery) {
+        return strategies.stream()
                 .filter(strategy -> strategy.canHandle(searchQuery))
                 .max(Comparator.comparing(SearchStrategy::getPriority))
                 .orElseThrow(() -> new IllegalArgumentException("지원되지 않는 검색 쿼리입니다."));
+    }
 
-        Page<Book> results = selectedStrategy.search(searchQuery, pageable);
-        return new SearchResult(results, selectedStrategy.getStrategyName());
+    /**
+     * 검색식 실행 계획으로 검색하고 단계별 예상/실제 건수를 함께 돌려준다 (빈 쿼리는 계획 없이 검색).
+     */
+    public SearchResult searchWithPlan(SearchQuery searchQuery, Pageable pageable) {
+        if (searchQuery.isEmpty()) {
+            return searchWithMetadata(searchQuery, pageable);
+        }
+        return booleanSearchStrategy.searchWithPlan(searchQuery, pageable);
+    }
+
+    /**
+     * 커서 페이지 검색. 관련도/전문 검색 점수는 커서 키로 쓸 수 없으므로 모든 쿼리를 검색식으로 바꿔 keyset 조회한다.
+     */
+    public Slice<Book> searchAfter(SearchQuery searchQuery, CursorRequest request) {
+        return booleanSearchStrategy.searchAfter(searchQuery, request);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,110 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.cache.CacheDependencies;
+import com.example.booksearch.index.Choseong;
+import com.example.booksearch.query.AndNode;
+import com.example.booksearch.query.NotNode;
+import com.example.booksearch.query.QueryNode;
+import com.example.booksearch.query.TermNode;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 검색 결과 캐시(searchResults) 항목이 의존하는 검색어와, 바뀐 도서에 그 검색어가 나타나는지 판단한다.
+ *
+ * 포함어/제외어가 제목·부제·저자 어디에도 없는 도서는 검색식의 결과를 바꾸지 못하므로, 그런 검색어에만 의존한다.
+ * 다만 검색어가 하나도 없는 도서도 일치하는 검색식("-beginner", "java OR NOT kotlin")과 빈 검색,
+ * 일치 여부를 글자로 판단할 수 없는 오타 검색(term~)은 모든 변경에 영향을 받는 것으로 본다.
+ * 백엔드마다 대소문자 구분과 토큰화가 다르므로 검색어의 단어 하나라도 대소문자 없이 포함되면 나타난 것으로 본다.
+ * 같은 규칙을 검색 결과 앞단의 응답 캐시와 매칭 ID 캐시도 쓴다 ({@link #termsOf}, {@link #occursIn}).
+ */
+@Component
+public class SearchTermDependencies implements CacheDependencies {
+
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final QueryParser queryParser;
+
+    public SearchTermDependencies(QueryParser queryParser) {
+        this.queryParser = queryParser;
+    }
+
+    @Override
+    public String cacheName() {
+        return "searchResults";
+    }
+
+    @Override
+    public Set<String> dependenciesOf(Object key) {
+        if (!(key instanceof SearchCacheKey searchKey) || searchKey.query() == null || searchKey.query().isBlank()) {
+            return Set.of();
+        }
+        return termsOf(queryParser.parse(searchKey.query()));
+    }
+
+    /**
+     * 검색 결과가 의존하는 검색어(소문자). 빈 집합이면 어떤 도서 변경에도 결과가 바뀔 수 있다.
+     */
+    public static Set<String> termsOf(SearchQuery searchQuery) {
+        if (searchQuery.isEmpty() || searchQuery.hasFuzzyTerms() || matchesWithoutTerms(searchQuery.getExpression())) {
+            return Set.of();
+        }
+        Set<String> terms = new HashSet<>();
+        for (String term : searchQuery.getIncludeTerms()) {
+            terms.add(term.toLowerCase(Locale.ROOT));
+        }
+        for (String term : searchQuery.getExcludeTerms()) {
+            terms.add(term.toLowerCase(Locale.ROOT));
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어가 도서 문자열(제목, 부제, 저자) 중 하나에 나타날 수 있는지 여부
+     */
+    public static boolean occursIn(String term, Collection<String> texts) {
+        List<String> words = NON_WORD.splitAsStream(term.toLowerCase(Locale.ROOT))
+                .filter(word -> !word.isEmpty())
+                .toList();
+        if (words.isEmpty()) {
+            // 글자나 숫자가 없는 검색어는 어떻게 일치할지 모르므로 나타난 것으로 본다
+            return true;
+        }
+
+        boolean choseong = Choseong.isChoseongOnly(term);
+        for (String text : texts) {
+            if (choseong && Choseong.extract(text).contains(term)) {
+                return true;
+            }
+            String lowerText = text.toLowerCase(Locale.ROOT);
+            for (String word : words) {
+                if (lowerText.contains(word)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 모든 검색어가 일치하지 않는 도서도 검색식에 일치하는지 여부
+     */
+    private static boolean matchesWithoutTerms(QueryNode node) {
+        if (node instanceof TermNode) {
+            return false;
+        }
+        if (node instanceof NotNode not) {
+            return !matchesWithoutTerms(not.operand());
+        }
+        if (node instanceof AndNode) {
+            return node.children().stream().allMatch(SearchTermDependencies::matchesWithoutTerms);
+        }
+        return node.children().stream().anyMatch(SearchTermDependencies::matchesWithoutTerms);
+    }
+}
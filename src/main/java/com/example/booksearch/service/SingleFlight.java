@@ -0,0 +1,61 @@
+package com.example.booksearch.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 계산이 동시에 여러 번 실행되지 않게 묶는다 (single-flight).
+ *
+ * 먼저 들어온 호출이 자기 스레드에서 계산하고 (트랜잭션과 영속성 컨텍스트가 그대로 유지된다),
+ * 그동안 같은 키로 들어온 호출은 그 결과를 기다려 함께 받는다. 계산이 끝나면 키를 지우므로 결과를 보관하지는 않는다.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 계산이 예외로 끝나면 기다리던 호출도 같은 예외를 받는다.
+     */
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> own = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, own);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            V value = computation.get();
+            own.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            own.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, own);
+        }
+    }
+
+    /**
+     * 계산 중인 키의 수
+     */
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
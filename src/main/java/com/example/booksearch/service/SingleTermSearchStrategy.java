@@ -1,18 +1,21 @@
 package com.example.booksearch.service;
 
 import com.example.booksearch.domain.Book;
-import com.example.booksearch.repository.BookRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class SingleTermSearchStrategy implements SearchStrategy {
 
-    private final BookRepository bookRepository;
+    private final BookSearchQueries bookSearchQueries;
+    private final IndexSearchExecutor indexSearchExecutor;
 
-    public SingleTermSearchStrategy(BookRepository bookRepository) {
-        this.bookRepository = bookRepository;
+    public SingleTermSearchStrategy(BookSearchQueries bookSearchQueries, IndexSearchExecutor indexSearchExecutor) {
+        this.bookSearchQueries = bookSearchQueries;
+        this.indexSearchExecutor = indexSearchExecutor;
     }
 
     @Override
@@ -25,7 +28,11 @@ public class SingleTermSearchStrategy implements SearchStrategy {
     @Override
     public Page<Book> search(SearchQuery searchQuery, Pageable pageable) {
         String term = searchQuery.getIncludeTerms().get(0);
-        return bookRepository.findByTitleContainingOrAuthorContaining(term, term, pageable);
+        if (indexSearchExecutor.canServe(pageable)) {
+            return indexSearchExecutor.execute(
+                    (index, documentFrequencies) -> index.containing(term, documentFrequencies), List.of(term), pageable);
+        }
+        return bookSearchQueries.findContaining(term, pageable);
     }
 
     @Override
@@ -0,0 +1,79 @@
+package com.example.booksearch.suggest;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.domain.SearchLog;
+import com.example.booksearch.index.TextTokenizer;
+import com.example.booksearch.repository.BookRepository;
+import com.example.booksearch.repository.SearchLogRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 검색어 자동완성
+ *
+ * 도서 제목/저자 토큰(출현 도서 수)과 인기 검색어(검색 횟수 × {@link #QUERY_WEIGHT})로
+ * {@link SuggestionIndex} 를 주기적으로 새로 만들어 참조를 통째로 바꾼다.
+ * 조회는 volatile 참조 하나만 읽으므로 잠금이 없다.
+ */
+@Service
+public class SuggestService {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestService.class);
+
+    static final long QUERY_WEIGHT = 10;
+
+    private final BookRepository bookRepository;
+    private final SearchLogRepository searchLogRepository;
+    private final int popularQueryLimit;
+
+    private volatile SuggestionIndex index = SuggestionIndex.empty();
+
+    public SuggestService(BookRepository bookRepository, SearchLogRepository searchLogRepository,
+                          @Value("${booksearch.suggest.popular-query-limit:10000}") int popularQueryLimit) {
+        this.bookRepository = bookRepository;
+        this.searchLogRepository = searchLogRepository;
+        this.popularQueryLimit = popularQueryLimit;
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return index.topK(prefix, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${booksearch.suggest.rebuild-interval-ms:600000}",
+            fixedDelayString = "${booksearch.suggest.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        long startTime = System.currentTimeMillis();
+        SuggestionIndex.Builder builder = SuggestionIndex.builder();
+
+        for (Book book : bookRepository.findAll()) {
+            addTokens(builder, book.getTitle());
+            addTokens(builder, book.getAuthor());
+        }
+        for (SearchLog searchLog : searchLogRepository.findTopSearchKeywords(PageRequest.of(0, popularQueryLimit))) {
+            builder.add(searchLog.getKeyword(), searchLog.getSearchCount() * QUERY_WEIGHT);
+        }
+
+        SuggestionIndex rebuilt = builder.build();
+        index = rebuilt;
+        log.info("자동완성 색인 구축 완료: {}건, {}ms", rebuilt.size(), System.currentTimeMillis() - startTime);
+    }
+
+    private void addTokens(SuggestionIndex.Builder builder, String text) {
+        // 한 도서에서 같은 토큰이 여러 번 나와도 한 번으로 센다
+        TextTokenizer.tokenize(text).stream()
+                .distinct()
+                .forEach(token -> builder.add(token, 1));
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.booksearch.suggest;
+
+/**
+ * 자동완성 후보 (표시용 문자열과 가중치)
+ */
+public record Suggestion(
+        String text,
+        long weight
+) {
+}
@@ -0,0 +1,198 @@
+package com.example.booksearch.suggest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 접두어 자동완성용 불변 색인
+ *
+ * 정규화한 키를 정렬 배열로 보관하면 같은 접두어를 가진 키는 연속 구간이 되므로 이진 탐색으로 구간을 찾고,
+ * 가중치 배열 위의 구간 최댓값 세그먼트 트리로 구간을 나눠 가며 상위 k 개만 꺼낸다 (O(log n + k log k)).
+ * 구간 안의 항목을 전부 훑지 않으며, 생성 후에는 변경되지 않으므로 여러 스레드가 잠금 없이 읽을 수 있다.
+ */
+public final class SuggestionIndex {
+
+    private static final SuggestionIndex EMPTY = new SuggestionIndex(new String[0], new String[0], new long[0]);
+
+    private final String[] keys;
+    private final String[] texts;
+    private final long[] weights;
+    private final int[] maxTree;
+    private final int leafOffset;
+
+    private SuggestionIndex(String[] keys, String[] texts, long[] weights) {
+        this.keys = keys;
+        this.texts = texts;
+        this.weights = weights;
+
+        int leaves = 1;
+        while (leaves < keys.length) {
+            leaves <<= 1;
+        }
+        this.leafOffset = leaves;
+        this.maxTree = new int[leaves * 2];
+        Arrays.fill(maxTree, -1);
+        for (int i = 0; i < keys.length; i++) {
+            maxTree[leaves + i] = i;
+        }
+        for (int node = leaves - 1; node >= 1; node--) {
+            maxTree[node] = better(maxTree[node * 2], maxTree[node * 2 + 1]);
+        }
+    }
+
+    public static SuggestionIndex empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    static String normalize(String text) {
+        return text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * prefix 로 시작하는 후보 중 가중치 상위 limit 개 (가중치가 같으면 사전순)
+     */
+    public List<Suggestion> topK(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        int from = lowerBound(normalized);
+        int to = prefixEnd(normalized, from);
+        if (from >= to || limit <= 0) {
+            return List.of();
+        }
+
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, to - from));
+        // {구간 시작, 구간 끝, 구간 최댓값 위치} 를 최댓값 순으로 꺼낸다
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> better(a[2], b[2]) == a[2] ? -1 : 1);
+        ranges.add(new int[]{from, to, rangeMax(from, to)});
+        while (!ranges.isEmpty() && result.size() < limit) {
+            int[] range = ranges.poll();
+            int best = range[2];
+            result.add(new Suggestion(texts[best], weights[best]));
+            if (range[0] < best) {
+                ranges.add(new int[]{range[0], best, rangeMax(range[0], best)});
+            }
+            if (best + 1 < range[1]) {
+                ranges.add(new int[]{best + 1, range[1], rangeMax(best + 1, range[1])});
+            }
+        }
+        return result;
+    }
+
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * from 부터 이어지는 prefix 로 시작하는 키 구간의 끝 (정렬되어 있으므로 연속 구간이다)
+     */
+    private int prefixEnd(String prefix, int from) {
+        int low = from;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid].startsWith(prefix)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * [from, to) 구간에서 가중치가 가장 큰 항목의 위치
+     */
+    private int rangeMax(int from, int to) {
+        int best = -1;
+        for (int left = from + leafOffset, right = to + leafOffset; left < right; left >>= 1, right >>= 1) {
+            if ((left & 1) == 1) {
+                best = better(best, maxTree[left++]);
+            }
+            if ((right & 1) == 1) {
+                best = better(best, maxTree[--right]);
+            }
+        }
+        return best;
+    }
+
+    private int better(int a, int b) {
+        if (a < 0) {
+            return b;
+        }
+        if (b < 0) {
+            return a;
+        }
+        if (weights[a] != weights[b]) {
+            return weights[a] > weights[b] ? a : b;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * 같은 키(대소문자/앞뒤 공백 무시)의 가중치는 합치고, 표시 문자열은 가장 큰 가중치로 추가된 원문을 쓴다.
+     */
+    public static final class Builder {
+
+        private final Map<String, Entry> entries = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(String text, long weight) {
+            if (text == null || text.isBlank() || weight <= 0) {
+                return this;
+            }
+
+            String key = normalize(text);
+            Entry entry = entries.computeIfAbsent(key, k -> new Entry());
+            entry.weight += weight;
+            if (weight > entry.bestWeight) {
+                entry.bestWeight = weight;
+                entry.text = text.trim();
+            }
+            return this;
+        }
+
+        public SuggestionIndex build() {
+            String[] keys = entries.keySet().toArray(String[]::new);
+            Arrays.sort(keys);
+
+            String[] texts = new String[keys.length];
+            long[] weights = new long[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                Entry entry = entries.get(keys[i]);
+                texts[i] = entry.text;
+                weights[i] = entry.weight;
+            }
+            return new SuggestionIndex(keys, texts, weights);
+        }
+
+        private static final class Entry {
+            private String text;
+            private long weight;
+            private long bestWeight;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.booksearch.web;
+
+/**
+ * 직렬화가 끝난 응답 본문 (UTF-8 JSON 바이트)과 그 ETag
+ */
+public record CachedResponse(byte[] body, String contentType, String etag) {
+
+    /**
+     * If-None-Match 헤더가 이 응답의 ETag 를 가리키는지 여부 ("*", 여러 값, W/ 접두어 포함)
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
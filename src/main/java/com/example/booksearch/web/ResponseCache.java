@@ -0,0 +1,97 @@
+package com.example.booksearch.web;
+
+import com.example.booksearch.cache.DependencyIndex;
+import com.example.booksearch.service.SearchTermDependencies;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 요청(경로 + 파라미터)별 직렬화된 응답 캐시
+ *
+ * 크기는 보관한 본문 바이트 수로 제한한다. 응답마다 의존하는 검색어를 기록해 두고, 도서가 바뀌면 그 도서의 제목·부제·저자에
+ * 나타나는 검색어의 검색 응답과 어떤 변경에도 영향을 받는 응답(도서 목록/상세, 검색어 없이도 일치하는 검색)만 지운다.
+ * 이때 세대 번호를 올려 변경 전에 시작한 요청이 끝나면서 변경 전 응답을 다시 넣지 못하게 한다.
+ * 도서 변경 이벤트는 {@link com.example.booksearch.config.BookChangeCacheInvalidator} 가 받아 검색 결과 캐시와 함께 무효화한다.
+ */
+@Component
+public class ResponseCache {
+
+    private static final int MAXIMUM_TRACKED_KEYS = 100_000;
+
+    private final Cache<String, CachedResponse> responses;
+    private final DependencyIndex<String> dependencies = new DependencyIndex<>(MAXIMUM_TRACKED_KEYS);
+    private final AtomicLong generation = new AtomicLong();
+
+    public ResponseCache(@Value("${booksearch.response-cache.max-bytes:67108864}") long maxBytes,
+                         @Value("${booksearch.response-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.responses = maxBytes > 0
+                ? Caffeine.newBuilder()
+                        .maximumWeight(maxBytes)
+                        .weigher((String key, CachedResponse response) -> key.length() + response.body().length)
+                        .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                        .build()
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return responses != null;
+    }
+
+    public CachedResponse get(String key) {
+        return responses.getIfPresent(key);
+    }
+
+    /**
+     * 응답을 만들기 전에 읽어 두고 {@link #put} 에 넘기는 세대 번호
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 응답을 만드는 동안 도서가 바뀌지 않았을 때만 넣는다.
+     *
+     * @param terms 응답이 의존하는 검색어 ({@link SearchTermDependencies#termsOf}, 빈 집합이면 어떤 도서 변경에도 지운다)
+     */
+    public void put(String key, Set<String> terms, long startedGeneration, CachedResponse response) {
+        if (generation.get() != startedGeneration) {
+            return;
+        }
+        if (!dependencies.makeRoomFor(key)) {
+            responses.invalidateAll();
+        }
+        dependencies.track(key, terms);
+        responses.put(key, response);
+        // 넣는 사이에 무효화되었으면 방금 넣은 응답도 지운다
+        if (generation.get() != startedGeneration) {
+            responses.invalidate(key);
+        }
+    }
+
+    /**
+     * changed 가 참인 검색어에 의존하는 응답과 검색어에 의존하지 않는 응답을 지운다.
+     */
+    public void invalidate(Predicate<String> changed) {
+        generation.incrementAndGet();
+        if (responses != null) {
+            responses.invalidateAll(dependencies.removeDependents(changed));
+        }
+    }
+
+    /**
+     * 응답을 모두 비운다 (다른 노드에서 도서가 바뀌었을 때).
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        if (responses != null) {
+            responses.invalidateAll();
+        }
+    }
+}
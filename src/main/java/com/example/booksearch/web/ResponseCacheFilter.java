@@ -0,0 +1,144 @@
+package com.example.booksearch.web;
+
+import com.example.booksearch.service.QueryParser;
+import com.example.booksearch.service.SearchLogService;
+import com.example.booksearch.service.SearchTermDependencies;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * 도서 목록/상세와 검색 결과 응답의 직렬화된 바이트를 캐시하는 필터
+ *
+ * 적중하면 컨트롤러와 Jackson 직렬화를 건너뛰고 저장한 UTF-8 본문을 출력 스트림에 바로 쓴다.
+ * ETag 는 본문의 MD5 이므로 다시 만든 응답도 내용이 같으면 같은 값이고, If-None-Match 가 맞으면 304 로 답한다.
+ * 메타데이터 검색(/detailed)은 요청마다 실행 시간을 재고, 인기 검색어와 자동완성은 도서 변경과 무관하게 바뀌므로 캐시하지 않는다.
+ */
+@Component
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final Pattern CACHEABLE_PATH = Pattern.compile("/api/books(/\\d+)?|/api/search/books");
+    private static final String SEARCH_PATH = "/api/search/books";
+
+    private final ResponseCache responseCache;
+    private final SearchLogService searchLogService;
+    private final QueryParser queryParser;
+
+    public ResponseCacheFilter(ResponseCache responseCache, SearchLogService searchLogService,
+                               QueryParser queryParser) {
+        this.responseCache = responseCache;
+        this.searchLogService = searchLogService;
+        this.queryParser = queryParser;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !responseCache.isEnabled()
+                || !"GET".equals(request.getMethod())
+                || !CACHEABLE_PATH.matcher(pathOf(request)).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = keyOf(request);
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            logSearch(request);
+            write(cached, request, response);
+            return;
+        }
+
+        long generation = responseCache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        String contentType = wrapper.getContentType();
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK || contentType == null || !contentType.contains("json")) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] body = wrapper.getContentAsByteArray();
+        CachedResponse created = new CachedResponse(body, contentType, etagOf(body));
+        responseCache.put(key, termsOf(request), generation, created);
+        wrapper.setHeader(HttpHeaders.ETAG, created.etag());
+        if (created.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            // 본문은 버퍼에 남기고 보내지 않는다
+            wrapper.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void write(CachedResponse cached, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setHeader(HttpHeaders.ETAG, cached.etag());
+        if (cached.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.contentType());
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    /**
+     * 캐시된 검색 응답도 검색 한 번으로 센다 (컨트롤러와 같이 커서 검색은 첫 조각만).
+     */
+    private void logSearch(HttpServletRequest request) {
+        String query = request.getParameter("q");
+        String cursor = request.getParameter("cursor");
+        if (SEARCH_PATH.equals(pathOf(request)) && StringUtils.hasText(query) && !StringUtils.hasText(cursor)) {
+            searchLogService.logSearch(query);
+        }
+    }
+
+    /**
+     * 검색 응답은 검색어 q 에 의존하고, 도서 목록/상세와 검색어 없는 검색은 어떤 도서 변경에도 영향을 받는다.
+     */
+    private Set<String> termsOf(HttpServletRequest request) {
+        String query = request.getParameter("q");
+        if (!SEARCH_PATH.equals(pathOf(request)) || !StringUtils.hasText(query)) {
+            return Set.of();
+        }
+        return SearchTermDependencies.termsOf(queryParser.parse(query));
+    }
+
+    /**
+     * 경로와 파라미터 이름순으로 정렬한 파라미터 (같은 이름의 값 순서는 정렬 우선순위이므로 유지한다)
+     */
+    static String keyOf(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(pathOf(request));
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            for (String value : parameter.getValue()) {
+                key.append(separator).append(parameter.getKey()).append('=')
+                        .append(value.length()).append(':').append(value);
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static String etagOf(byte[] body) {
+        return "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+}
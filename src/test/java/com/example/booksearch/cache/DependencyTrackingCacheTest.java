@@ -0,0 +1,59 @@
+package com.example.booksearch.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DependencyTrackingCache 단위 테스트")
+class DependencyTrackingCacheTest {
+
+    private DependencyTrackingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        CacheDependencies dependencies = new CacheDependencies() {
+            @Override
+            public String cacheName() {
+                return "searchResults";
+            }
+
+            @Override
+            public Set<String> dependenciesOf(Object key) {
+                return Set.of((String) key);
+            }
+        };
+        cache = new DependencyTrackingCache(new ConcurrentMapCache("searchResults"), dependencies, 100);
+    }
+
+    @Test
+    @DisplayName("바뀐 값에 의존하는 항목만 지운다")
+    void evictsOnlyDependents() {
+        cache.get("java", () -> "java-result");
+        cache.get("spring", () -> "spring-result");
+
+        assertThat(cache.evictDependents("java"::equals)).isEqualTo(1);
+
+        assertThat(cache.get("java")).isNull();
+        assertThat(cache.get("spring").get()).isEqualTo("spring-result");
+    }
+
+    @Test
+    @DisplayName("계산하는 동안 원본이 바뀌면 계산한 값은 돌려주기만 하고 캐시에 남기지 않는다")
+    void dropsValueLoadedAcrossChange() {
+        String loaded = cache.get("java", () -> {
+            // 검색이 변경 전 상태를 읽은 뒤, 넣기 전에 도서 변경 이벤트가 처리된다
+            cache.evictDependents("java"::equals);
+            return "stale";
+        });
+
+        assertThat(loaded).isEqualTo("stale");
+        assertThat(cache.get("java")).isNull();
+        assertThat(cache.get("java", () -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.get("java").get()).isEqualTo("fresh");
+    }
+}
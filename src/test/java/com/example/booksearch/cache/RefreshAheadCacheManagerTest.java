@@ -0,0 +1,122 @@
+package com.example.booksearch.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("미리 갱신 / 만료 후 재검증 캐시 테스트")
+class RefreshAheadCacheManagerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger reloads = new AtomicInteger();
+    private Function<Object, Object> reloadFunction;
+    private Cache cache;
+    private Cache withoutReloader;
+
+    @BeforeEach
+    void setUp() {
+        reloadFunction = key -> key + "-v" + (reloads.incrementAndGet() + 1);
+        CacheReloader reloader = new CacheReloader() {
+            @Override
+            public String cacheName() {
+                return "searchResults";
+            }
+
+            @Override
+            public Object reload(Object key) {
+                return reloadFunction.apply(key);
+            }
+        };
+        @SuppressWarnings("unchecked")
+        ObjectProvider<CacheReloader> reloaders = mock(ObjectProvider.class);
+        when(reloaders.stream()).thenAnswer(invocation -> Stream.of(reloader));
+
+        RefreshPolicy policy = new RefreshPolicy(Duration.ofMinutes(30), Duration.ofMinutes(5), Duration.ofMinutes(2));
+        RefreshAheadCacheManager manager = new RefreshAheadCacheManager(
+                Map.of("searchResults", policy, "popularKeywords", policy),
+                100, reloaders, Runnable::run, now::get);
+        cache = manager.getCache("searchResults");
+        withoutReloader = manager.getCache("popularKeywords");
+    }
+
+    @Test
+    @DisplayName("갱신 구간 전에는 저장한 값을 그대로 돌려준다")
+    void servesFreshEntries() {
+        cache.put("java", "java-v1");
+        advance(Duration.ofMinutes(24));
+
+        assertThat(cache.get("java").get()).isEqualTo("java-v1");
+        assertThat(reloads).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("만료가 가까운 항목은 값을 돌려준 뒤 다시 계산해 넣는다")
+    void refreshesAheadOfExpiry() {
+        cache.put("java", "java-v1");
+        advance(Duration.ofMinutes(26));
+
+        assertThat(cache.get("java").get()).isEqualTo("java-v1");
+        assertThat(cache.get("java").get()).isEqualTo("java-v2");
+        assertThat(reloads).hasValue(1);
+
+        // 다시 넣은 시점부터 만료 시간을 센다
+        advance(Duration.ofMinutes(20));
+        assertThat(cache.get("java").get()).isEqualTo("java-v2");
+    }
+
+    @Test
+    @DisplayName("만료 후 재검증 구간에는 이전 값을 돌려주고, 구간이 지나면 없는 것으로 본다")
+    void servesStaleWhileRevalidating() {
+        cache.put("java", "java-v1");
+        cache.put("spring", "spring-v1");
+        advance(Duration.ofMinutes(31));
+
+        assertThat(cache.get("java").get()).isEqualTo("java-v1");
+        assertThat(cache.get("java").get()).isEqualTo("java-v2");
+
+        advance(Duration.ofMinutes(2));
+        assertThat(cache.get("spring")).isNull();
+    }
+
+    @Test
+    @DisplayName("갱신 중에 캐시가 비워지면 갱신 결과를 넣지 않는다")
+    void discardsRefreshAfterClear() {
+        cache.put("java", "java-v1");
+        advance(Duration.ofMinutes(26));
+        reloadFunction = key -> {
+            cache.clear();
+            return "java-v2";
+        };
+
+        assertThat(cache.get("java").get()).isEqualTo("java-v1");
+        assertThat(cache.get("java")).isNull();
+    }
+
+    @Test
+    @DisplayName("다시 계산할 방법이 없는 캐시는 만료 시간에 바로 만료된다")
+    void expiresWithoutReloader() {
+        withoutReloader.put(10, "top10");
+        advance(Duration.ofMinutes(29));
+        assertThat(withoutReloader.get(10).get()).isEqualTo("top10");
+
+        advance(Duration.ofMinutes(1));
+        assertThat(withoutReloader.get(10)).isNull();
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.booksearch.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("2단계 캐시 매니저 테스트")
+class TwoLevelCacheManagerTest {
+
+    private InMemoryCacheStore remoteStore;
+    private TwoLevelCacheManager nodeA;
+    private TwoLevelCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        remoteStore = new InMemoryCacheStore();
+        nodeA = remoteStore.connect(newManager());
+        nodeB = remoteStore.connect(newManager());
+    }
+
+    private TwoLevelCacheManager newManager() {
+        return new TwoLevelCacheManager(remoteStore, Map.of("searchResults", Duration.ofMinutes(30)),
+                100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("한 노드가 채운 값은 다른 노드가 L2 에서 읽는다")
+    void sharesValuesThroughRemoteStore() {
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = nodeA.getCache("searchResults").get("java", () -> "result-" + loads.incrementAndGet());
+        String second = nodeB.getCache("searchResults").get("java", () -> "result-" + loads.incrementAndGet());
+
+        assertThat(first).isEqualTo("result-1");
+        assertThat(second).isEqualTo("result-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("한 노드에서 지우면 모든 노드의 L1 이 함께 버린다")
+    void evictionIsBroadcast() {
+        Cache cacheA = nodeA.getCache("searchResults");
+        Cache cacheB = nodeB.getCache("searchResults");
+        cacheA.put("java", "old");
+        cacheA.put("spring", "old");
+        assertThat(cacheB.get("java").get()).isEqualTo("old");
+        assertThat(cacheB.get("spring").get()).isEqualTo("old");
+
+        cacheA.evict("java");
+        assertThat(cacheB.get("java")).isNull();
+        assertThat(cacheB.get("spring").get()).isEqualTo("old");
+
+        cacheA.clear();
+        assertThat(cacheB.get("spring")).isNull();
+        assertThat(remoteStore.values).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노드마다 따로 두는 캐시는 보낸 노드를 뺀 나머지 노드에서 비운다")
+    void localCacheClearIsBroadcastToOtherNodes() {
+        AtomicInteger clearedA = new AtomicInteger();
+        AtomicInteger clearedB = new AtomicInteger();
+        nodeA.registerLocalCache("responses", clearedA::incrementAndGet);
+        nodeB.registerLocalCache("responses", clearedB::incrementAndGet);
+
+        nodeA.publishClear("responses");
+
+        assertThat(clearedA).hasValue(0);
+        assertThat(clearedB).hasValue(1);
+        assertThat(nodeB.getCacheNames()).containsExactly("searchResults");
+    }
+
+    @Test
+    @DisplayName("L2 가 응답하지 않으면 오류 없이 L1 만으로 동작한다")
+    void degradesToLocalCacheWhenRemoteFails() {
+        remoteStore.down = true;
+        AtomicInteger loads = new AtomicInteger();
+        Cache cache = nodeA.getCache("searchResults");
+
+        String first = cache.get("java", () -> "result-" + loads.incrementAndGet());
+        String second = cache.get("java", () -> "result-" + loads.incrementAndGet());
+        cache.put("spring", "value");
+        cache.evict("kotlin");
+
+        assertThat(first).isEqualTo("result-1");
+        assertThat(second).isEqualTo("result-1");
+        assertThat(cache.get("spring").get()).isEqualTo("value");
+        // 실패한 뒤에는 재시도 대기 시간 동안 L2 를 다시 부르지 않는다
+        assertThat(remoteStore.failedCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화 메시지는 키에 줄바꿈이 있어도 그대로 주고받는다")
+    void encodesInvalidationMessages() {
+        CacheInvalidation evict = new CacheInvalidation("node", "searchResults", "a\nb_0_20");
+        CacheInvalidation clear = new CacheInvalidation("node", "searchResults", null);
+
+        assertThat(CacheInvalidation.decode(evict.encode())).isEqualTo(evict);
+        assertThat(CacheInvalidation.decode(clear.encode()).isClear()).isTrue();
+    }
+
+    /**
+     * Redis 대신 쓰는 메모리 저장소. 보낸 무효화 메시지는 연결된 모든 노드에 바로 전달한다.
+     */
+    private static final class InMemoryCacheStore implements RemoteCacheStore {
+
+        private final Map<String, Object> values = new ConcurrentHashMap<>();
+        private final List<TwoLevelCacheManager> subscribers = new ArrayList<>();
+        private final AtomicInteger failedCalls = new AtomicInteger();
+        private volatile boolean down;
+
+        TwoLevelCacheManager connect(TwoLevelCacheManager manager) {
+            subscribers.add(manager);
+            return manager;
+        }
+
+        @Override
+        public Object get(String key) {
+            checkAvailable();
+            return values.get(key);
+        }
+
+        @Override
+        public void put(String key, Object value, Duration ttl) {
+            checkAvailable();
+            values.put(key, value);
+        }
+
+        @Override
+        public void delete(String key) {
+            checkAvailable();
+            values.remove(key);
+        }
+
+        @Override
+        public void deleteByPrefix(String prefix) {
+            checkAvailable();
+            values.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+
+        @Override
+        public void publish(CacheInvalidation invalidation) {
+            checkAvailable();
+            CacheInvalidation received = CacheInvalidation.decode(invalidation.encode());
+            subscribers.forEach(subscriber -> subscriber.onInvalidation(received));
+        }
+
+        private void checkAvailable() {
+            if (down) {
+                failedCalls.incrementAndGet();
+                throw new IllegalStateException("connection refused");
+            }
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.booksearch.config;
+
+import com.example.booksearch.cache.CacheDependencies;
+import com.example.booksearch.cache.DependencyTrackingCacheManager;
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.domain.BookChangedEvent;
+import com.example.booksearch.service.BookSearchQueries;
+import com.example.booksearch.service.MatchingIdCache;
+import com.example.booksearch.service.QueryParser;
+import com.example.booksearch.service.SearchCacheKey;
+import com.example.booksearch.service.SearchTermDependencies;
+import com.example.booksearch.web.CachedResponse;
+import com.example.booksearch.web.ResponseCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("도서 변경 캐시 선택 무효화 테스트")
+class BookChangeCacheInvalidatorTest {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+
+    private final SearchTermDependencies termDependencies = new SearchTermDependencies(new QueryParser());
+
+    @Test
+    @DisplayName("바뀐 도서의 제목/저자에 나타나는 검색어에 의존하는 항목만 지운다")
+    void evictsOnlyEntriesWhoseTermsOccurInChangedBook() {
+        CacheManager cacheManager = trackingCacheManager(100);
+        Cache cache = cacheManager.getCache("searchResults");
+        cacheWith(cache, "Java", "python", "spring -beginner", "ㅇㅍㅌㅂ");
+
+        invalidator(cacheManager).onBookChanged(BookChangedEvent.saved(book("이펙티브 자바 (Effective JAVA)", "조슈아 블로크")));
+
+        assertThat(cache.get(key("Java"))).isNull();
+        assertThat(cache.get(key("ㅇㅍㅌㅂ"))).isNull();
+        assertThat(cache.get(key("python"))).isNotNull();
+        assertThat(cache.get(key("spring -beginner"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("제외어가 나타나도 결과가 바뀔 수 있으므로 지운다")
+    void evictsEntriesWhoseExcludeTermOccurs() {
+        CacheManager cacheManager = trackingCacheManager(100);
+        Cache cache = cacheManager.getCache("searchResults");
+        cacheWith(cache, "spring -beginner", "kotlin");
+
+        invalidator(cacheManager).onBookChanged(BookChangedEvent.saved(book("Python for Beginner", "홍길동")));
+
+        assertThat(cache.get(key("spring -beginner"))).isNull();
+        assertThat(cache.get(key("kotlin"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("검색어가 없는 도서도 일치하는 검색, 빈 검색, 오타 검색은 어떤 변경에도 지운다")
+    void evictsEntriesDependingOnAnyBook() {
+        CacheManager cacheManager = trackingCacheManager(100);
+        Cache cache = cacheManager.getCache("searchResults");
+        cacheWith(cache, "-beginner", "NOT (java AND kotlin)", "", "pythn~", "java AND NOT kotlin");
+
+        invalidator(cacheManager).onBookChanged(BookChangedEvent.saved(book("Clean Code", "로버트 C. 마틴")));
+
+        assertThat(cache.get(key("-beginner"))).isNull();
+        assertThat(cache.get(key("NOT (java AND kotlin)"))).isNull();
+        assertThat(cache.get(key(""))).isNull();
+        assertThat(cache.get(key("pythn~"))).isNull();
+        assertThat(cache.get(key("java AND NOT kotlin"))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("수정 전 제목에 있던 검색어에 의존하는 항목도 지운다")
+    void evictsEntriesMatchingPreviousValues() {
+        CacheManager cacheManager = trackingCacheManager(100);
+        Cache cache = cacheManager.getCache("searchResults");
+        cacheWith(cache, "java", "kotlin");
+        Book book = book("Kotlin in Action", "드미트리 제메로프");
+
+        invalidator(cacheManager).onBookChanged(new BookChangedEvent(book, BookChangedEvent.ChangeType.SAVED,
+                List.of("Kotlin in Action", "드미트리 제메로프", "Java in Action", "드미트리 제메로프")));
+
+        assertThat(cache.get(key("java"))).isNull();
+        assertThat(cache.get(key("kotlin"))).isNull();
+    }
+
+    @Test
+    @DisplayName("기록한 키가 한도에 이르면 캐시를 모두 비우고 다시 기록한다")
+    void clearsWhenTrackedKeysOverflow() {
+        CacheManager cacheManager = trackingCacheManager(2);
+        Cache cache = cacheManager.getCache("searchResults");
+        cacheWith(cache, "java", "python");
+
+        cache.put(key("kotlin"), "kotlin");
+        assertThat(cache.get(key("java"))).isNull();
+        assertThat(cache.get(key("python"))).isNull();
+        assertThat(cache.get(key("kotlin"))).isNotNull();
+
+        invalidator(cacheManager).onBookChanged(BookChangedEvent.saved(book("Kotlin in Action", "드미트리 제메로프")));
+        assertThat(cache.get(key("kotlin"))).isNull();
+    }
+
+    @Test
+    @DisplayName("의존 검색어를 기록하지 않는 캐시는 모두 비운다")
+    void clearsUntrackedCache() {
+        CacheManager cacheManager = new ConcurrentMapCacheManager("searchResults");
+        Cache cache = cacheManager.getCache("searchResults");
+        cacheWith(cache, "java", "python");
+
+        invalidator(cacheManager).onBookChanging(BookChangedEvent.saved(book("Effective Java", "조슈아 블로크")));
+
+        assertThat(cache.get(key("java"))).isNull();
+        assertThat(cache.get(key("python"))).isNull();
+    }
+
+    @Test
+    @DisplayName("변경 이벤트 한 번으로 검색 결과, 매칭 ID, 응답 캐시를 같은 검색어 기준으로 지운다")
+    void invalidatesAllSearchCachesTogether() {
+        CacheManager cacheManager = trackingCacheManager(100);
+        Cache searchResults = cacheManager.getCache("searchResults");
+        cacheWith(searchResults, "java", "python");
+        ResponseCache responseCache = new ResponseCache(1 << 20, 600);
+        responseCache.put("/api/search/books?q=java", Set.of("java"), responseCache.generation(), response("java"));
+        responseCache.put("/api/search/books?q=python", Set.of("python"), responseCache.generation(), response("python"));
+        MatchingIdCache matchingIdCache = new MatchingIdCache(mock(BookSearchQueries.class), 1000, 10, 600);
+        AtomicInteger loads = new AtomicInteger();
+        IntFunction<long[]> loader = limit -> {
+            loads.incrementAndGet();
+            return new long[0];
+        };
+        matchingIdCache.findPage("java", Set.of("java"), loader, FIRST_PAGE);
+        matchingIdCache.findPage("python", Set.of("python"), loader, FIRST_PAGE);
+
+        new BookChangeCacheInvalidator(cacheManager, responseCache, matchingIdCache)
+                .onBookChanging(BookChangedEvent.saved(book("Effective Java", "조슈아 블로크")));
+
+        assertThat(searchResults.get(key("java"))).isNull();
+        assertThat(searchResults.get(key("python"))).isNotNull();
+        assertThat(responseCache.get("/api/search/books?q=java")).isNull();
+        assertThat(responseCache.get("/api/search/books?q=python")).isNotNull();
+        matchingIdCache.findPage("java", Set.of("java"), loader, FIRST_PAGE);
+        matchingIdCache.findPage("python", Set.of("python"), loader, FIRST_PAGE);
+        assertThat(loads).hasValue(3);
+    }
+
+    private CacheManager trackingCacheManager(int maxTrackedKeys) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<CacheDependencies> dependencies = mock(ObjectProvider.class);
+        when(dependencies.stream()).thenAnswer(invocation -> Stream.of(termDependencies));
+        return new DependencyTrackingCacheManager(new ConcurrentMapCacheManager("searchResults"),
+                dependencies, maxTrackedKeys);
+    }
+
+    private BookChangeCacheInvalidator invalidator(CacheManager cacheManager) {
+        return new BookChangeCacheInvalidator(cacheManager, new ResponseCache(0, 600),
+                MatchingIdCache.disabled(mock(BookSearchQueries.class)));
+    }
+
+    private static void cacheWith(Cache cache, String... queries) {
+        for (String query : queries) {
+            cache.put(key(query), "result of " + query);
+        }
+    }
+
+    private static SearchCacheKey key(String query) {
+        return new SearchCacheKey(query + "_0_20", query, FIRST_PAGE);
+    }
+
+    private static CachedResponse response(String body) {
+        return new CachedResponse(body.getBytes(StandardCharsets.UTF_8), "application/json", "\"" + body + "\"");
+    }
+
+    private static Book book(String title, String author) {
+        return Book.builder()
+                .isbn("9788966262281")
+                .title(title)
+                .author(author)
+                .build();
+    }
+}
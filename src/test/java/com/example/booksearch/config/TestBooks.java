@@ -0,0 +1,26 @@
+package com.example.booksearch.config;
+
+import com.example.booksearch.domain.Book;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 저장소 없이 색인/검색 계획을 테스트할 때 쓰는 ID 가 지정된 도서
+ */
+public final class TestBooks {
+
+    private TestBooks() {
+    }
+
+    /**
+     * ISBN 은 ID 를 13자리로 채운 값
+     */
+    public static Book book(Long id, String title, String author) {
+        Book book = Book.builder()
+                .isbn(String.format("%013d", id))
+                .title(title)
+                .author(author)
+                .build();
+        ReflectionTestUtils.setField(book, "id", id);
+        return book;
+    }
+}
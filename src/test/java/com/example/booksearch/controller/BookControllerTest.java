@@ -189,4 +189,42 @@ class BookControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content", hasSize(0)));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("커서로 다음 조각을 이어서 조회한다 - 전체 개수 없음")
+    void getBooksByCursor() throws Exception {
+        String firstSlice = mockMvc.perform(get("/api/books")
+                        .param("cursor", "")
+                        .param("size", "2")
+                        .param("sort", "publicationDate,desc")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].title", is("Effective Java")))
+                .andExpect(jsonPath("$.content[1].title", is("Spring Boot in Action")))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstSlice).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/books")
+                        .param("cursor", nextCursor)
+                        .param("size", "2")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].title", is("Clean Code")))
+                .andExpect(jsonPath("$.hasNext", is(false)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("커서로 정렬할 수 없는 속성 - 400 응답")
+    void getBooksByCursorWithUnsupportedSort() throws Exception {
+        mockMvc.perform(get("/api/books")
+                        .param("cursor", "")
+                        .param("sort", "author")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -85,15 +85,16 @@ class PopularSearchControllerTest {
                         .param("q", "spring boot"))
                 .andExpect(status().isOk());
 
+        // 같은 검색이 되는 다른 표기는 한 검색어로 모인다
         mockMvc.perform(get("/api/search/books")
-                        .param("q", "spring boot"))
+                        .param("q", " Boot | spring "))
                 .andExpect(status().isOk());
 
-        // When & Then - 인기 검색어 확인
+        // When & Then - 인기 검색어 확인 (포함어를 정렬한 정규형)
         mockMvc.perform(get("/api/search/popular"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(1))
-                .andExpect(jsonPath("$[0].keyword").value("spring boot"))
+                .andExpect(jsonPath("$[0].keyword").value("boot spring"))
                 .andExpect(jsonPath("$[0].searchCount").exists())
                 .andExpect(jsonPath("$[0].lastSearchedAt").exists());
     }
@@ -118,6 +118,43 @@ class SearchMetadataControllerTest {
                 .andExpect(jsonPath("$.data.totalElements").exists());
     }
 
+    @Test
+    @DisplayName("상한 집계 모드는 COUNT 없이 페이지를 읽고 상한 안이면 정확한 개수로 보고")
+    void testCappedCountMode() throws Exception {
+        mockMvc.perform(get("/api/search/books/detailed")
+                        .param("q", "Java")
+                        .param("size", "1")
+                        .param("count", "capped"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.metadata.strategy").value("SPECIFICATION_SLICE_SEARCH"))
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.totalElements").value(2))
+                .andExpect(jsonPath("$.metadata.totalResults").value(2))
+                .andExpect(jsonPath("$.metadata.totalResultsMode").value("EXACT"))
+                .andExpect(jsonPath("$.metadata.totalResultsDisplay").value("2"));
+    }
+
+    @Test
+    @DisplayName("예상 집계 모드는 PostgreSQL 이 아니면 상한 집계로 대신")
+    void testEstimatedCountModeFallback() throws Exception {
+        mockMvc.perform(get("/api/search/books/detailed")
+                        .param("size", "2")
+                        .param("count", "ESTIMATED"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.metadata.strategy").value("ALL_BOOKS"))
+                .andExpect(jsonPath("$.metadata.totalResults").value(5))
+                .andExpect(jsonPath("$.metadata.totalResultsMode").value("EXACT"));
+    }
+
+    @Test
+    @DisplayName("잘못된 집계 모드는 400")
+    void testInvalidCountMode() throws Exception {
+        mockMvc.perform(get("/api/search/books/detailed")
+                        .param("q", "java")
+                        .param("count", "all"))
+                .andExpect(status().isBadRequest());
+    }
+
     private void createTestBooks() {
         Book book1 = Book.builder()
                 .isbn("1111111111111")
@@ -0,0 +1,175 @@
+package com.example.booksearch.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.booksearch.config.TestBooks.book;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BookIndex 단위 테스트")
+class BookIndexTest {
+
+    private BookIndex bookIndex;
+
+    @BeforeEach
+    void setUp() {
+        bookIndex = new BookIndex();
+        bookIndex.rebuild(List.of(
+                book(1L, "Effective Java", "조슈아 블로크"),
+                book(2L, "Java 8 in Action", "라울-가브리엘 우르마"),
+                book(3L, "모던 자바스크립트 Deep Dive", "이웅모"),
+                book(4L, "파이썬 머신러닝 완벽 가이드", "권철민")
+        ));
+    }
+
+    @Test
+    @DisplayName("토큰의 부분 문자열로도 검색된다")
+    void containingMatchesSubstringOfToken() {
+        assertThat(bookIndex.containing("Jav").toArray()).containsExactly(1, 2);
+        assertThat(bookIndex.containing("자바").toArray()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("공백 단위 토큰이 아닌 한글 부분 문자열도 검색된다")
+    void containingMatchesHangulFragment() {
+        assertThat(bookIndex.containing("머신").toArray()).containsExactly(4);
+        assertThat(bookIndex.containing("신러").toArray()).containsExactly(4);
+        assertThat(bookIndex.containing("썬 머").toArray()).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어도 검색된다")
+    void containingMatchesSingleCharacter() {
+        assertThat(bookIndex.containing("J").toArray()).containsExactly(1, 2);
+        assertThat(bookIndex.containing("모").toArray()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("n-gram 이 모두 있어도 연속되지 않으면 검색되지 않는다")
+    void containingVerifiesCandidates() {
+        // "Effective" 에는 "ive" 와 "ef" 가 모두 있지만 "ivef" 는 없다
+        assertThat(bookIndex.containing("ivef").toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목 또는 저자에서 검색된다")
+    void containingMatchesTitleOrAuthor() {
+        assertThat(bookIndex.containing("권철민").toArray()).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("LIKE 와 마찬가지로 대소문자를 구분한다")
+    void containingIsCaseSensitive() {
+        assertThat(bookIndex.containing("java").toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공백이 포함된 검색어는 원문 기준으로 검증된다")
+    void containingVerifiesTermsWithWhitespace() {
+        assertThat(bookIndex.containing("Java 8").toArray()).containsExactly(2);
+        assertThat(bookIndex.containing("Effective Action").toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("도서가 수정되면 이전 토큰은 색인에서 제거된다")
+    void indexReplacesPreviousTokens() {
+        bookIndex.index(book(1L, "Clean Code", "로버트 C. 마틴"));
+
+        assertThat(bookIndex.containing("Effective").toArray()).isEmpty();
+        assertThat(bookIndex.containing("Clean").toArray()).containsExactly(1);
+        assertThat(bookIndex.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("삭제된 도서는 검색되지 않는다")
+    void removeDeletesDocument() {
+        bookIndex.remove(2L);
+
+        assertThat(bookIndex.containing("Java").toArray()).containsExactly(1);
+        assertThat(bookIndex.all().toArray()).containsExactly(1, 3, 4);
+    }
+
+    @Test
+    @DisplayName("초성으로 제목과 저자를 검색한다")
+    void containingChoseongMatchesTitleOrAuthor() {
+        assertThat(bookIndex.containingChoseong("ㅍㅇㅆ").toArray()).containsExactly(4);
+        assertThat(bookIndex.containingChoseong("ㅈㅂ").toArray()).containsExactly(3);
+        assertThat(bookIndex.containingChoseong("ㅇㅇㅁ").toArray()).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("단어 경계를 넘는 초성열은 검색되지 않는다")
+    void containingChoseongDoesNotSpanWords() {
+        // "파이썬 머신러닝" 의 초성열은 "ㅍㅇㅆ ㅁㅅㄹㄴ" 이다
+        assertThat(bookIndex.containingChoseong("ㅆㅁ").toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정된 도서는 새 초성으로 검색된다")
+    void indexReplacesChoseong() {
+        bookIndex.index(book(4L, "러닝 스프링", "권철민"));
+
+        assertThat(bookIndex.containingChoseong("ㅍㅇㅆ").toArray()).isEmpty();
+        assertThat(bookIndex.containingChoseong("ㅅㅍㄹ").toArray()).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("관련도 순으로 상위 문서만 고른다")
+    void topByRelevanceOrdersByScore() {
+        PostingList matches = bookIndex.containing("Java");
+
+        // 제목이 짧을수록 같은 한 번의 일치도 점수가 높다
+        assertThat(bookIndex.topByRelevance(matches, List.of("Java"), 10)).containsExactly(1, 2);
+        assertThat(bookIndex.topByRelevance(matches, List.of("Java"), 1)).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("매칭하면서 센 일치 도서 수를 넘기면 같은 순위를 다시 세지 않고 매긴다")
+    void topByRelevanceUsesGivenDocumentFrequencies() {
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+        PostingList matches = bookIndex.containing("Java", documentFrequencies);
+
+        assertThat(documentFrequencies).containsEntry("Java", matches.size());
+        assertThat(bookIndex.topByRelevance(matches, List.of("Java"), documentFrequencies, 10))
+                .containsExactly(bookIndex.topByRelevance(matches, List.of("Java"), 10));
+    }
+
+    @Test
+    @DisplayName("제목 일치가 저자 일치보다 관련도가 높다")
+    void topByRelevanceBoostsTitle() {
+        BookIndex index = new BookIndex();
+        index.rebuild(List.of(
+                book(1L, "데이터베이스 입문", "김자바"),
+                book(2L, "자바 입문", "홍길동")
+        ));
+
+        assertThat(index.topByRelevance(index.containing("자바"), List.of("자바"), 10)).containsExactly(2, 1);
+    }
+
+    @Test
+    @DisplayName("편집 거리 이내의 토큰으로 오타를 허용해 검색한다")
+    void fuzzyMatchesWithinEditDistance() {
+        assertThat(bookIndex.fuzzy("Efective", 1).toArray()).containsExactly(1);
+        assertThat(bookIndex.fuzzy("jaav", 2).toArray()).containsExactly(1, 2);
+        assertThat(bookIndex.fuzzy("파이선", 1).toArray()).containsExactly(4);
+    }
+
+    @Test
+    @DisplayName("편집 거리를 넘는 토큰은 오타 검색에 걸리지 않는다")
+    void fuzzyRespectsMaxEdits() {
+        assertThat(bookIndex.fuzzy("Efecitve", 1).toArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제된 도서는 오타 검색에 걸리지 않는다")
+    void fuzzyExcludesRemovedDocument() {
+        bookIndex.remove(1L);
+
+        assertThat(bookIndex.fuzzy("Efective", 1).toArray()).isEmpty();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.booksearch.index;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.example.booksearch.config.TestBooks.book;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LuceneBookIndex 단위 테스트")
+class LuceneBookIndexTest {
+
+    @TempDir
+    Path indexPath;
+
+    private LuceneBookIndex luceneBookIndex;
+
+    @BeforeEach
+    void setUp() {
+        luceneBookIndex = new LuceneBookIndex(indexPath);
+        luceneBookIndex.rebuild(List.of(
+                book(1L, "Effective Java", "Joshua Bloch"),
+                book(2L, "Java 8 in Action", "Raoul-Gabriel Urma"),
+                book(3L, "Python Crash Course", "Eric Matthes"),
+                book(4L, "Java for Beginners", "Someone")
+        ));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        luceneBookIndex.close();
+    }
+
+    @Test
+    @DisplayName("포함어 중 하나라도 일치하는 도서를 찾는다")
+    void searchMatchesAnyIncludeTerm() {
+        LuceneHits hits = luceneBookIndex.search(List.of("java", "python"), List.of(), Sort.by("id"), 0, 10);
+
+        assertThat(hits.totalHits()).isEqualTo(4);
+        assertThat(hits.bookIds()).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("제외어는 모두 적용된다")
+    void searchAppliesEveryExcludeTerm() {
+        LuceneHits hits = luceneBookIndex.search(List.of("java"), List.of("action", "beginners"), Sort.by("id"), 0, 10);
+
+        assertThat(hits.bookIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("제외어만 있으면 나머지 전체를 찾는다")
+    void searchWithExcludeTermsOnly() {
+        LuceneHits hits = luceneBookIndex.search(List.of(), List.of("java"), Sort.unsorted(), 0, 10);
+
+        assertThat(hits.bookIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("토큰 접두어로도 검색된다")
+    void searchMatchesTokenPrefix() {
+        LuceneHits hits = luceneBookIndex.search(List.of("pyth"), List.of(), Sort.unsorted(), 0, 10);
+
+        assertThat(hits.bookIds()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("요청한 구간만 정렬 순서대로 돌려준다")
+    void searchReturnsRequestedPage() {
+        LuceneHits hits = luceneBookIndex.search(List.of("java"), List.of(), Sort.by(Sort.Direction.DESC, "title"), 1, 2);
+
+        assertThat(hits.totalHits()).isEqualTo(3);
+        assertThat(hits.bookIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("갱신과 삭제가 바로 검색에 반영된다")
+    void changesAreVisibleImmediately() {
+        luceneBookIndex.index(book(3L, "Python for Java Developers", "Eric Matthes"));
+        luceneBookIndex.remove(1L);
+
+        LuceneHits hits = luceneBookIndex.search(List.of("java"), List.of(), Sort.by("id"), 0, 10);
+
+        assertThat(hits.bookIds()).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("색인에 없는 속성으로는 정렬할 수 없다")
+    void supportsOnlyIndexedSortProperties() {
+        assertThat(luceneBookIndex.supports(Sort.by("title"))).isTrue();
+        assertThat(luceneBookIndex.supports(Sort.by("isbn"))).isFalse();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.booksearch.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PostingList 단위 테스트")
+class PostingListTest {
+
+    @Test
+    @DisplayName("ID 는 오름차순으로 중복 없이 보관된다")
+    void keepsSortedDistinctIds() {
+        PostingList postingList = PostingList.of(70_000, 3, 1, 3, 65_536);
+
+        assertThat(postingList.size()).isEqualTo(4);
+        assertThat(postingList.toArray()).containsExactly(1, 3, 65_536, 70_000);
+        assertThat(postingList.contains(65_536)).isTrue();
+        assertThat(postingList.contains(2)).isFalse();
+    }
+
+    @Test
+    @DisplayName("조밀한 컨테이너도 추가와 삭제 후 결과가 같다")
+    void handlesDenseContainers() {
+        PostingList postingList = new PostingList();
+        IntStream.range(0, 10_000).forEach(postingList::add);
+
+        IntStream.range(0, 10_000).filter(id -> id % 2 == 0).forEach(postingList::remove);
+
+        assertThat(postingList.size()).isEqualTo(5_000);
+        assertThat(postingList.get(0)).isEqualTo(1);
+        assertThat(postingList.get(4_999)).isEqualTo(9_999);
+    }
+
+    @Test
+    @DisplayName("rank 는 주어진 ID 보다 작은 ID 개수다")
+    void rankCountsSmallerIds() {
+        PostingList sparse = PostingList.of(1, 3, 65_536, 70_000);
+        PostingList dense = new PostingList();
+        IntStream.range(0, 10_000).map(id -> id * 2).forEach(dense::add);
+
+        assertThat(sparse.rank(0)).isZero();
+        assertThat(sparse.rank(3)).isEqualTo(1);
+        assertThat(sparse.rank(4)).isEqualTo(2);
+        assertThat(sparse.rank(70_001)).isEqualTo(4);
+        assertThat(dense.rank(9_999)).isEqualTo(5_000);
+        assertThat(dense.rank(10_000)).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("교집합, 합집합, 차집합을 계산한다")
+    void computesSetOperations() {
+        PostingList left = PostingList.of(1, 2, 3, 100_000);
+        PostingList right = PostingList.of(2, 3, 4, 200_000);
+
+        assertThat(left.and(right).toArray()).containsExactly(2, 3);
+        assertThat(left.or(right).toArray()).containsExactly(1, 2, 3, 4, 100_000, 200_000);
+        assertThat(left.andNot(right).toArray()).containsExactly(1, 100_000);
+    }
+
+    @Test
+    @DisplayName("여러 집합의 합집합은 입력을 바꾸지 않고 조밀한 컨테이너까지 합친다")
+    void unionMergesManyListsWithoutModifyingInputs() {
+        PostingList evens = new PostingList();
+        IntStream.range(0, 5_000).map(id -> id * 2).forEach(evens::add);
+        PostingList odds = new PostingList();
+        IntStream.range(0, 5_000).map(id -> id * 2 + 1).forEach(odds::add);
+        PostingList sparse = PostingList.of(3, 70_000, 140_000);
+
+        PostingList union = PostingList.union(List.of(evens, sparse, odds, PostingList.of(70_000)));
+
+        assertThat(union.size()).isEqualTo(10_002);
+        assertThat(union.rank(10_000)).isEqualTo(10_000);
+        assertThat(union.slice(9_999, 10_002)).containsExactly(9_999, 70_000, 140_000);
+        assertThat(evens.size()).isEqualTo(5_000);
+        assertThat(evens.contains(1)).isFalse();
+        assertThat(sparse.toArray()).containsExactly(3, 70_000, 140_000);
+    }
+
+    @Test
+    @DisplayName("여러 제외 집합을 모두 적용한다")
+    void andNotAppliesEveryExclusion() {
+        PostingList all = PostingList.of(1, 2, 3, 4, 5);
+
+        PostingList result = all.andNot(List.of(PostingList.of(1), PostingList.of(4, 5)));
+
+        assertThat(result.toArray()).containsExactly(2, 3);
+    }
+
+    @Test
+    @DisplayName("페이지 구간을 오름차순과 내림차순으로 자른다")
+    void slicesPageRange() {
+        PostingList postingList = new PostingList();
+        IntStream.rangeClosed(1, 20).map(id -> id * 10_000).forEach(postingList::add);
+
+        assertThat(postingList.slice(5, 8)).containsExactly(60_000, 70_000, 80_000);
+        assertThat(postingList.sliceDescending(0, 3)).containsExactly(200_000, 190_000, 180_000);
+        assertThat(postingList.slice(18, 30)).containsExactly(190_000, 200_000);
+        assertThat(postingList.slice(25, 30)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("음수 ID 는 색인할 수 없다")
+    void rejectsNegativeId() {
+        assertThatThrownBy(() -> PostingList.of(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
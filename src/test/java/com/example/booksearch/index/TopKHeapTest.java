@@ -0,0 +1,42 @@
+package com.example.booksearch.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TopKHeap 단위 테스트")
+class TopKHeapTest {
+
+    @Test
+    @DisplayName("점수 상위 k 개를 내림차순으로 돌려준다")
+    void keepsTopKByScore() {
+        TopKHeap heap = new TopKHeap(3);
+        float[] scores = {0.5f, 2.0f, 1.0f, 3.0f, 0.1f, 2.5f};
+        for (int docId = 0; docId < scores.length; docId++) {
+            heap.offer(docId, scores[docId]);
+        }
+
+        assertThat(heap.drainDescending()).containsExactly(3, 5, 1);
+    }
+
+    @Test
+    @DisplayName("점수가 같으면 ID 가 작은 문서를 우선한다")
+    void breaksTiesByDocId() {
+        TopKHeap heap = new TopKHeap(2);
+        heap.offer(9, 1.0f);
+        heap.offer(4, 1.0f);
+        heap.offer(7, 1.0f);
+
+        assertThat(heap.drainDescending()).containsExactly(4, 7);
+    }
+
+    @Test
+    @DisplayName("크기가 0 이면 아무것도 남기지 않는다")
+    void zeroCapacity() {
+        TopKHeap heap = new TopKHeap(0);
+        heap.offer(1, 1.0f);
+
+        assertThat(heap.drainDescending()).isEmpty();
+    }
+}
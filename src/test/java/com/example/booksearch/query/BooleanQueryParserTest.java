@@ -0,0 +1,59 @@
+package com.example.booksearch.query;
+
+import com.example.booksearch.exception.InvalidSearchQueryException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BooleanQueryParser 단위 테스트")
+class BooleanQueryParserTest {
+
+    private final BooleanQueryParser parser = new BooleanQueryParser(TermNode::of);
+
+    @Test
+    @DisplayName("AND 가 OR 보다 먼저 묶인다")
+    void andBindsTighterThanOr() {
+        assertThat(parser.parse("a OR b AND c")).hasToString("(a OR (b AND c))");
+        assertThat(parser.parse("(a | b) AND c")).hasToString("((a OR b) AND c)");
+    }
+
+    @Test
+    @DisplayName("공백으로 이어진 항은 OR 이고, 제외 항은 묶음 전체에서 뺀다")
+    void adjacentTermsAreOrAndExclusionsApplyToGroup() {
+        assertThat(parser.parse("java spring -\"for beginners\""))
+                .hasToString("((java OR spring) AND NOT \"for beginners\")");
+    }
+
+    @Test
+    @DisplayName("따옴표 구문은 공백을 포함한 검색어 하나가 된다")
+    void phraseIsSingleTerm() {
+        QueryNode node = parser.parse("\"spring boot\"");
+
+        assertThat(node).isEqualTo(TermNode.of("spring boot"));
+    }
+
+    @Test
+    @DisplayName("제외 조건만 있으면 AND 로 감싼다")
+    void notOnlyQueryIsWrappedInAnd() {
+        assertThat(parser.parse("NOT java")).isInstanceOf(AndNode.class).hasToString("(NOT java)");
+        assertThat(parser.parse("NOT (NOT a NOT b)")).hasToString("(a OR b)");
+    }
+
+    @Test
+    @DisplayName("단어 중간의 - 와 소문자 and 는 검색어의 일부다")
+    void operatorsInsideWordsAreLiteral() {
+        assertThat(parser.parse("(e-book and)")).hasToString("(e-book OR and)");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(java", "java)", "()", "\"java", "java AND", "NOT"})
+    @DisplayName("문법에 맞지 않는 검색식은 예외를 던진다")
+    void rejectsMalformedQuery(String query) {
+        assertThatThrownBy(() -> parser.parse(query))
+                .isInstanceOf(InvalidSearchQueryException.class);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.booksearch.query;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.index.BookIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.booksearch.config.TestBooks.book;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("QueryPlanner 단위 테스트")
+class QueryPlannerTest {
+
+    private final BooleanQueryParser parser = new BooleanQueryParser(TermNode::of);
+    private BookIndex bookIndex;
+
+    @BeforeEach
+    void setUp() {
+        List<Book> books = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            String title = id % 50 == 0 ? "Spring Boot 실전" : (id % 2 == 0 ? "Java Programming " + id : "Python Guide " + id);
+            books.add(book(id, title, "저자" + (id % 7)));
+        }
+        bookIndex = new BookIndex();
+        bookIndex.rebuild(books);
+    }
+
+    @Test
+    @DisplayName("검색식과 같은 결과를 돌려준다")
+    void executesExpression() {
+        QueryPlan plan = QueryPlanner.plan(parser.parse("(Java | Spring) AND NOT 저자1"), bookIndex);
+
+        int[] ids = plan.execute(bookIndex).toArray();
+
+        assertThat(ids).hasSize(86);
+        assertThat(ids).allMatch(id -> id % 2 == 0 && id % 7 != 1);
+    }
+
+    @Test
+    @DisplayName("드문 포함 조건부터 실행하고 제외 조건은 마지막에 적용한다")
+    void ordersOperandsBySelectivity() {
+        QueryPlan plan = QueryPlanner.plan(parser.parse("-저자3 AND Java AND Spring"), bookIndex);
+        plan.execute(bookIndex);
+
+        PlanStep explain = plan.explain();
+
+        assertThat(explain.children()).extracting(PlanStep::operator)
+                .containsExactly("SUBSTRING", "SUBSTRING", "NOT");
+        assertThat(explain.children().get(0).detail()).isEqualTo("Spring");
+        assertThat(explain.children().get(0).actualRows()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("앞 단계 후보가 적으면 뒤 조건은 후보를 하나씩 확인한다")
+    void filtersSmallCandidateSet() {
+        QueryPlan plan = QueryPlanner.plan(parser.parse("Spring AND Programming"), bookIndex);
+        plan.execute(bookIndex);
+
+        PlanStep filter = plan.explain().children().get(1);
+
+        assertThat(filter.detail()).isEqualTo("Programming");
+        assertThat(filter.access()).isEqualTo("FILTER");
+        assertThat(filter.actualRows()).isZero();
+        assertThat(plan.explain().actualRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("색인으로 실행한 검색어의 일치 도서 수만 남긴다")
+    void collectsDocumentFrequenciesOfIndexedTerms() {
+        QueryPlan plan = QueryPlanner.plan(parser.parse("Spring AND Programming"), bookIndex);
+        Map<String, Integer> documentFrequencies = new HashMap<>();
+
+        plan.execute(bookIndex, documentFrequencies);
+
+        // Programming 은 후보를 하나씩 확인했으므로 전체 일치 수를 알 수 없다
+        assertThat(documentFrequencies).containsExactly(Map.entry("Spring", 4));
+    }
+}
@@ -7,6 +7,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -203,6 +207,28 @@ class BookRepositoryTest {
         assertThat(count).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("COUNT 없이 페이지를 읽고 건수는 상한까지만 센다")
+    void findSliceAndCountUpTo() {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            bookRepository.save(Book.builder().isbn("100000000000" + i).title("Book " + i).author("Author " + i).build());
+        }
+        Specification<Book> specification = BookSpecifications.containsAny(List.of("Book"));
+
+        // when
+        Slice<Book> first = bookRepository.findSlice(specification, PageRequest.of(0, 2, Sort.by("isbn")));
+        Slice<Book> last = bookRepository.findSlice(specification, PageRequest.of(2, 2, Sort.by("isbn")));
+
+        // then
+        assertThat(first.getContent()).extracting(Book::getTitle).containsExactly("Book 1", "Book 2");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).extracting(Book::getTitle).containsExactly("Book 5");
+        assertThat(last.hasNext()).isFalse();
+        assertThat(bookRepository.countUpTo(specification, 3)).isEqualTo(3);
+        assertThat(bookRepository.countUpTo(specification, 10)).isEqualTo(5);
+    }
+
     @Test
     @DisplayName("ISBN으로 Book 존재 여부 확인")
     void existsByIsbn() {
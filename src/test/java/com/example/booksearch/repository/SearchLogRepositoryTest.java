@@ -0,0 +1,106 @@
+package com.example.booksearch.repository;
+
+import com.example.booksearch.domain.SearchLog;
+import com.example.booksearch.repository.SearchLogRepositoryCustom.SearchCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("SearchLogRepository upsert 테스트")
+class SearchLogRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private SearchLogRepository searchLogRepository;
+
+    @Test
+    @DisplayName("있는 검색어는 횟수를 더하고 없는 검색어는 그 횟수로 만들며 마지막 검색의 대소문자를 남긴다")
+    void addsSearchCounts() {
+        // given
+        entityManager.persistAndFlush(SearchLog.of("java"));
+        LocalDateTime searchedAt = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+        // when
+        searchLogRepository.addSearchCounts(
+                List.of(new SearchCount("spring", "Spring", 3), new SearchCount("java", "JAVA", 2)), searchedAt);
+        entityManager.clear();
+
+        // then
+        SearchLog java = searchLogRepository.findByKeyword("java").orElseThrow();
+        SearchLog spring = searchLogRepository.findByKeyword("spring").orElseThrow();
+        assertThat(java.getSearchCount()).isEqualTo(3);
+        assertThat(java.getLastSearchedAt()).isEqualTo(searchedAt);
+        assertThat(java.getLastQuery()).isEqualTo("JAVA");
+        assertThat(spring.getSearchCount()).isEqualTo(3);
+        assertThat(spring.getCreatedAt()).isEqualTo(searchedAt);
+    }
+
+    @Test
+    @DisplayName("저장 전에 지운 검색어는 새로 만든다")
+    void flushesPendingChangesFirst() {
+        // given
+        SearchLog java = entityManager.persistAndFlush(SearchLog.of("java"));
+        searchLogRepository.delete(java);
+
+        // when
+        searchLogRepository.addSearchCount(new SearchCount("java", "java", 1), LocalDateTime.now());
+        entityManager.clear();
+
+        // then
+        assertThat(searchLogRepository.findByKeyword("java"))
+                .hasValueSatisfying(log -> assertThat(log.getSearchCount()).isEqualTo(1));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("같은 검색어를 동시에 더해도 횟수를 잃지 않는다")
+    void addsConcurrentlyWithoutLostUpdates() throws Exception {
+        // given
+        searchLogRepository.save(SearchLog.of("java"));
+        int threads = 8;
+        int additionsPerThread = 50;
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < additionsPerThread; j++) {
+                        searchLogRepository.addSearchCount(new SearchCount("java", "java", 1), LocalDateTime.now());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // then
+        try {
+            assertThat(searchLogRepository.findByKeyword("java"))
+                    .hasValueSatisfying(log -> assertThat(log.getSearchCount())
+                            .isEqualTo(1 + threads * additionsPerThread));
+        } finally {
+            searchLogRepository.deleteAll();
+        }
+    }
+}
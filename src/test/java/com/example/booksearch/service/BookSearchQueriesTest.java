@@ -0,0 +1,73 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.config.SearchBackend;
+import com.example.booksearch.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BookSearchQueries 단위 테스트")
+class BookSearchQueriesTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Test
+    @DisplayName("database 백엔드는 기존 JPQL 쿼리를 사용한다")
+    void databaseBackendUsesJpqlQueries() {
+        BookSearchQueries queries = new BookSearchQueries(bookRepository, SearchBackend.DATABASE);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        queries.findContaining("java", pageable);
+
+        verify(bookRepository).findByTitleContainingOrAuthorContaining("java", "java", pageable);
+        verify(bookRepository, never()).searchContaining(any(), any());
+    }
+
+    @Test
+    @DisplayName("pg-trgm 백엔드는 이스케이프된 검색어로 네이티브 쿼리를 사용한다")
+    void trigramBackendUsesNativeQueriesWithEscapedTerms() {
+        BookSearchQueries queries = new BookSearchQueries(bookRepository, SearchBackend.PG_TRGM);
+
+        queries.findExcluding("100%_\\", PageRequest.of(0, 10));
+
+        verify(bookRepository).searchExcluding(eq("100\\%\\_\\\\"), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("pg-trgm 백엔드는 정렬 속성을 컬럼명으로 바꾼다")
+    void trigramBackendTranslatesSortProperties() {
+        BookSearchQueries queries = new BookSearchQueries(bookRepository, SearchBackend.PG_TRGM);
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+
+        queries.findContaining("java", PageRequest.of(1, 5, Sort.by(Sort.Direction.DESC, "publicationDate")));
+
+        verify(bookRepository).searchContaining(eq("java"), captor.capture());
+        assertThat(captor.getValue().getPageNumber()).isEqualTo(1);
+        assertThat(captor.getValue().getSort().getOrderFor("publication_date").getDirection())
+                .isEqualTo(Sort.Direction.DESC);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 정렬 속성은 거부한다")
+    void trigramBackendRejectsUnknownSortProperty() {
+        BookSearchQueries queries = new BookSearchQueries(bookRepository, SearchBackend.PG_TRGM);
+
+        assertThatThrownBy(() -> queries.findContaining("java", PageRequest.of(0, 10, Sort.by("price"))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.config.SearchBackend;
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.domain.SearchLog;
+import com.example.booksearch.repository.SearchLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("캐시 예열 테스트")
+class CacheWarmerTest {
+
+    private final SearchLogRepository searchLogRepository = mock(SearchLogRepository.class);
+    private final SearchService searchService = mock(SearchService.class);
+    private final SearchCacheKeyGenerator cacheKeyGenerator =
+            new SearchCacheKeyGenerator(new QueryParser(), SearchBackend.DATABASE);
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("searchResults");
+    private final Cache searchResults = cacheManager.getCache("searchResults");
+
+    @BeforeEach
+    void setUp() {
+        when(searchLogRepository.findTopSearchKeywords(any()))
+                .thenReturn(List.of(new SearchLog("java"), new SearchLog("spring")));
+        when(searchService.searchBooksUncached(anyString(), any()))
+                .thenAnswer(invocation -> new PageImpl<Book>(List.of(), invocation.getArgument(1), 0));
+    }
+
+    @Test
+    @DisplayName("인기 검색어의 앞쪽 페이지를 검색 API 기본 정렬로 채운다")
+    void warmsFirstPagesOfTopKeywords() {
+        int warmed = warmer(2, 30).warmUp();
+
+        assertThat(warmed).isEqualTo(4);
+        assertThat(searchResults.get(keyOf("java", 0))).isNotNull();
+        assertThat(searchResults.get(keyOf("spring", 1))).isNotNull();
+        assertThat(searchResults.get(keyOf("java", 2))).isNull();
+    }
+
+    @Test
+    @DisplayName("대소문자를 구분하는 백엔드에서는 마지막 검색의 대소문자 그대로 채운다")
+    void warmsCaseSensitiveQueryOnIndexBackend() {
+        SearchCacheKeyGenerator indexKeyGenerator = new SearchCacheKeyGenerator(new QueryParser(), SearchBackend.INDEX);
+        when(searchLogRepository.findTopSearchKeywords(any()))
+                .thenReturn(List.of(new SearchLog("boot spring", "Boot Spring")));
+        CacheWarmer warmer = new CacheWarmer(searchLogRepository, searchService, indexKeyGenerator,
+                cacheManager, true, 50, 1, 20, 2, 30);
+
+        warmer.warmUp();
+
+        assertThat(searchResults.get(indexKeyGenerator.generate(searchService, null, "Spring Boot", pageOf(0))))
+                .isNotNull();
+        assertThat(searchResults.get(indexKeyGenerator.generate(searchService, null, "spring boot", pageOf(0))))
+                .isNull();
+        verify(searchService).searchBooksUncached("Boot Spring", pageOf(0));
+    }
+
+    @Test
+    @DisplayName("이미 캐시에 있는 항목은 다시 검색하지 않는다")
+    void skipsCachedEntries() {
+        Page<Book> cached = Page.empty();
+        searchResults.put(keyOf("java", 0), cached);
+
+        int warmed = warmer(1, 30).warmUp();
+
+        assertThat(warmed).isEqualTo(1);
+        assertThat(searchResults.get(keyOf("java", 0)).get()).isSameAs(cached);
+        verify(searchService, never()).searchBooksUncached("java", pageOf(0));
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나면 남은 검색을 취소하고 끝낸다")
+    void stopsAtTimeout() {
+        CountDownLatch release = new CountDownLatch(1);
+        when(searchService.searchBooksUncached(anyString(), any())).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return Page.empty();
+        });
+
+        long startTime = System.nanoTime();
+        int warmed = warmer(1, 1).warmUp();
+
+        assertThat(warmed).isZero();
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - startTime)).isLessThan(5);
+        release.countDown();
+    }
+
+    private CacheWarmer warmer(int pages, long timeoutSeconds) {
+        return new CacheWarmer(searchLogRepository, searchService, cacheKeyGenerator,
+                cacheManager, true, 50, pages, 20, 2, timeoutSeconds);
+    }
+
+    private Object keyOf(String keyword, int page) {
+        return cacheKeyGenerator.generate(searchService, null, keyword, pageOf(page));
+    }
+
+    private static Pageable pageOf(int page) {
+        return PageRequest.of(page, 20, Sort.by(RelevanceSort.PROPERTY));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.booksearch.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CanonicalQuery 테스트")
+class CanonicalQueryTest {
+
+    private final QueryParser queryParser = new QueryParser();
+
+    @Test
+    @DisplayName("순서, 공백, 구분자만 다른 검색어는 같은 정규형이 된다")
+    void equivalentQueriesShareCanonicalForm() {
+        assertThat(canonical("Java|Spring", false)).isEqualTo("Java Spring");
+        assertThat(canonical(" java | spring ", false)).isEqualTo("java spring");
+        assertThat(canonical("spring|java", false)).isEqualTo("java spring");
+        assertThat(canonical("-advanced java -beginner", false)).isEqualTo("java -advanced -beginner");
+    }
+
+    @Test
+    @DisplayName("foldCase 이면 소문자로 접고 중복을 없앤다")
+    void foldsCase() {
+        assertThat(canonical("Java|Spring", true)).isEqualTo("java spring");
+        assertThat(canonical("Spring Boot|spring boot", true)).isEqualTo("\"spring boot\"");
+        assertThat(canonical("Spring Boot|spring boot", false)).isEqualTo("Spring Boot | spring boot");
+    }
+
+    @Test
+    @DisplayName("검색식은 AND/OR 항을 정렬하고 오타 허용 표시를 유지한다")
+    void canonicalizesExpressions() {
+        String expected = "(java OR kotlin) AND NOT \"for beginners\" AND spring";
+
+        assertThat(canonical("(java | kotlin) AND spring -\"for beginners\"", false)).isEqualTo(expected);
+        assertThat(canonical("spring AND (kotlin OR java) -\"for beginners\"", false)).isEqualTo(expected);
+        assertThat(canonical("Efective~", true)).isEqualTo("efective~2");
+    }
+
+    @Test
+    @DisplayName("정규형을 다시 파싱하면 같은 정규형이 된다")
+    void canonicalFormIsStable() {
+        for (String query : new String[]{"Spring Boot|java", "(java | kotlin) AND spring -\"for beginners\"", "ㅍㅇㅆ -x"}) {
+            String canonical = canonical(query, false);
+            assertThat(canonical(canonical, false)).isEqualTo(canonical);
+        }
+    }
+
+    private String canonical(String query, boolean foldCase) {
+        return CanonicalQuery.of(queryParser.parse(query), foldCase);
+    }
+}
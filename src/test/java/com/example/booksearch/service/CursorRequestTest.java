@@ -0,0 +1,90 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.exception.InvalidParameterException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CursorRequest 단위 테스트")
+class CursorRequestTest {
+
+    @Test
+    @DisplayName("빈 커서는 요청한 정렬로 첫 조각을 만든다")
+    void firstSliceUsesRequestedSort() {
+        CursorRequest request = CursorRequest.of("", PageRequest.of(3, 10, Sort.by(Sort.Direction.DESC, "title")));
+
+        assertThat(request.isFirst()).isTrue();
+        assertThat(request.key()).isEqualTo(CursorRequest.Key.TITLE);
+        assertThat(request.direction()).isEqualTo(Sort.Direction.DESC);
+        assertThat(request.size()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("관련도 정렬은 ID 오름차순으로 대신한다")
+    void relevanceFallsBackToId() {
+        CursorRequest request = CursorRequest.of(null, PageRequest.of(0, 5, Sort.by(RelevanceSort.PROPERTY)));
+
+        assertThat(request.key()).isEqualTo(CursorRequest.Key.ID);
+        assertThat(request.isAscending()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다음 커서는 마지막 도서의 정렬 키와 ID 를 담는다")
+    void cursorRoundTrip() {
+        CursorRequest first = CursorRequest.of("", PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "publicationDate")));
+        Book book = book(42L, "Clean: Code", LocalDate.of(2013, 12, 24));
+
+        CursorRequest next = CursorRequest.of(first.cursorAfter(book), PageRequest.of(0, 2));
+
+        assertThat(next.key()).isEqualTo(CursorRequest.Key.PUBLICATION_DATE);
+        assertThat(next.direction()).isEqualTo(Sort.Direction.DESC);
+        assertThat(next.afterValue()).isEqualTo("2013-12-24");
+        assertThat(next.afterId()).isEqualTo(42L);
+    }
+
+    @Test
+    @DisplayName("출간일이 없는 도서 뒤의 커서는 값 없이 ID 만 담는다")
+    void cursorWithoutPublicationDate() {
+        CursorRequest first = CursorRequest.of("", PageRequest.of(0, 2, Sort.by("publicationDate")));
+
+        CursorRequest next = CursorRequest.of(first.cursorAfter(book(7L, "Title", null)), PageRequest.of(0, 2));
+
+        assertThat(next.afterValue()).isNull();
+        assertThat(next.afterId()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("커서로 정렬할 수 없는 속성은 거부한다")
+    void rejectsUnsupportedSort() {
+        assertThatThrownBy(() -> CursorRequest.of("", PageRequest.of(0, 5, Sort.by("author"))))
+                .isInstanceOf(InvalidParameterException.class);
+        assertThatThrownBy(() -> CursorRequest.of("", PageRequest.of(0, 5, Sort.by("title", "author"))))
+                .isInstanceOf(InvalidParameterException.class);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 거부한다")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> CursorRequest.of("not-a-cursor", PageRequest.of(0, 5)))
+                .isInstanceOf(InvalidParameterException.class);
+    }
+
+    private Book book(Long id, String title, LocalDate publicationDate) {
+        Book book = Book.builder()
+                .isbn("9788966262281")
+                .title(title)
+                .author("저자")
+                .publicationDate(publicationDate)
+                .build();
+        ReflectionTestUtils.setField(book, "id", id);
+        return book;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.config.SearchBackend;
+import com.example.booksearch.repository.BookRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("전문 검색 전략 테스트")
+class FullTextSearchStrategyTest {
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Test
+    @DisplayName("포함어는 OR, 제외어는 NOT 으로 tsquery 를 만든다")
+    void buildsTsQuery() {
+        SearchQuery searchQuery = new SearchQuery(List.of("java", "python"), List.of("beginner", "basic"));
+
+        assertThat(FullTextSearchStrategy.toTsQuery(searchQuery))
+                .isEqualTo("('java':* | 'python':*) & !'beginner':* & !'basic':*");
+    }
+
+    @Test
+    @DisplayName("제외어만 있으면 NOT 조건만 만든다")
+    void buildsExcludeOnlyTsQuery() {
+        SearchQuery searchQuery = new SearchQuery(Collections.emptyList(), List.of("beginner"));
+
+        assertThat(FullTextSearchStrategy.toTsQuery(searchQuery)).isEqualTo("!'beginner':*");
+    }
+
+    @Test
+    @DisplayName("검색어의 따옴표와 역슬래시는 이스케이프한다")
+    void escapesQuotedLexeme() {
+        SearchQuery searchQuery = new SearchQuery(List.of("o'reilly\\"), Collections.emptyList());
+
+        assertThat(FullTextSearchStrategy.toTsQuery(searchQuery)).isEqualTo("'o''reilly\\\\':*");
+    }
+
+    @Test
+    @DisplayName("pg-fts 백엔드가 아니면 처리하지 않는다")
+    void disabledUnlessFullTextBackend() {
+        BookSearchQueries queries = new BookSearchQueries(bookRepository, SearchBackend.DATABASE);
+        FullTextSearchStrategy strategy = new FullTextSearchStrategy(queries, SearchBackend.DATABASE);
+
+        assertThat(strategy.canHandle(new SearchQuery(List.of("java"), Collections.emptyList()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("정렬 지정이 없으면 ts_rank 순 쿼리를, 있으면 컬럼 정렬 쿼리를 사용한다")
+    void usesRankedQueryOnlyWhenUnsorted() {
+        BookSearchQueries queries = new BookSearchQueries(bookRepository, SearchBackend.PG_FTS);
+        FullTextSearchStrategy strategy = new FullTextSearchStrategy(queries, SearchBackend.PG_FTS);
+        SearchQuery searchQuery = new SearchQuery(List.of("java"), Collections.emptyList());
+
+        strategy.search(searchQuery, PageRequest.of(0, 10));
+        strategy.search(searchQuery, PageRequest.of(0, 10, Sort.by("title")));
+
+        verify(bookRepository).searchFullTextRanked(eq("'java':*"), any(Pageable.class));
+        verify(bookRepository).searchFullText(eq("'java':*"), any(Pageable.class));
+        verify(bookRepository, never()).searchContaining(any(), any());
+    }
+}
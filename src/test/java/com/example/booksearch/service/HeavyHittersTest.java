@@ -0,0 +1,85 @@
+package com.example.booksearch.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("인기 검색어 집계 테스트")
+class HeavyHittersTest {
+
+    @Test
+    @DisplayName("감시 키 수보다 종류가 적으면 정확히 세고 횟수가 많은 순으로 돌려준다")
+    void countsExactlyWithinCapacity() {
+        HeavyHitters hitters = new HeavyHitters(10, Duration.ZERO);
+        record(hitters, "java", 3);
+        record(hitters, "spring", 5);
+        record(hitters, "kotlin", 1);
+
+        assertThat(hitters.top(2)).extracting(HeavyHitters.Hitter::key).containsExactly("spring", "java");
+        assertThat(hitters.top(10)).extracting(HeavyHitters.Hitter::count).containsExactly(5L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("한두 번 나온 드문 검색어가 많아도 인기 검색어는 밀려나지 않는다")
+    void keepsHeavyHittersUnderLongTail() {
+        HeavyHitters hitters = new HeavyHitters(20, Duration.ZERO);
+        for (int round = 0; round < 100; round++) {
+            hitters.record("java");
+            hitters.record("spring");
+            hitters.record("rare-" + round);
+            hitters.record("rare-" + round + "-again");
+        }
+
+        assertThat(hitters.top(2)).extracting(HeavyHitters.Hitter::key).containsExactly("java", "spring");
+        assertThat(hitters.top(2)).extracting(HeavyHitters.Hitter::count).containsExactly(100L, 100L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 함께 세어도 횟수를 잃지 않는다")
+    void countsConcurrentRecords() throws Exception {
+        HeavyHitters hitters = new HeavyHitters(100, Duration.ZERO);
+        int threads = 8;
+        int recordsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> record(hitters, "java", recordsPerThread)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(hitters.top(1).get(0).count()).isEqualTo((long) threads * recordsPerThread);
+    }
+
+    @Test
+    @DisplayName("원본 집계로 맞추면 이전 횟수를 버리고 주어진 횟수부터 센다")
+    void resetReplacesCounts() {
+        HeavyHitters hitters = new HeavyHitters(10, Duration.ZERO);
+        record(hitters, "python", 7);
+
+        hitters.reset(List.of(new HeavyHitters.Hitter("java", 42, 1L), new HeavyHitters.Hitter("spring", 10, 2L)));
+        hitters.record("spring");
+
+        assertThat(hitters.top(10)).extracting(HeavyHitters.Hitter::key).containsExactly("java", "spring");
+        assertThat(hitters.top(10)).extracting(HeavyHitters.Hitter::count).containsExactly(42L, 11L);
+    }
+
+    private static void record(HeavyHitters hitters, String key, int times) {
+        for (int i = 0; i < times; i++) {
+            hitters.record(key);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MatchingIdCache 단위 테스트")
+class MatchingIdCacheTest {
+
+    @Mock
+    private BookSearchQueries bookSearchQueries;
+
+    private MatchingIdCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MatchingIdCache(bookSearchQueries, 1000, 10, 600);
+    }
+
+    @Test
+    @DisplayName("ID 목록은 한 번만 계산하고 페이지마다 구간을 잘라 기본키로 조회한다")
+    void computesIdListOnceAndSlicesPages() {
+        AtomicInteger loads = new AtomicInteger();
+        IntFunction<long[]> loader = limit -> {
+            loads.incrementAndGet();
+            return new long[]{5, 3, 9, 1, 7};
+        };
+        when(bookSearchQueries.findAllByIdInOrder(anyList())).thenReturn(List.of());
+
+        Page<Book> first = cache.findPage("key", Set.of(), loader, PageRequest.of(0, 2));
+        Page<Book> last = cache.findPage("key", Set.of(), loader, PageRequest.of(2, 2));
+
+        assertThat(loads).hasValue(1);
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(last.getTotalElements()).isEqualTo(5);
+        verify(bookSearchQueries).findAllByIdInOrder(List.of(5L, 3L));
+        verify(bookSearchQueries).findAllByIdInOrder(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("결과가 상한을 넘으면 null 을 돌려주고 다시 계산하지 않는다")
+    void tooManyIdsFallsBack() {
+        AtomicInteger loads = new AtomicInteger();
+        IntFunction<long[]> loader = limit -> {
+            loads.incrementAndGet();
+            assertThat(limit).isEqualTo(10);
+            return null;
+        };
+
+        assertThat(cache.findPage("key", Set.of(), loader, PageRequest.of(0, 2))).isNull();
+        assertThat(cache.findPage("key", Set.of(), loader, PageRequest.of(1, 2))).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("검색어에 의존하지 않는 ID 목록은 어떤 변경에도 다시 계산한다")
+    void bookChangeInvalidates() {
+        AtomicInteger loads = new AtomicInteger();
+        IntFunction<long[]> loader = limit -> {
+            loads.incrementAndGet();
+            return new long[0];
+        };
+
+        cache.findPage("key", Set.of(), loader, PageRequest.of(0, 2));
+        cache.invalidate("kotlin"::equals);
+        cache.findPage("key", Set.of(), loader, PageRequest.of(0, 2));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("바뀌지 않은 검색어의 ID 목록은 남긴다")
+    void unrelatedChangeKeepsTermDependentList() {
+        AtomicInteger loads = new AtomicInteger();
+        IntFunction<long[]> loader = limit -> {
+            loads.incrementAndGet();
+            return new long[0];
+        };
+
+        cache.findPage("java", Set.of("java"), loader, PageRequest.of(0, 2));
+        cache.invalidate("kotlin"::equals);
+        cache.findPage("java", Set.of("java"), loader, PageRequest.of(0, 2));
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate("java"::equals);
+        cache.findPage("java", Set.of("java"), loader, PageRequest.of(0, 2));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("캐시 키는 검색어에 연산자 문자가 있어도 다른 검색식과 겹치지 않는다")
+    void keysAreUnambiguous() {
+        QueryParser parser = new QueryParser();
+
+        String quoted = MatchingIdCache.keyOf("index", parser.parse("\"a OR b\"").getExpression(), Sort.unsorted());
+        String or = MatchingIdCache.keyOf("index", parser.parse("a OR b").getExpression(), Sort.unsorted());
+        String sorted = MatchingIdCache.keyOf("index", parser.parse("a OR b").getExpression(), Sort.by("title"));
+
+        assertThat(quoted).isNotEqualTo(or);
+        assertThat(sorted).isNotEqualTo(or);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.query.AndNode;
+import com.example.booksearch.query.NotNode;
+import com.example.booksearch.query.OrNode;
+import com.example.booksearch.query.TermNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PlannerRowEstimator 단위 테스트")
+class PlannerRowEstimatorTest {
+
+    @Test
+    @DisplayName("검색어는 SQL 에 넣지 않고 이스케이프한 LIKE 패턴을 자리표시자 순서대로 넘긴다")
+    void bindsPatternsInsteadOfInliningSearchText() {
+        List<Object> patterns = new ArrayList<>();
+
+        String condition = PlannerRowEstimator.toCondition(new AndNode(List.of(
+                new OrNode(List.of(TermNode.of("it's"), TermNode.of("100%"))),
+                new NotNode(TermNode.of("a_b'; DROP TABLE books; --")))), patterns);
+
+        assertThat(condition).isEqualTo("(("
+                + "(b.title LIKE ? ESCAPE '\\' OR b.author LIKE ? ESCAPE '\\') OR "
+                + "(b.title LIKE ? ESCAPE '\\' OR b.author LIKE ? ESCAPE '\\')) AND "
+                + "NOT (b.title LIKE ? ESCAPE '\\' OR b.author LIKE ? ESCAPE '\\'))");
+        assertThat(patterns).containsExactly(
+                "%it's%", "%it's%",
+                "%100\\%%", "%100\\%%",
+                "%a\\_b'; DROP TABLE books; --%", "%a\\_b'; DROP TABLE books; --%");
+    }
+
+    @Test
+    @DisplayName("PostgreSQL 이 아니면 EXPLAIN 없이 빈 값을 돌려준다")
+    void unavailableWithoutPostgres() {
+        assertThat(PlannerRowEstimator.unavailable().estimate(TermNode.of("java"))).isEmpty();
+    }
+}
@@ -100,21 +100,38 @@ class QueryParserTest {
     }
 
     @Test
-    @DisplayName("최대 2개 키워드 제한 검증 - 3개 OR 키워드")
-    void validateMaxTwoKeywordsLimit() {
-        // when & then
-        assertThatThrownBy(() -> queryParser.parse("java|python|javascript"))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("최대 2개의 키워드만 지원합니다.");
+    @DisplayName("3개 이상의 OR 키워드도 파싱한다")
+    void parseMoreThanTwoOrKeywords() {
+        // when
+        SearchQuery result = queryParser.parse("java|python|javascript");
+
+        // then
+        assertThat(result.getIncludeTerms()).containsExactly("java", "python", "javascript");
+        assertThat(result.isFlat()).isTrue();
     }
 
     @Test
-    @DisplayName("최대 2개 키워드 제한 검증 - 3개 포함 키워드")
-    void validateMaxTwoIncludeTermsLimit() {
-        // when & then
-        assertThatThrownBy(() -> queryParser.parse("java spring python"))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("최대 2개의 키워드만 지원합니다.");
+    @DisplayName("3개 이상의 포함 키워드도 파싱한다")
+    void parseMoreThanTwoIncludeTerms() {
+        // when
+        SearchQuery result = queryParser.parse("java spring python");
+
+        // then
+        assertThat(result.getIncludeTerms()).containsExactly("java", "spring", "python");
+    }
+
+    @Test
+    @DisplayName("괄호나 AND 를 쓰면 검색식으로 파싱한다")
+    void parseBooleanExpression() {
+        // when
+        SearchQuery result = queryParser.parse("(java | kotlin) AND spring -Efective~");
+
+        // then
+        assertThat(result.isFlat()).isFalse();
+        assertThat(result.getExpression()).hasToString("((java OR kotlin) AND spring AND NOT Efective~2)");
+        assertThat(result.getIncludeTerms()).containsExactly("java", "kotlin", "spring");
+        assertThat(result.getExcludeTerms()).containsExactly("Efective");
+        assertThat(result.getMaxEdits("Efective")).isEqualTo(2);
     }
 
     @Test
@@ -171,4 +188,110 @@ class QueryParserTest {
         assertThat(result.getIncludeTerms()).isEmpty();
         assertThat(result.getExcludeTerms()).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("초성으로만 이루어진 검색어를 구분한다")
+    void parseChoseongTerms() {
+        // when
+        SearchQuery result = queryParser.parse("ㅍㅇㅆ -ㅊㄱ");
+
+        // then
+        assertThat(result.hasChoseongTerms()).isTrue();
+        assertThat(result.isChoseongTerm("ㅍㅇㅆ")).isTrue();
+        assertThat(result.isChoseongTerm("ㅊㄱ")).isTrue();
+    }
+
+    @Test
+    @DisplayName("완성형 글자가 섞인 검색어는 초성 검색어가 아니다")
+    void parseMixedHangulIsNotChoseong() {
+        // when
+        SearchQuery result = queryParser.parse("파ㅇㅆ");
+
+        // then
+        assertThat(result.hasChoseongTerms()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오타 허용 표시(~)는 검색어 길이에 따라 편집 거리를 정한다")
+    void parseFuzzyTerms() {
+        // when
+        SearchQuery result = queryParser.parse("Efective~ Jav~");
+
+        // then
+        assertThat(result.getIncludeTerms()).containsExactly("Efective", "Jav");
+        assertThat(result.getMaxEdits("Efective")).isEqualTo(2);
+        assertThat(result.getMaxEdits("Jav")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오타 허용 편집 거리를 직접 지정할 수 있다")
+    void parseFuzzyTermWithExplicitEdits() {
+        // when
+        SearchQuery result = queryParser.parse("Efective~1 -beginer~");
+
+        // then
+        assertThat(result.getMaxEdits("Efective")).isEqualTo(1);
+        assertThat(result.getExcludeTerms()).containsExactly("beginer");
+        assertThat(result.isFuzzyTerm("beginer")).isTrue();
+    }
+
+    @Test
+    @DisplayName("너무 짧은 검색어는 오타 허용 없이 검색한다")
+    void parseShortFuzzyTermAsPlainTerm() {
+        // when
+        SearchQuery result = queryParser.parse("C~");
+
+        // then
+        assertThat(result.getIncludeTerms()).containsExactly("C");
+        assertThat(result.hasFuzzyTerms()).isFalse();
+    }
+
+    @Test
+    @DisplayName("제외어를 떼어 낸 나머지 글자로 포함어를 만든다")
+    void parseIncludeTermsAroundExcludeTerms() {
+        // when
+        SearchQuery result = queryParser.parse("x-a--y spring");
+
+        // then
+        assertThat(result.getIncludeTerms()).containsExactly("x-", "spring");
+        assertThat(result.getExcludeTerms()).containsExactly("a", "y");
+    }
+
+    @Test
+    @DisplayName("OR 로 나뉜 포함어 안의 공백은 그대로 둔다")
+    void parseOrTermsWithSpaces() {
+        // when
+        SearchQuery result = queryParser.parse("spring boot | kotlin");
+
+        // then
+        assertThat(result.getIncludeTerms()).containsExactly("spring boot", "kotlin");
+    }
+
+    @Test
+    @DisplayName("같은 검색어는 캐시된 파싱 결과를 돌려준다")
+    void parseSameQueryFromCache() {
+        // when
+        SearchQuery first = queryParser.parse("java | spring -tutorial");
+        SearchQuery second = queryParser.parse(new String("java | spring -tutorial"));
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> second.getIncludeTerms().add("kotlin"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("캐시를 끄면 매번 새로 파싱한다")
+    void parseWithoutCache() {
+        // given
+        QueryParser uncachedParser = new QueryParser(3, 6, 0);
+
+        // when
+        SearchQuery first = uncachedParser.parse("java");
+        SearchQuery second = uncachedParser.parse("java");
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getIncludeTerms()).isEqualTo(first.getIncludeTerms());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.repository.BookRepository;
+import com.example.booksearch.repository.BookSpecifications;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ResultCounter 단위 테스트")
+class ResultCounterTest {
+
+    private final Specification<Book> specification = BookSpecifications.all();
+
+    @Mock
+    private BookRepository bookRepository;
+
+    @Mock
+    private PlannerRowEstimator rowEstimator;
+
+    @Test
+    @DisplayName("마지막 페이지면 따로 세지 않고 정확한 개수를 돌려준다")
+    void lastPageIsExactWithoutCounting() {
+        ResultCounter counter = new ResultCounter(bookRepository, rowEstimator, 100);
+
+        ResultCount count = counter.count(CountMode.CAPPED, specification, null, slice(2, 3, 10, false));
+
+        assertThat(count).isEqualTo(ResultCount.exact(23));
+        verify(bookRepository, never()).countUpTo(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 상한과 함께 CAPPED 로 보고한다")
+    void cappedWhenOverCap() {
+        ResultCounter counter = new ResultCounter(bookRepository, rowEstimator, 100);
+        when(bookRepository.countUpTo(specification, 101)).thenReturn(101L);
+
+        ResultCount count = counter.count(CountMode.CAPPED, specification, null, slice(0, 10, 10, true));
+
+        assertThat(count).isEqualTo(ResultCount.capped(100));
+        assertThat(count.display()).isEqualTo("100+");
+    }
+
+    @Test
+    @DisplayName("실행 계획 예상 값이 있으면 ESTIMATED, 없으면 상한 집계로 대신한다")
+    void estimatedFallsBackToCapped() {
+        ResultCounter counter = new ResultCounter(bookRepository, rowEstimator, 100);
+        when(rowEstimator.estimate(null)).thenReturn(OptionalLong.of(1234), OptionalLong.empty());
+        when(bookRepository.countUpTo(specification, 101)).thenReturn(42L);
+
+        ResultCount estimated = counter.count(CountMode.ESTIMATED, specification, null, slice(0, 10, 10, true));
+        ResultCount fallback = counter.count(CountMode.ESTIMATED, specification, null, slice(0, 10, 10, true));
+
+        assertThat(estimated.display()).isEqualTo("~1234");
+        assertThat(fallback).isEqualTo(ResultCount.exact(42));
+    }
+
+    private static Slice<Book> slice(int page, int elements, int size, boolean hasNext) {
+        List<Book> content = Collections.nCopies(elements, mock(Book.class));
+        return new SliceImpl<>(content, PageRequest.of(page, size), hasNext);
+    }
+}
@@ -81,6 +81,21 @@ class SearchLogServiceTest {
         assertThat(savedLog.get().getSearchCount()).isEqualTo(3);
     }
 
+    @Test
+    @DisplayName("같은 검색이 되는 검색어는 정규형 하나로 집계")
+    void testCanonicalKeywordAggregation() {
+        // When
+        searchLogService.logSearch("Java|Spring");
+        searchLogService.logSearch(" java | spring ");
+        searchLogService.logSearch("spring java");
+
+        // Then
+        Optional<SearchLog> savedLog = searchLogRepository.findByKeyword("java spring");
+        assertThat(savedLog).isPresent();
+        assertThat(savedLog.get().getSearchCount()).isEqualTo(3);
+        assertThat(searchLogRepository.findAll()).hasSize(1);
+    }
+
     @Test
     @DisplayName("빈 문자열 및 null 키워드 처리 테스트")
     void testEmptyAndNullKeywords() {
@@ -0,0 +1,76 @@
+package com.example.booksearch.service;
+
+import com.example.booksearch.repository.SearchLogRepository;
+import com.example.booksearch.repository.SearchLogRepositoryCustom.SearchCount;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("검색어 기록 쓰기 지연 테스트")
+class SearchLogWriteBehindTest {
+
+    private final SearchLogWriter searchLogWriter = mock(SearchLogWriter.class);
+
+    @Test
+    @DisplayName("검색할 때는 저장하지 않고 모아 두었다가 검색어별 횟수로 합쳐 저장한다")
+    void flushesCoalescedSearches() {
+        SearchLogService searchLogService = searchLogService(100);
+
+        searchLogService.logSearch("Java");
+        searchLogService.logSearch("spring boot");
+        searchLogService.logSearch(" java ");
+        verify(searchLogWriter, never()).write(anyList());
+
+        searchLogService.flushSearchLogs();
+
+        verify(searchLogWriter).write(List.of(
+                new SearchCount("java", "java", 2),
+                new SearchCount("boot spring", "boot spring", 1)));
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 가장 오래된 검색어부터 버린다")
+    void dropsOldestWhenFull() {
+        SearchLogBuffer buffer = new SearchLogBuffer(3);
+
+        for (String query : new String[]{"python", "java", "Java", "spring", "JAVA"}) {
+            buffer.offer(query.toLowerCase(), query);
+        }
+
+        assertThat(buffer.takeDropped()).isEqualTo(2);
+        assertThat(buffer.takeDropped()).isZero();
+        assertThat(buffer.drain()).containsExactly(
+                new SearchCount("java", "JAVA", 2),
+                new SearchCount("spring", "spring", 1));
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("저장에 실패해도 검색 요청에는 영향이 없고 다음 기록은 계속 저장한다")
+    void keepsWritingAfterFailure() {
+        SearchLogService searchLogService = searchLogService(100);
+        doThrow(new DataAccessResourceFailureException("connection refused"))
+                .when(searchLogWriter).write(List.of(new SearchCount("java", "java", 1)));
+
+        searchLogService.logSearch("java");
+        searchLogService.flushSearchLogs();
+        searchLogService.logSearch("spring");
+        searchLogService.flushSearchLogs();
+
+        verify(searchLogWriter).write(List.of(new SearchCount("spring", "spring", 1)));
+    }
+
+    private SearchLogService searchLogService(int queueCapacity) {
+        return new SearchLogService(mock(SearchLogRepository.class), searchLogWriter, new QueryParser(),
+                false, 1000, 1000, true, queueCapacity);
+    }
+}
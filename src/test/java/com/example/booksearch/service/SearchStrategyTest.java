@@ -12,6 +12,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Arrays;
@@ -21,6 +22,8 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -120,6 +123,58 @@ class SearchStrategyTest {
         assertThat(result).isNotNull();
     }
 
+    @Test
+    @DisplayName("복합 검색 전략 테스트 - 제외어가 여러 개면 모두 적용")
+    void testComplexSearchStrategyMultipleExcludes() {
+        // Given
+        SearchQuery searchQuery = new SearchQuery(Arrays.asList("java"), Arrays.asList("beginner", "basic"));
+        Page<Book> mockResult = new PageImpl<>(Collections.emptyList());
+        when(bookRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(mockResult);
+
+        // When
+        Page<Book> result = searchStrategyManager.search(searchQuery, pageable);
+
+        // Then
+        assertThat(result).isNotNull();
+        verify(bookRepository, never()).findByIncludeTermAndExclude(anyString(), anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("검색식 전략 테스트 - 색인이 없으면 검색식 전체를 조건 하나로 조회")
+    void testBooleanSearchStrategy() {
+        // Given
+        SearchQuery searchQuery = new QueryParser().parse("(java | kotlin) AND spring -beginner");
+        Page<Book> mockResult = new PageImpl<>(Collections.emptyList());
+        when(bookRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(mockResult);
+
+        // When
+        SearchResult result = searchStrategyManager.searchWithMetadata(searchQuery, pageable);
+
+        // Then
+        assertThat(result.getStrategyUsed()).isEqualTo("BOOLEAN_SEARCH");
+        verify(bookRepository, never()).findByIncludeTermsOr(anyString(), anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("검색식 전략 테스트 - 포함어가 셋 이상이어도 검색")
+    void testBooleanSearchStrategyMoreThanTwoTerms() {
+        // Given
+        SearchQuery searchQuery = new SearchQuery(Arrays.asList("java", "spring", "python"), Collections.emptyList());
+        Page<Book> mockResult = new PageImpl<>(Collections.emptyList());
+        when(bookRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(mockResult);
+
+        // When
+        SearchResult result = searchStrategyManager.searchWithPlan(searchQuery, pageable);
+
+        // Then
+        assertThat(result.getStrategyUsed()).isEqualTo("BOOLEAN_SEARCH");
+        assertThat(result.getPlan().operator()).isEqualTo("DATABASE_SCAN");
+        assertThat(result.getPlan().actualRows()).isZero();
+    }
+
     @Test
     @DisplayName("빈 쿼리 검색 전략 테스트")
     void testEmptySearchStrategy() {
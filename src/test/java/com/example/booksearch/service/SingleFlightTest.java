@@ -0,0 +1,101 @@
+package com.example.booksearch.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 호출은 계산을 한 번만 하고 결과를 함께 받는다")
+    void coalescesConcurrentCalls() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = runConcurrently(() -> singleFlight.execute("java", () -> {
+            computations.incrementAndGet();
+            await(release);
+            return "result";
+        }), release);
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(computations).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("계산이 실패하면 기다리던 호출도 같은 예외를 받고, 다음 호출은 다시 계산한다")
+    void propagatesFailureToWaiters() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = runConcurrently(() -> singleFlight.execute("java", () -> {
+            await(release);
+            throw new IllegalStateException("검색 실패");
+        }), release);
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("검색 실패");
+        }
+        assertThat(singleFlight.execute("java", () -> "retried")).isEqualTo("retried");
+    }
+
+    @Test
+    @DisplayName("다른 키는 따로 계산한다")
+    void computesDifferentKeysSeparately() {
+        assertThat(singleFlight.execute("java", () -> "java")).isEqualTo("java");
+        assertThat(singleFlight.execute("spring", () -> "spring")).isEqualTo("spring");
+    }
+
+    /**
+     * 모든 호출이 시작되어 첫 계산이 진행 중인 동안 나머지가 같은 키로 들어오게 한 뒤 release 를 연다.
+     */
+    private List<Future<String>> runConcurrently(java.util.concurrent.Callable<String> call, CountDownLatch release)
+            throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        CountDownLatch started = new CountDownLatch(CALLERS);
+        List<Future<String>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(executor.submit(() -> {
+                    started.countDown();
+                    return call.call();
+                }));
+            }
+            started.await(5, TimeUnit.SECONDS);
+            // 시작한 호출이 execute 에 들어갈 시간을 준다
+            Thread.sleep(100);
+            release.countDown();
+            return results;
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
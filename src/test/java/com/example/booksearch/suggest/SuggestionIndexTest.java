@@ -0,0 +1,57 @@
+package com.example.booksearch.suggest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SuggestionIndex 단위 테스트")
+class SuggestionIndexTest {
+
+    @Test
+    @DisplayName("접두어로 시작하는 후보를 가중치 내림차순으로 limit 개만 돌려준다")
+    void returnsTopKByWeight() {
+        SuggestionIndex index = SuggestionIndex.builder()
+                .add("spring", 5)
+                .add("spring boot", 30)
+                .add("sprint", 5)
+                .add("spa", 100)
+                .add("java", 50)
+                .build();
+
+        List<Suggestion> suggestions = index.topK("spr", 2);
+
+        assertThat(suggestions).containsExactly(
+                new Suggestion("spring boot", 30),
+                new Suggestion("spring", 5));
+    }
+
+    @Test
+    @DisplayName("대소문자와 앞뒤 공백을 무시하고 같은 후보의 가중치를 합친다")
+    void mergesSameKeyIgnoringCase() {
+        SuggestionIndex index = SuggestionIndex.builder()
+                .add("Java", 3)
+                .add(" java ", 1)
+                .add("JavaScript", 2)
+                .build();
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.topK("JA", 10)).containsExactly(
+                new Suggestion("Java", 4),
+                new Suggestion("JavaScript", 2));
+    }
+
+    @Test
+    @DisplayName("일치하는 후보가 없거나 색인이 비어 있으면 빈 목록을 돌려준다")
+    void returnsEmptyWhenNothingMatches() {
+        SuggestionIndex index = SuggestionIndex.builder()
+                .add("스프링", 1)
+                .build();
+
+        assertThat(index.topK("자바", 10)).isEmpty();
+        assertThat(index.topK("스", 0)).isEmpty();
+        assertThat(SuggestionIndex.empty().topK("a", 10)).isEmpty();
+    }
+}
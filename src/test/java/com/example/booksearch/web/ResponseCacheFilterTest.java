@@ -0,0 +1,128 @@
+package com.example.booksearch.web;
+
+import com.example.booksearch.domain.Book;
+import com.example.booksearch.repository.BookRepository;
+import com.example.booksearch.repository.SearchLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("응답 캐시 필터 테스트")
+class ResponseCacheFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BookRepository bookRepository;
+
+    @Autowired
+    private SearchLogRepository searchLogRepository;
+
+    private Book cleanCode;
+
+    @BeforeEach
+    void setUp() {
+        bookRepository.deleteAll();
+        searchLogRepository.deleteAll();
+
+        cleanCode = bookRepository.save(Book.builder()
+                .isbn("9788966262281")
+                .title("Clean Code")
+                .author("로버트 C. 마틴")
+                .publicationDate(LocalDate.of(2013, 12, 24))
+                .build());
+        bookRepository.save(Book.builder()
+                .isbn("9788966262298")
+                .title("Effective Java")
+                .author("조슈아 블로크")
+                .publicationDate(LocalDate.of(2018, 11, 1))
+                .build());
+    }
+
+    @Test
+    @DisplayName("같은 요청에는 같은 본문과 ETag 를 돌려주고 If-None-Match 가 맞으면 304 로 답한다")
+    void servesCachedBytesWithEtag() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/books/" + cleanCode.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult second = mockMvc.perform(get("/api/books/" + cleanCode.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(jsonPath("$.title").value("Clean Code"))
+                .andReturn();
+        assertThat(second.getResponse().getContentAsByteArray())
+                .isEqualTo(first.getResponse().getContentAsByteArray());
+
+        mockMvc.perform(get("/api/books/" + cleanCode.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("파라미터 순서만 다른 요청은 같은 응답을 공유하고, 도서가 바뀌면 다시 만든다")
+    void invalidatesOnCatalogChange() throws Exception {
+        String etag = mockMvc.perform(get("/api/books").param("page", "0").param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/books?size=10&page=0"))
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+
+        bookRepository.deleteById(cleanCode.getId());
+        bookRepository.flush();
+
+        mockMvc.perform(get("/api/books").param("page", "0").param("size", "10")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("캐시된 검색 응답도 인기 검색어에 기록된다")
+    void cachedSearchIsLogged() throws Exception {
+        mockMvc.perform(get("/api/search/books").param("q", "Java"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/search/books").param("q", "Java"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Effective Java"));
+
+        assertThat(searchLogRepository.findByKeyword("java"))
+                .hasValueSatisfying(log -> assertThat(log.getSearchCount()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("메타데이터 검색과 오류 응답은 캐시하지 않는다")
+    void skipsUncacheableResponses() throws Exception {
+        mockMvc.perform(get("/api/search/books/detailed").param("q", "Java"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+
+        mockMvc.perform(get("/api/books/999999"))
+                .andExpect(status().isNotFound())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+}
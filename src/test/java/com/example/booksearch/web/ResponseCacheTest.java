@@ -0,0 +1,50 @@
+package com.example.booksearch.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ResponseCache 단위 테스트")
+class ResponseCacheTest {
+
+    private ResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResponseCache(1 << 20, 600);
+    }
+
+    @Test
+    @DisplayName("바뀐 검색어의 응답과 검색어에 의존하지 않는 응답만 지운다")
+    void evictsOnlyDependentResponses() {
+        cache.put("/api/search/books?q=java", Set.of("java"), cache.generation(), response("java"));
+        cache.put("/api/search/books?q=spring", Set.of("spring"), cache.generation(), response("spring"));
+        cache.put("/api/books?page=0", Set.of(), cache.generation(), response("books"));
+
+        cache.invalidate("java"::equals);
+
+        assertThat(cache.get("/api/search/books?q=java")).isNull();
+        assertThat(cache.get("/api/books?page=0")).isNull();
+        assertThat(cache.get("/api/search/books?q=spring")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("응답을 만드는 동안 도서가 바뀌면 넣지 않는다")
+    void skipsResponseStartedBeforeChange() {
+        long generation = cache.generation();
+
+        cache.invalidate("kotlin"::equals);
+        cache.put("/api/search/books?q=java", Set.of("java"), generation, response("java"));
+
+        assertThat(cache.get("/api/search/books?q=java")).isNull();
+    }
+
+    private static CachedResponse response(String body) {
+        return new CachedResponse(body.getBytes(StandardCharsets.UTF_8), "application/json", "\"" + body + "\"");
+    }
+}